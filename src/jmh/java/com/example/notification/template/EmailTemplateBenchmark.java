@@ -0,0 +1,62 @@
+package com.example.notification.template;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 메일 템플릿 렌더링 처리량/할당량
+ * - ./gradlew jmh 실행 후 gc.alloc.rate.norm 이 메일 1건당 할당 바이트
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class EmailTemplateBenchmark {
+
+    private EmailTemplate remittanceLimitTemplate;
+    private EmailTemplate qnaAnswerTemplate;
+    private Map<String, Object> remittanceLimitModel;
+    private Map<String, Object> qnaAnswerModel;
+
+    @Setup
+    public void setUp() throws IOException {
+        remittanceLimitTemplate = EmailTemplate.compile(EmailTemplates.REMITTANCE_LIMIT, EmailTemplates.load(EmailTemplates.REMITTANCE_LIMIT));
+        qnaAnswerTemplate = EmailTemplate.compile(EmailTemplates.QNA_ANSWER, EmailTemplates.load(EmailTemplates.QNA_ANSWER));
+
+        remittanceLimitModel = new HashMap<>();
+        remittanceLimitModel.put("userName", "홍길동");
+        remittanceLimitModel.put("statusText", "반려");
+        remittanceLimitModel.put("statusColor", "#ef4444");
+        remittanceLimitModel.put("limitTitle", "📊 요청하신 송금 한도");
+        remittanceLimitModel.put("limitSectionClass", "limit-section rejected");
+        remittanceLimitModel.put("dailyLimit", 5_000_000L);
+        remittanceLimitModel.put("monthlyLimit", 50_000_000L);
+        remittanceLimitModel.put("singleLimit", 1_000_000L);
+        remittanceLimitModel.put("rejectComment", "제출하신 소득 증빙 서류가 확인되지 않습니다.\n재직증명서 또는 <원천징수영수증>을 첨부해 다시 요청해 주세요.");
+
+        qnaAnswerModel = new HashMap<>();
+        qnaAnswerModel.put("userName", "홍길동");
+        qnaAnswerModel.put("qnaTitle", "해외 송금 한도 문의 & 처리 기간");
+        qnaAnswerModel.put("qnaContent", "월 한도를 늘리고 싶습니다.\r\n필요한 서류와 처리 기간이 궁금합니다.");
+        qnaAnswerModel.put("answerContent", "안녕하세요.\n한도 변경은 마이페이지 > 송금 한도에서 요청하실 수 있으며,\n영업일 기준 1~2일 내 처리됩니다.");
+    }
+
+    @Benchmark
+    public byte[] renderRemittanceLimit() {
+        return remittanceLimitTemplate.render(remittanceLimitModel);
+    }
+
+    @Benchmark
+    public byte[] renderQnaAnswer() {
+        return qnaAnswerTemplate.render(qnaAnswerModel);
+    }
+}
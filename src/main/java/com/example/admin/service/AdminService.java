@@ -6,6 +6,7 @@ import com.example.admin.dto.AdminResponse;
 import com.example.admin.dto.AdminSearchRequest;
 import com.example.admin.mapper.AdminMapper;
 import com.example.admin.repository.AdminRepository;
+import com.example.common.aop.SingleFlight;
 import com.example.context.SessionContext;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -32,6 +33,7 @@ public class AdminService {
         return adminMapper.searchAdmins(searchRequest);
     }
 
+    @SingleFlight
     public int getAdminCount(AdminSearchRequest searchRequest) {
         return adminMapper.getAdminCount(searchRequest);
     }
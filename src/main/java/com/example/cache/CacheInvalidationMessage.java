@@ -0,0 +1,18 @@
+package com.example.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 노드 간 L1 캐시 무효화 메시지
+ * - key가 null이면 캐시 전체 삭제
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheInvalidationMessage {
+    private String origin;
+    private String cacheName;
+    private String key;
+}
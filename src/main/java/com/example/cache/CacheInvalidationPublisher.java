@@ -0,0 +1,40 @@
+package com.example.cache;
+
+import java.util.UUID;
+
+import org.springframework.data.redis.core.RedisTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * L1 캐시 무효화 메시지 발행
+ * - 자신이 보낸 메시지는 origin으로 구분하여 무시
+ */
+@Slf4j
+public class CacheInvalidationPublisher {
+
+    private final String origin = UUID.randomUUID().toString();
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final String channel;
+
+    public CacheInvalidationPublisher(RedisTemplate<String, Object> redisTemplate, String channel) {
+        this.redisTemplate = redisTemplate;
+        this.channel = channel;
+    }
+
+    public String getOrigin() {
+        return origin;
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    public void publish(String cacheName, String key) {
+        try {
+            redisTemplate.convertAndSend(channel, new CacheInvalidationMessage(origin, cacheName, key));
+        } catch (Exception e) {
+            log.warn("캐시 무효화 메시지 발행 실패 - Cache: {}, Key: {}, Error: {}", cacheName, key, e.getMessage());
+        }
+    }
+}
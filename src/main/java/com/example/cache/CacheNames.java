@@ -0,0 +1,19 @@
+package com.example.cache;
+
+/**
+ * 캐시 이름 상수
+ * - TTL/최대 크기는 application.yml의 cache.two-level.caches.<이름> 에서 설정
+ */
+public final class CacheNames {
+
+    public static final String COUNTRY = "country";
+    public static final String COUNTRIES = "countries";
+    public static final String REMITTANCE_COUNTRIES = "remittance-countries";
+    public static final String BANK = "bank";
+    public static final String NOTICE_TOP5 = "notice-top5";
+    public static final String NOTICE = "notice";
+    public static final String DEFAULT_REMITTANCE_LIMIT = "default-remittance-limit";
+
+    private CacheNames() {
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.cache;
+
+import org.apache.ibatis.cache.Cache;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.springframework.stereotype.Component;
+
+import com.example.common.util.TransactionUtils;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * MyBatis 2차 캐시 명시적 무효화
+ * - JPA 등 MyBatis를 거치지 않는 쓰기나, 다른 mapper의 조인 결과에 영향을 주는 쓰기에서 사용
+ * - 트랜잭션 중이면 커밋 이후에 삭제 (커밋 전 재적재로 이전 값이 다시 캐시되는 것 방지)
+ */
+@Component
+@RequiredArgsConstructor
+public class MybatisCacheInvalidator {
+
+    private final SqlSessionFactory sqlSessionFactory;
+
+    public void invalidate(Class<?> mapperType) {
+        Cache cache = sqlSessionFactory.getConfiguration().getCache(mapperType.getName());
+        if (cache == null) {
+            return;
+        }
+        TransactionUtils.afterCommit(cache::clear);
+    }
+}
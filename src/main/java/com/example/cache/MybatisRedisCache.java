@@ -0,0 +1,238 @@
+package com.example.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.ibatis.cache.Cache;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * MyBatis 2차 캐시 (L1: 노드별 Caffeine, L2: Redis)
+ * - Mapper XML에서 <cache type="com.example.cache.MybatisRedisCache"/> 로 mapper 단위 활성화
+ * - Redis 키: mybatis:{namespace}:{statement ID + 파라미터(CacheKey) 해시}
+ * - namespace의 insert/update/delete 시 MyBatis가 clear() 호출
+ *   -> 해당 namespace의 Redis 키 삭제 + 다른 노드 L1 무효화(pub/sub)
+ * - L1에도 직렬화된 바이트를 저장하고 조회마다 역직렬화 (호출자 간에 같은 결과 객체를 공유하지 않음)
+ * - MyBatis가 리플렉션으로 생성하므로 Redis 자원은 MybatisRedisCacheInitializer가 static으로 주입
+ *   (주입 전이거나 Redis 장애 시에는 캐시하지 않고 DB 조회)
+ */
+@Slf4j
+public class MybatisRedisCache implements Cache {
+
+    public static final String INVALIDATION_CHANNEL = "mybatis:cache:invalidation";
+
+    private static final String KEY_PREFIX = "mybatis:";
+    private static final String INDEX_SUFFIX = ":keys";
+
+    // namespace -> 캐시 인스턴스 (다른 노드의 무효화 메시지 반영용)
+    private static final ConcurrentMap<String, MybatisRedisCache> INSTANCES = new ConcurrentHashMap<>();
+
+    private static volatile RedisTemplate<String, Object> redisTemplate;
+    private static volatile CacheInvalidationPublisher invalidationPublisher;
+
+    private final String id;
+    private long ttlSeconds = 600;
+    private long l1MaxSize = 500;
+    private volatile com.github.benmanes.caffeine.cache.Cache<Object, byte[]> l1;
+
+    public MybatisRedisCache(String id) {
+        if (id == null) {
+            throw new IllegalArgumentException("Cache instances require an ID");
+        }
+        this.id = id;
+        INSTANCES.put(id, this);
+    }
+
+    static void initialize(RedisTemplate<String, Object> template, CacheInvalidationPublisher publisher) {
+        redisTemplate = template;
+        invalidationPublisher = publisher;
+    }
+
+    /**
+     * 다른 노드에서 발행한 namespace 무효화 메시지를 처리하는 리스너
+     */
+    static MessageListener invalidationListener(RedisSerializer<Object> serializer, String origin) {
+        return (message, pattern) -> {
+            try {
+                Object payload = serializer.deserialize(message.getBody());
+                if (payload instanceof CacheInvalidationMessage invalidation
+                        && !origin.equals(invalidation.getOrigin())) {
+                    MybatisRedisCache cache = INSTANCES.get(invalidation.getCacheName());
+                    if (cache != null) {
+                        cache.l1().invalidateAll();
+                    }
+                }
+            } catch (Exception e) {
+                log.warn("MyBatis 캐시 무효화 메시지 처리 실패: {}", e.getMessage());
+            }
+        };
+    }
+
+    // <cache><property name="ttlSeconds" value="..."/></cache>
+    public void setTtlSeconds(long ttlSeconds) {
+        this.ttlSeconds = ttlSeconds;
+    }
+
+    // <cache><property name="l1MaxSize" value="..."/></cache>
+    public void setL1MaxSize(long l1MaxSize) {
+        this.l1MaxSize = l1MaxSize;
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public void putObject(Object key, Object value) {
+        RedisTemplate<String, Object> template = redisTemplate;
+        if (value == null || template == null) {
+            return;
+        }
+        byte[] bytes;
+        try {
+            bytes = valueSerializer(template).serialize(value);
+        } catch (Exception e) {
+            log.warn("MyBatis 캐시 직렬화 실패 - Namespace: {}, Error: {}", id, e.getMessage());
+            return;
+        }
+        if (bytes == null) {
+            return;
+        }
+        l1().put(key, bytes);
+        try {
+            String redisKey = redisKey(key);
+            byte[] rawKey = redisKey.getBytes(StandardCharsets.UTF_8);
+            template.execute((RedisCallback<Boolean>) connection -> connection.stringCommands()
+                    .set(rawKey, bytes, Expiration.seconds(ttlSeconds),
+                            SetOption.upsert()));
+            template.opsForSet().add(indexKey(), redisKey);
+            template.expire(indexKey(), Duration.ofSeconds(ttlSeconds));
+        } catch (Exception e) {
+            log.warn("MyBatis 캐시 저장 실패 - Namespace: {}, Error: {}", id, e.getMessage());
+        }
+    }
+
+    @Override
+    public Object getObject(Object key) {
+        RedisTemplate<String, Object> template = redisTemplate;
+        if (template == null) {
+            return null;
+        }
+        try {
+            byte[] bytes = l1().getIfPresent(key);
+            if (bytes == null) {
+                byte[] rawKey = redisKey(key).getBytes(StandardCharsets.UTF_8);
+                bytes = template.execute((RedisCallback<byte[]>) connection ->
+                        connection.stringCommands().get(rawKey));
+                if (bytes == null) {
+                    return null;
+                }
+                l1().put(key, bytes);
+            }
+            return valueSerializer(template).deserialize(bytes);
+        } catch (Exception e) {
+            log.warn("MyBatis 캐시 조회 실패 - Namespace: {}, Error: {}", id, e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public Object removeObject(Object key) {
+        l1().invalidate(key);
+        RedisTemplate<String, Object> template = redisTemplate;
+        if (template != null) {
+            try {
+                String redisKey = redisKey(key);
+                template.delete(redisKey);
+                template.opsForSet().remove(indexKey(), redisKey);
+            } catch (Exception e) {
+                log.warn("MyBatis 캐시 삭제 실패 - Namespace: {}, Error: {}", id, e.getMessage());
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void clear() {
+        l1().invalidateAll();
+        RedisTemplate<String, Object> template = redisTemplate;
+        if (template != null) {
+            try {
+                Set<Object> keys = template.opsForSet().members(indexKey());
+                if (keys != null && !keys.isEmpty()) {
+                    template.delete(keys.stream().map(String::valueOf).toList());
+                }
+                template.delete(indexKey());
+            } catch (Exception e) {
+                log.warn("MyBatis 캐시 전체 삭제 실패 - Namespace: {}, Error: {}", id, e.getMessage());
+            }
+        }
+        CacheInvalidationPublisher publisher = invalidationPublisher;
+        if (publisher != null) {
+            publisher.publish(id, null);
+        }
+    }
+
+    @Override
+    public int getSize() {
+        return (int) l1().estimatedSize();
+    }
+
+    /**
+     * L1은 <cache> 프로퍼티(ttlSeconds, l1MaxSize)가 설정된 뒤 최초 사용 시 생성
+     */
+    private com.github.benmanes.caffeine.cache.Cache<Object, byte[]> l1() {
+        com.github.benmanes.caffeine.cache.Cache<Object, byte[]> cache = l1;
+        if (cache == null) {
+            synchronized (this) {
+                cache = l1;
+                if (cache == null) {
+                    cache = Caffeine.newBuilder()
+                            .maximumSize(l1MaxSize)
+                            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                            .build();
+                    l1 = cache;
+                }
+            }
+        }
+        return cache;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static RedisSerializer<Object> valueSerializer(RedisTemplate<String, Object> template) {
+        return (RedisSerializer<Object>) template.getValueSerializer();
+    }
+
+    private String indexKey() {
+        return KEY_PREFIX + id + INDEX_SUFFIX;
+    }
+
+    private String redisKey(Object key) {
+        return KEY_PREFIX + id + ":" + sha256(key.toString());
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.cache;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * MybatisRedisCache에 Redis 자원 주입 및 namespace 무효화 채널 구독
+ */
+public class MybatisRedisCacheInitializer {
+
+    public MybatisRedisCacheInitializer(RedisTemplate<String, Object> redisTemplate,
+                                        RedisSerializer<Object> messageSerializer,
+                                        RedisMessageListenerContainer listenerContainer) {
+        CacheInvalidationPublisher publisher =
+                new CacheInvalidationPublisher(redisTemplate, MybatisRedisCache.INVALIDATION_CHANNEL);
+        MybatisRedisCache.initialize(redisTemplate, publisher);
+        listenerContainer.addMessageListener(
+                MybatisRedisCache.invalidationListener(messageSerializer, publisher.getOrigin()),
+                new ChannelTopic(MybatisRedisCache.INVALIDATION_CHANNEL));
+    }
+}
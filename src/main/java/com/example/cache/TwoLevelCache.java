@@ -0,0 +1,182 @@
+package com.example.cache;
+
+import java.util.concurrent.Callable;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 2단계 캐시 (L1: 노드별 Caffeine, L2: Redis)
+ * - 조회: L1 -> L2 -> (miss) 순서, L2 hit 시 L1에 적재
+ * - 저장: miss 후 적재(@Cacheable의 put, get(key, valueLoader))이므로 다른 노드에 무효화를 보내지 않음
+ *   (값 변경은 @CacheEvict 등 삭제로 처리하고, 삭제/전체 삭제만 pub/sub으로 다른 노드의 L1 무효화)
+ * - get(key, valueLoader)는 같은 키의 동시 적재만 직렬화 (키별 striped 락)
+ * - Redis 장애 시 L2는 miss로 처리하여 요청이 실패하지 않도록 함
+ */
+@Slf4j
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> l1;
+    private final Cache l2;
+    private final CacheInvalidationPublisher invalidationPublisher;
+
+    // 같은 키를 동시에 적재하지 않도록 키별 잠금 (striped, 다른 키의 적재는 막지 않음)
+    private final Object[] loadLocks = new Object[64];
+
+    private final Counter l1Hits;
+    private final Counter l1Misses;
+    private final Counter l2Hits;
+    private final Counter l2Misses;
+
+    public TwoLevelCache(String name,
+                         com.github.benmanes.caffeine.cache.Cache<String, Object> l1,
+                         Cache l2,
+                         CacheInvalidationPublisher invalidationPublisher,
+                         MeterRegistry meterRegistry) {
+        super(false);
+        this.name = name;
+        this.l1 = l1;
+        this.l2 = l2;
+        this.invalidationPublisher = invalidationPublisher;
+        for (int i = 0; i < loadLocks.length; i++) {
+            loadLocks[i] = new Object();
+        }
+        this.l1Hits = requestCounter(meterRegistry, "l1", "hit");
+        this.l1Misses = requestCounter(meterRegistry, "l1", "miss");
+        this.l2Hits = requestCounter(meterRegistry, "l2", "hit");
+        this.l2Misses = requestCounter(meterRegistry, "l2", "miss");
+        Gauge.builder("cache.two-level.l1.size", l1, com.github.benmanes.caffeine.cache.Cache::estimatedSize)
+                .tag("cache", name)
+                .register(meterRegistry);
+    }
+
+    private Counter requestCounter(MeterRegistry meterRegistry, String level, String result) {
+        return Counter.builder("cache.two-level.gets")
+                .description("2단계 캐시 조회 수 (hit ratio = hit / (hit + miss))")
+                .tag("cache", name)
+                .tag("level", level)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return l1;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        String l1Key = toL1Key(key);
+        Object value = l1.getIfPresent(l1Key);
+        if (value != null) {
+            l1Hits.increment();
+            return value;
+        }
+        l1Misses.increment();
+
+        try {
+            ValueWrapper wrapper = l2.get(key);
+            if (wrapper != null && wrapper.get() != null) {
+                l2Hits.increment();
+                l1.put(l1Key, wrapper.get());
+                return wrapper.get();
+            }
+        } catch (RuntimeException e) {
+            log.warn("L2 캐시 조회 실패, miss로 처리 - Cache: {}, Key: {}, Error: {}", name, key, e.getMessage());
+        }
+        l2Misses.increment();
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object value = lookup(key);
+        if (value != null) {
+            return (T) value;
+        }
+        String l1Key = toL1Key(key);
+        synchronized (loadLocks[Math.floorMod(l1Key.hashCode(), loadLocks.length)]) {
+            // 대기 중 다른 스레드가 적재했을 수 있음
+            value = l1.getIfPresent(l1Key);
+            if (value != null) {
+                return (T) value;
+            }
+            try {
+                T loaded = valueLoader.call();
+                put(key, loaded);
+                return loaded;
+            } catch (Exception e) {
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+        }
+    }
+
+    /**
+     * 조회 결과 적재 (다른 노드의 L1은 그대로 둠, 값이 바뀌었으면 호출 측에서 evict)
+     */
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            return;
+        }
+        try {
+            l2.put(key, value);
+        } catch (RuntimeException e) {
+            log.warn("L2 캐시 저장 실패 - Cache: {}, Key: {}, Error: {}", name, key, e.getMessage());
+        }
+        l1.put(toL1Key(key), value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        try {
+            l2.evict(key);
+        } catch (RuntimeException e) {
+            log.warn("L2 캐시 삭제 실패 - Cache: {}, Key: {}, Error: {}", name, key, e.getMessage());
+        }
+        String l1Key = toL1Key(key);
+        l1.invalidate(l1Key);
+        invalidationPublisher.publish(name, l1Key);
+    }
+
+    @Override
+    public void clear() {
+        try {
+            l2.clear();
+        } catch (RuntimeException e) {
+            log.warn("L2 캐시 전체 삭제 실패 - Cache: {}, Error: {}", name, e.getMessage());
+        }
+        l1.invalidateAll();
+        invalidationPublisher.publish(name, null);
+    }
+
+    /**
+     * 다른 노드에서 받은 무효화 메시지 반영 (L1만)
+     */
+    void invalidateLocal(String l1Key) {
+        if (l1Key == null) {
+            l1.invalidateAll();
+        } else {
+            l1.invalidate(l1Key);
+        }
+    }
+
+    /**
+     * L1/무효화 메시지용 키 (노드 간 동일한 문자열 표현)
+     */
+    static String toL1Key(Object key) {
+        return String.valueOf(key);
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.cache;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 2단계 CacheManager (L1: Caffeine, L2: Redis)
+ * - 캐시별 TTL/최대 크기는 TwoLevelCacheProperties에서 조회
+ * - 트랜잭션 안에서의 put/evict는 커밋 이후에 반영 (TransactionAwareCacheDecorator)
+ * - 다른 노드의 무효화 메시지를 받아 L1 삭제 (MessageListener)
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+
+    private final ConcurrentMap<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Cache> decoratedCaches = new ConcurrentHashMap<>();
+
+    private final RedisCacheManager redisCacheManager;
+    private final TwoLevelCacheProperties properties;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final RedisSerializer<Object> messageSerializer;
+    private final MeterRegistry meterRegistry;
+
+    public TwoLevelCacheManager(RedisCacheManager redisCacheManager,
+                                TwoLevelCacheProperties properties,
+                                CacheInvalidationPublisher invalidationPublisher,
+                                RedisSerializer<Object> messageSerializer,
+                                MeterRegistry meterRegistry) {
+        this.redisCacheManager = redisCacheManager;
+        this.properties = properties;
+        this.invalidationPublisher = invalidationPublisher;
+        this.messageSerializer = messageSerializer;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return decoratedCaches.computeIfAbsent(name,
+                cacheName -> new TransactionAwareCacheDecorator(caches.computeIfAbsent(cacheName, this::createCache)));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    private TwoLevelCache createCache(String name) {
+        TwoLevelCacheProperties.Spec spec = properties.specFor(name);
+        com.github.benmanes.caffeine.cache.Cache<String, Object> l1 = Caffeine.newBuilder()
+                .maximumSize(spec.getMaxSize())
+                .expireAfterWrite(spec.getTtl())
+                .build();
+        Cache l2 = redisCacheManager.getCache(name);
+        log.info("2단계 캐시 생성 - Cache: {}, TTL: {}, L1 최대 크기: {}", name, spec.getTtl(), spec.getMaxSize());
+        return new TwoLevelCache(name, l1, l2, invalidationPublisher, meterRegistry);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            Object payload = messageSerializer.deserialize(message.getBody());
+            if (!(payload instanceof CacheInvalidationMessage invalidation)) {
+                return;
+            }
+            if (invalidationPublisher.getOrigin().equals(invalidation.getOrigin())) {
+                return;
+            }
+            TwoLevelCache cache = caches.get(invalidation.getCacheName());
+            if (cache != null) {
+                cache.invalidateLocal(invalidation.getKey());
+            }
+        } catch (Exception e) {
+            log.warn("캐시 무효화 메시지 처리 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.cache;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 2단계 캐시 설정
+ * - 캐시별 TTL(L2 Redis, L1 Caffeine 공통)과 L1 최대 크기
+ * - 설정되지 않은 캐시는 기본값 사용
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "cache.two-level")
+public class TwoLevelCacheProperties {
+
+    private Duration defaultTtl = Duration.ofMinutes(10);
+    private long defaultMaxSize = 1000;
+
+    // 노드 간 L1 무효화 채널
+    private String invalidationChannel = "cache:invalidation";
+
+    private Map<String, Spec> caches = new HashMap<>();
+
+    public Spec specFor(String cacheName) {
+        Spec spec = caches.get(cacheName);
+        Spec resolved = new Spec();
+        resolved.setTtl(spec != null && spec.getTtl() != null ? spec.getTtl() : defaultTtl);
+        resolved.setMaxSize(spec != null && spec.getMaxSize() != null ? spec.getMaxSize() : defaultMaxSize);
+        return resolved;
+    }
+
+    @Getter
+    @Setter
+    public static class Spec {
+        private Duration ttl;
+        private Long maxSize;
+    }
+}
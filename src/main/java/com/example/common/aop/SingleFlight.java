@@ -0,0 +1,23 @@
+package com.example.common.aop;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 동일 인자로 동시에 들어온 호출을 하나로 병합 (SingleFlightService 선언형)
+ * - 프록시를 거치는 외부 호출에만 적용 (같은 클래스 안의 호출은 병합되지 않음)
+ * - 조건 분기 뒤 일부만 병합해야 하면 SingleFlightService.execute를 직접 사용
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SingleFlight {
+
+    /**
+     * 메서드 식별자 (지표 태그, 키 접두사), 비어 있으면 "클래스명.메서드명"
+     */
+    String value() default "";
+}
@@ -0,0 +1,52 @@
+package com.example.common.aop;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+
+import com.example.common.service.SingleFlightService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * @SingleFlight 메서드를 SingleFlightService로 실행
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class SingleFlightAspect {
+
+    private final SingleFlightService singleFlightService;
+
+    @Around("@annotation(singleFlight)")
+    public Object around(ProceedingJoinPoint joinPoint, SingleFlight singleFlight) throws Throwable {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        String method = !singleFlight.value().isEmpty()
+                ? singleFlight.value()
+                : signature.getDeclaringType().getSimpleName() + "." + signature.getName();
+        try {
+            return singleFlightService.execute(method, () -> {
+                try {
+                    return joinPoint.proceed();
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable e) {
+                    throw new CheckedExceptionWrapper(e);
+                }
+            }, joinPoint.getArgs());
+        } catch (CheckedExceptionWrapper e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * 검사 예외를 Supplier 밖으로 전달하기 위한 래퍼
+     */
+    private static final class CheckedExceptionWrapper extends RuntimeException {
+        CheckedExceptionWrapper(Throwable cause) {
+            super(cause);
+        }
+    }
+}
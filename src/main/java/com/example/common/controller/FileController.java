@@ -1,8 +1,20 @@
 package com.example.common.controller;
 
 import com.example.common.domain.File;
+import com.example.common.service.FilePreviewService;
+import com.example.common.service.FilePreviewService.RenditionType;
 import com.example.common.service.FileService;
+import com.example.common.service.FileService.StoredFile;
+import com.example.common.service.FileTransferService;
+import com.fasterxml.jackson.core.Base64Variants;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.InputStreamResource;
 import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
@@ -10,23 +22,29 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.util.Base64;
-import java.util.HashMap;
-import java.util.Map;
 
 @RestController
 @RequestMapping("/api/files")
 public class FileController {
     
+    // 미리보기 생성 중일 때 다시 조회하라고 안내하는 간격
+    private static final int RENDITION_RETRY_AFTER_SECONDS = 2;
+    
     private final FileService fileService;
+    private final FileTransferService fileTransferService;
+    private final FilePreviewService filePreviewService;
+    private final ObjectMapper objectMapper;
     
-    public FileController(FileService fileService) {
+    public FileController(FileService fileService, FileTransferService fileTransferService,
+                          FilePreviewService filePreviewService, ObjectMapper objectMapper) {
         this.fileService = fileService;
+        this.fileTransferService = fileTransferService;
+        this.filePreviewService = filePreviewService;
+        this.objectMapper = objectMapper;
     }
     
     // 파일 정보 조회
@@ -39,78 +57,104 @@ public class FileController {
         return ResponseEntity.ok(file);
     }
     
+    /**
+     * 파일 보기 (inline)
+     * - ETag/Last-Modified 기반 조건부 GET(304), Range 요청(206/416) 지원
+     */
     @GetMapping("/{fileId}")
-    public ResponseEntity<Resource> getFile(@PathVariable("fileId") Long fileId) {
-        try {
-            File file = fileService.getFileById(fileId);
-            if (file == null) {
-                return ResponseEntity.notFound().build();
-            }
-            
-            Resource resource = fileService.loadFileAsResource(fileId);
-            if (resource == null) {
-                return ResponseEntity.notFound().build();
-            }
-            
-            String contentType = file.getFileType();
-            if (contentType == null || contentType.isEmpty()) {
-                contentType = "application/octet-stream";
-            }
-            
-            // 한글 파일명 문제를 피하기 위해 ASCII 파일명만 사용
-            String safeFilename = "file." + contentType.split("/")[1];
-            
-            HttpHeaders headers = new HttpHeaders();
-            headers.set(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + safeFilename + "\"");
-            headers.setContentType(MediaType.parseMediaType(contentType));
-            
-            // PDF 파일의 경우 추가 헤더 설정
-            if (contentType.equals("application/pdf")) {
-                try {
-                    Path filePath = Paths.get(file.getFilePath());
-                    long contentLength = Files.size(filePath);
-                    headers.setContentLength(contentLength);
-                    
-                    // PDF 스트리밍을 위한 추가 헤더
-                    headers.set("Accept-Ranges", "bytes");
-                    headers.set("Cache-Control", "public, max-age=3600");
-                    headers.set("X-Content-Type-Options", "nosniff");
-                } catch (IOException e) {
-                    // 무시
-                }
-            }
-            
-            // 이미지 파일의 경우 추가 헤더 설정
-            if (contentType.startsWith("image/")) {
-                headers.set("Cache-Control", "public, max-age=3600");
-                headers.set("X-Content-Type-Options", "nosniff");
-                headers.set("Access-Control-Allow-Origin", "*");
-                headers.set("Access-Control-Allow-Methods", "GET, OPTIONS");
-                headers.set("Access-Control-Allow-Headers", "Content-Type, Authorization");
+    public void getFile(@PathVariable("fileId") Long fileId,
+                        HttpServletRequest request,
+                        HttpServletResponse response) throws IOException {
+        StoredFile storedFile = fileService.getStoredFile(fileId);
+        if (storedFile == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        File file = storedFile.getFile();
+        Path filePath = storedFile.getPath();
+        
+        String contentType = file.getFileType();
+        if (contentType == null || contentType.isEmpty()) {
+            contentType = "application/octet-stream";
+        }
+        
+        // 한글 파일명 문제를 피하기 위해 ASCII 파일명만 사용
+        String safeFilename = "file." + contentType.split("/")[1];
+        
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + safeFilename + "\"");
+        response.setContentType(contentType);
+        response.setHeader("X-Content-Type-Options", "nosniff");
+        
+        // PDF/이미지는 캐시 허용, 만료 후에는 ETag로 재검증
+        if (contentType.equals("application/pdf") || contentType.startsWith("image/")) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "public, max-age=3600");
+        }
+        
+        // 이미지 파일의 경우 추가 헤더 설정
+        if (contentType.startsWith("image/")) {
+            response.setHeader("Access-Control-Allow-Origin", "*");
+            response.setHeader("Access-Control-Allow-Methods", "GET, OPTIONS");
+            response.setHeader("Access-Control-Allow-Headers", "Content-Type, Authorization");
+        }
+        
+        if (file.getContentEncoding() != null) {
+            fileTransferService.sendEncoded(request, response, file, filePath, contentType);
+            return;
+        }
+        fileTransferService.send(request, response, file, filePath, contentType);
+    }
+    
+    /**
+     * 미리보기 조회 (type: thumbnail, preview)
+     * - 파일 ID의 내용은 바뀌지 않으므로 미리보기도 불변 -> 브라우저에 장기 캐시 (인증 필요 자원이라 private)
+     * - 아직 생성되지 않았으면 백그라운드 생성을 요청하고 202 + Retry-After (캐시 금지)
+     * - 지원하지 않는 형식이거나 생성에 실패했으면 404
+     */
+    @GetMapping("/{fileId}/renditions/{type}")
+    public void getRendition(@PathVariable("fileId") Long fileId,
+                             @PathVariable("type") String type,
+                             HttpServletRequest request,
+                             HttpServletResponse response) throws IOException {
+        RenditionType renditionType = RenditionType.fromPathName(type);
+        StoredFile storedFile = renditionType != null ? fileService.getStoredFile(fileId) : null;
+        if (storedFile == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        
+        File file = storedFile.getFile();
+        Path renditionPath = filePreviewService.getRendition(file.getStoredName(), renditionType);
+        if (renditionPath == null) {
+            boolean generating = filePreviewService.requestRendition(file.getStoredName(), storedFile.getPath(),
+                    file.getFileType(), file.getContentEncoding());
+            if (!generating) {
+                response.sendError(HttpServletResponse.SC_NOT_FOUND);
+                return;
             }
-            
-            return ResponseEntity.ok()
-                .headers(headers)
-                .body(resource);
-        } catch (IOException e) {
-            return ResponseEntity.internalServerError().build();
-        } catch (Exception e) {
-            return ResponseEntity.internalServerError().build();
+            response.setStatus(HttpServletResponse.SC_ACCEPTED);
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(RENDITION_RETRY_AFTER_SECONDS));
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+            return;
         }
+        
+        response.setContentType(FilePreviewService.RENDITION_CONTENT_TYPE);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + renditionType.getPathName() + ".jpg\"");
+        response.setHeader("X-Content-Type-Options", "nosniff");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, max-age=31536000, immutable");
+        
+        fileTransferService.send(request, response, file, renditionPath, FilePreviewService.RENDITION_CONTENT_TYPE);
     }
     
     @GetMapping("/{fileId}/download")
-    public ResponseEntity<Resource> downloadFile(@PathVariable("fileId") Long fileId) {
+    public ResponseEntity<Resource> downloadFile(@PathVariable("fileId") Long fileId, HttpServletRequest request) {
         try {
-            File file = fileService.getFileById(fileId);
-            if (file == null) {
+            StoredFile storedFile = fileService.getStoredFile(fileId);
+            if (storedFile == null) {
                 return ResponseEntity.notFound().build();
             }
             
-            Resource resource = fileService.loadFileAsResource(fileId);
-            if (resource == null) {
-                return ResponseEntity.notFound().build();
-            }
+            File file = storedFile.getFile();
+            Resource resource = new FileSystemResource(storedFile.getPath());
             
             // 한글 파일명을 위한 URL 인코딩
             String encodedFilename = URLEncoder.encode(file.getOriginalName(), StandardCharsets.UTF_8.toString());
@@ -122,42 +166,56 @@ public class FileController {
                 encodedFilename
             );
             
-            return ResponseEntity.ok()
+            ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
                 .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition)
                 .header(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS, HttpHeaders.CONTENT_DISPOSITION)
-                .contentType(MediaType.parseMediaType(file.getFileType()))
-                .body(resource);
+                .contentType(MediaType.parseMediaType(file.getFileType()));
+            
+            // 압축 저장 파일: 클라이언트가 지원하면 압축된 그대로, 아니면 스트리밍 해제
+            if (file.getContentEncoding() != null) {
+                builder.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+                if (fileTransferService.acceptsEncoding(request, file.getContentEncoding())) {
+                    builder.header(HttpHeaders.CONTENT_ENCODING, file.getContentEncoding());
+                } else {
+                    builder.contentLength(file.getFileSize());
+                    resource = new InputStreamResource(fileService.openContent(storedFile));
+                }
+            }
+            
+            return builder.body(resource);
         } catch (IOException e) {
             return ResponseEntity.internalServerError().build();
         }
     }
     
+    /**
+     * 파일을 base64 JSON으로 조회
+     * - 응답 형식: { originalName, fileType, fileSize, base64Data }
+     * - 파일 전체를 메모리에 올리지 않고 고정 크기 버퍼 단위로 인코딩하여 응답 스트림에 바로 기록
+     */
     @GetMapping("/{fileId}/base64")
-    public ResponseEntity<Map<String, Object>> getFileAsBase64(@PathVariable("fileId") Long fileId) {
-        try {
-            File file = fileService.getFileById(fileId);
-            if (file == null) {
-                return ResponseEntity.notFound().build();
-            }
-            
-            Resource resource = fileService.loadFileAsResource(fileId);
-            if (resource == null) {
-                return ResponseEntity.notFound().build();
-            }
-            
-            // 파일을 바이트 배열로 읽기
-            byte[] fileBytes = Files.readAllBytes(resource.getFile().toPath());
-            String base64Data = Base64.getEncoder().encodeToString(fileBytes);
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("originalName", file.getOriginalName());
-            response.put("fileType", file.getFileType());
-            response.put("fileSize", file.getFileSize());
-            response.put("base64Data", base64Data);
-            
-            return ResponseEntity.ok(response);
-        } catch (Exception e) {
-            return ResponseEntity.internalServerError().build();
+    public void getFileAsBase64(@PathVariable("fileId") Long fileId,
+                                HttpServletResponse response) throws IOException {
+        StoredFile storedFile = fileService.getStoredFile(fileId);
+        if (storedFile == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        File file = storedFile.getFile();
+        
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        
+        try (InputStream inputStream = fileService.openContent(storedFile);
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(response.getOutputStream())) {
+            generator.writeStartObject();
+            generator.writeStringField("originalName", file.getOriginalName());
+            generator.writeStringField("fileType", file.getFileType());
+            generator.writeObjectField("fileSize", file.getFileSize());
+            generator.writeFieldName("base64Data");
+            // Base64.getEncoder()와 동일한 형식 (표준 알파벳, 패딩, 줄바꿈 없음)
+            generator.writeBinary(Base64Variants.MIME_NO_LINEFEEDS, inputStream, -1);
+            generator.writeEndObject();
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,59 @@
+package com.example.common.controller;
+
+import java.io.IOException;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.common.domain.File;
+import com.example.common.dto.ChunkedUploadInitRequest;
+import com.example.common.dto.ChunkedUploadStatusResponse;
+import com.example.common.service.ChunkedUploadService;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 분할(재개 가능) 업로드 API
+ * - POST /api/files/uploads                          : 업로드 시작
+ * - PUT  /api/files/uploads/{uploadId}/chunks/{index} : 조각 전송 (본문: 원본 바이트, 헤더: X-Chunk-Checksum = SHA-256 hex)
+ * - GET  /api/files/uploads/{uploadId}               : 수신된 조각 조회 (재개용)
+ * - POST /api/files/uploads/{uploadId}/complete      : 업로드 완료 -> 파일 정보
+ */
+@RestController
+@RequestMapping("/api/files/uploads")
+@RequiredArgsConstructor
+public class FileUploadController {
+
+    private final ChunkedUploadService chunkedUploadService;
+
+    @PostMapping
+    public ResponseEntity<ChunkedUploadStatusResponse> initUpload(@RequestBody ChunkedUploadInitRequest request) throws IOException {
+        return ResponseEntity.ok(chunkedUploadService.init(request));
+    }
+
+    @PutMapping("/{uploadId}/chunks/{index}")
+    public ResponseEntity<ChunkedUploadStatusResponse> uploadChunk(@PathVariable("uploadId") String uploadId,
+                                                                   @PathVariable("index") int index,
+                                                                   @RequestHeader("X-Chunk-Checksum") String checksum,
+                                                                   HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(chunkedUploadService.uploadChunk(uploadId, index, checksum, request.getInputStream()));
+    }
+
+    @GetMapping("/{uploadId}")
+    public ResponseEntity<ChunkedUploadStatusResponse> getUploadStatus(@PathVariable("uploadId") String uploadId) {
+        return ResponseEntity.ok(chunkedUploadService.getStatus(uploadId));
+    }
+
+    @PostMapping("/{uploadId}/complete")
+    public ResponseEntity<File> completeUpload(@PathVariable("uploadId") String uploadId) throws IOException {
+        return ResponseEntity.ok(chunkedUploadService.complete(uploadId));
+    }
+}
@@ -8,7 +8,9 @@ import lombok.AllArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "file")
+@Table(name = "file", indexes = {
+    @Index(name = "idx_file_content_hash", columnList = "content_hash")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -36,6 +38,14 @@ public class File {
     @Column(name = "content_type", length = 100)
     private String contentType;
     
+    // 내용 SHA-256 (content-addressed 저장소 blob 키, 기존 UUID 파일은 null)
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+    
+    // 저장 코덱 (null: 원본, gzip: 압축 저장), file_size는 항상 원본 크기
+    @Column(name = "content_encoding", length = 20)
+    private String contentEncoding;
+    
     @Column(name = "upload_user_id", nullable = false)
     private Long uploadUserId;
     
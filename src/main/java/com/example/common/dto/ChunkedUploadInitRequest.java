@@ -0,0 +1,15 @@
+package com.example.common.dto;
+
+import lombok.Data;
+
+/**
+ * 분할 업로드 시작 요청
+ */
+@Data
+public class ChunkedUploadInitRequest {
+    private String originalName;
+    private String fileType;
+    private Long fileSize;
+    private Integer chunkSize;  // 미지정 시 서버 기본값
+    private Long uploadUserId;
+}
@@ -0,0 +1,25 @@
+package com.example.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 분할 업로드 세션 (Redis 저장)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChunkedUploadSession {
+    private String uploadId;
+    private String originalName;
+    private String fileType;
+    private long fileSize;
+    private int chunkSize;
+    private int totalChunks;
+    private Long uploadUserId;
+    private Long adminId;  // 업로드를 시작한 관리자 (조각 전송/상태 조회/완료는 같은 관리자만)
+    private Long fileId;  // 완료 후 생성된 파일 ID (완료 요청 재시도 시 그대로 반환)
+}
@@ -0,0 +1,24 @@
+package com.example.common.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 분할 업로드 상태 응답 (재개 시 receivedChunks에 없는 조각만 다시 전송)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChunkedUploadStatusResponse {
+    private String uploadId;
+    private long fileSize;
+    private int chunkSize;
+    private int totalChunks;
+    private List<Integer> receivedChunks;
+    private Long fileId;
+}
@@ -1,10 +1,14 @@
 package com.example.common.dto;
 
 import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class CountryResponse {
     private String code;
     private String codeName;
@@ -1,10 +1,14 @@
 package com.example.common.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.example.common.domain.File;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -15,6 +19,28 @@ public interface FileRepository extends JpaRepository<File, Long> {
      */
     List<File> findByUploadUserId(Long uploadUserId);
     
+    /**
+     * 같은 내용(blob)을 참조하는 파일 수
+     */
+    long countByContentHash(String contentHash);
+    
+    /**
+     * 주어진 hash 중 파일 레코드가 참조하는 hash 목록 (고아 파일 정리용)
+     */
+    @Query("SELECT DISTINCT f.contentHash FROM File f WHERE f.contentHash IN :contentHashes")
+    List<String> findReferencedContentHashes(@Param("contentHashes") Collection<String> contentHashes);
+    
+    /**
+     * 주어진 저장 파일명 중 파일 레코드가 참조하는 이름 목록 (고아 파일 정리용)
+     */
+    @Query("SELECT DISTINCT f.storedName FROM File f WHERE f.storedName IN :storedNames")
+    List<String> findReferencedStoredNames(@Param("storedNames") Collection<String> storedNames);
+    
+    /**
+     * ID 순 배치 조회 (고아 파일 정리용)
+     */
+    List<File> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+    
     /**
      * 사용자 ID로 업로드된 파일 삭제
      */
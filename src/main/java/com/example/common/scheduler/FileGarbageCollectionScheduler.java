@@ -0,0 +1,35 @@
+package com.example.common.scheduler;
+
+import java.time.Duration;
+
+import com.example.common.service.FileGarbageCollector;
+import com.example.job.service.JobService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 고아 파일 정리 스케줄러
+ * - 기본 10분마다 실행, 1회 실행은 배치 수/초당 처리 수로 제한되어 짧게 끝나고 다음 실행에서 이어서 진행
+ * - 한 주기에 한 노드만 실행
+ * - file.gc.enabled=false 로 비활성화
+ */
+@Component
+@ConditionalOnProperty(name = "file.gc.enabled", havingValue = "true", matchIfMissing = true)
+public class FileGarbageCollectionScheduler {
+
+    private static final String JOB_NAME = "file-gc";
+
+    private final JobService jobService;
+
+    public FileGarbageCollectionScheduler(JobService jobService, FileGarbageCollector fileGarbageCollector) {
+        this.jobService = jobService;
+        jobService.register(JOB_NAME, "고아 파일 정리",
+                Duration.ofMinutes(5), Duration.ofMinutes(5), fileGarbageCollector::run);
+    }
+
+    @Scheduled(initialDelayString = "${file.gc.initial-delay:PT5M}", fixedDelayString = "${file.gc.interval:PT10M}")
+    public void collectOrphanFiles() {
+        jobService.run(JOB_NAME);
+    }
+}
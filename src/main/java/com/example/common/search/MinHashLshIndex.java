@@ -0,0 +1,184 @@
+package com.example.common.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 유사 문서 검색용 MinHash/LSH 메모리 색인
+ * - 문서 = NgramAnalyzer bigram 집합, 유사도 = 집합 Jaccard 유사도
+ * - 서명: 해시 함수 128개의 최솟값 (해시 2개를 조합해 128개를 만듦), 서명이 같은 비율이 Jaccard 유사도의 추정치
+ * - LSH: 서명을 4개씩 32개 구간(band)으로 나눠 구간별 버킷에 등록, 한 구간이라도 같은 문서만 후보로 비교
+ *   (유사도 0.42 부근에서 후보가 될 확률이 50%, 0.7이면 약 99%)
+ * - 해시 시드가 고정이므로 노드/재시작과 관계없이 같은 문서는 같은 서명
+ */
+public class MinHashLshIndex {
+
+    private static final int NUM_HASHES = 128;
+    private static final int BANDS = 32;
+    private static final int ROWS = NUM_HASHES / BANDS;
+    private static final long SEED = 0x9E3779B97F4A7C15L;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, int[]> signatures = new HashMap<>();
+    private final Map<Long, List<Long>> buckets = new HashMap<>();
+
+    /**
+     * 문서 추가 또는 교체 (bigram이 없는 짧은 문서는 제외)
+     */
+    public void put(long id, String text) {
+        int[] signature = signature(text);
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            if (signature == null) {
+                return;
+            }
+            signatures.put(id, signature);
+            for (int band = 0; band < BANDS; band++) {
+                buckets.computeIfAbsent(bandKey(signature, band), key -> new ArrayList<>()).add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return signatures.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 유사 문서 조회
+     *
+     * @param excludeId 결과에서 제외할 문서 (질문 자신)
+     * @return 추정 유사도 내림차순 최대 limit개
+     */
+    public List<Match> similar(String text, int limit, Long excludeId) {
+        int[] signature = signature(text);
+        if (signature == null || limit <= 0) {
+            return List.of();
+        }
+        List<Match> matches = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            Set<Long> candidates = new HashSet<>();
+            for (int band = 0; band < BANDS; band++) {
+                List<Long> bucket = buckets.get(bandKey(signature, band));
+                if (bucket != null) {
+                    candidates.addAll(bucket);
+                }
+            }
+            if (excludeId != null) {
+                candidates.remove(excludeId);
+            }
+            for (Long candidate : candidates) {
+                int[] other = signatures.get(candidate);
+                int same = 0;
+                for (int i = 0; i < NUM_HASHES; i++) {
+                    if (signature[i] == other[i]) {
+                        same++;
+                    }
+                }
+                matches.add(new Match(candidate, (double) same / NUM_HASHES));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        // 유사도가 같으면 최근 문서(큰 ID) 우선
+        matches.sort((a, b) -> a.getSimilarity() != b.getSimilarity()
+                ? Double.compare(b.getSimilarity(), a.getSimilarity())
+                : Long.compare(b.getId(), a.getId()));
+        return matches.size() > limit ? new ArrayList<>(matches.subList(0, limit)) : matches;
+    }
+
+    private void removeInternal(long id) {
+        int[] previous = signatures.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (int band = 0; band < BANDS; band++) {
+            long key = bandKey(previous, band);
+            List<Long> bucket = buckets.get(key);
+            if (bucket != null) {
+                bucket.remove(Long.valueOf(id));
+                if (bucket.isEmpty()) {
+                    buckets.remove(key);
+                }
+            }
+        }
+    }
+
+    /**
+     * MinHash 서명 (h_i = h1 + i * h2, 상위 32비트의 부호 없는 최솟값)
+     */
+    private static int[] signature(String text) {
+        int[] grams = NgramAnalyzer.bigrams(NgramAnalyzer.normalize(text));
+        if (grams.length == 0) {
+            return null;
+        }
+        long[] minimums = new long[NUM_HASHES];
+        Arrays.fill(minimums, Long.MAX_VALUE);
+        for (int gram : grams) {
+            long h1 = mix(gram);
+            long h2 = mix(gram ^ SEED) | 1L;
+            long hash = h1;
+            for (int i = 0; i < NUM_HASHES; i++) {
+                long value = hash >>> 32;
+                if (value < minimums[i]) {
+                    minimums[i] = value;
+                }
+                hash += h2;
+            }
+        }
+        int[] signature = new int[NUM_HASHES];
+        for (int i = 0; i < NUM_HASHES; i++) {
+            signature[i] = (int) minimums[i];
+        }
+        return signature;
+    }
+
+    private static long bandKey(int[] signature, int band) {
+        long hash = band;
+        for (int row = band * ROWS; row < (band + 1) * ROWS; row++) {
+            hash = hash * 31 + (signature[row] & 0xFFFFFFFFL);
+        }
+        return mix(hash);
+    }
+
+    // splitmix64 finalizer
+    private static long mix(long value) {
+        long z = value + SEED;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Match {
+        private final long id;
+        private final double similarity;
+    }
+}
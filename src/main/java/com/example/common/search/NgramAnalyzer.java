@@ -0,0 +1,61 @@
+package com.example.common.search;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * 검색용 문자 bigram 분석기
+ * - 한국어는 띄어쓰기/조사 때문에 단어 단위 색인이 맞지 않으므로 글자 2개씩 겹쳐 자름 (한글 음절, 영문, 숫자 구분 없음)
+ * - 정규화: NFKC(한글 자모 조합, 전각 -> 반각) + 소문자 + 연속 공백을 공백 1개로
+ * - 공백도 한 글자로 취급하므로 "송금 한도" 같은 구문 검색도 연속된 bigram으로 표현됨
+ * - bigram은 두 UTF-16 문자를 int 하나로 묶어 표현 (문자열 생성 없음)
+ */
+public final class NgramAnalyzer {
+
+    private NgramAnalyzer() {
+    }
+
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder builder = new StringBuilder(normalized.length());
+        boolean space = false;
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isWhitespace(c)) {
+                space = builder.length() > 0;
+            } else {
+                if (space) {
+                    builder.append(' ');
+                    space = false;
+                }
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 정규화된 문자열의 중복 없는 bigram (오름차순)
+     */
+    public static int[] bigrams(String normalized) {
+        if (normalized.length() < 2) {
+            return new int[0];
+        }
+        int[] grams = new int[normalized.length() - 1];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = (normalized.charAt(i) << 16) | normalized.charAt(i + 1);
+        }
+        Arrays.sort(grams);
+        int unique = 0;
+        for (int i = 0; i < grams.length; i++) {
+            if (i == 0 || grams[i] != grams[i - 1]) {
+                grams[unique++] = grams[i];
+            }
+        }
+        return Arrays.copyOf(grams, unique);
+    }
+}
@@ -0,0 +1,337 @@
+package com.example.common.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 제목/본문 두 필드의 메모리 역색인 (NgramAnalyzer bigram)
+ * - 문서마다 증가하는 내부 번호를 부여하여 posting 목록은 항상 오름차순 -> 추가만으로 유지, 교집합은 병합 방식
+ * - 수정은 이전 번호를 삭제 표시하고 새 번호로 추가 (삭제 표시가 많아지면 호출 측에서 재구성)
+ * - 원문은 보관하지 않음 (문서별 필드 길이, bigram별 출현 횟수, 변경 확인용 fingerprint만)
+ * - 결과는 검색어의 모든 bigram을 포함하는 후보이므로, 실제 포함 여부는 호출 측 SQL에서
+ *   후보 ID 조건(IN)과 LIKE '%검색어%'를 함께 걸어 확인 (PK로 좁힌 행에만 LIKE 적용)
+ * - 관련도: 필드별 BM25 (검색어 전체를 하나의 단어로 취급, 출현 횟수는 검색어 bigram 출현 횟수의 최솟값으로 추정),
+ *   제목 가중치 2배
+ */
+public class TextIndex {
+
+    public static final int TITLE = 0;
+    public static final int CONTENT = 1;
+
+    private static final int FIELD_COUNT = 2;
+    private static final double[] FIELD_WEIGHTS = {2.0, 1.0};
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    // posting에 저장하는 bigram 출현 횟수 상한
+    private static final int MAX_FREQUENCY = Byte.MAX_VALUE;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @SuppressWarnings("unchecked")
+    private final Map<Integer, Postings>[] postings = new Map[]{new HashMap<>(), new HashMap<>()};
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private long[] ids = new long[1024];
+    // 내부 번호별 정규화된 필드 길이 (삭제된 문서는 -1)
+    private int[][] lengths = new int[FIELD_COUNT][1024];
+    // 내부 번호별 정규화된 제목+본문 hash (내용이 같으면 다시 색인하지 않음)
+    private long[] fingerprints = new long[1024];
+    private final long[] totalLengths = new long[FIELD_COUNT];
+    private int nextOrdinal;
+    private int deletedCount;
+
+    /**
+     * 문서 추가 또는 교체
+     */
+    public void put(long id, String title, String content) {
+        String[] values = {NgramAnalyzer.normalize(title), NgramAnalyzer.normalize(content)};
+        long fingerprint = fingerprint(values);
+        int[][][] frequencies = {bigramFrequencies(values[TITLE]), bigramFrequencies(values[CONTENT])};
+        lock.writeLock().lock();
+        try {
+            Integer previous = ordinals.get(id);
+            if (previous != null && fingerprints[previous] == fingerprint
+                    && lengths[TITLE][previous] == values[TITLE].length()
+                    && lengths[CONTENT][previous] == values[CONTENT].length()) {
+                return;
+            }
+            markDeleted(previous);
+            int ordinal = nextOrdinal++;
+            ensureCapacity(ordinal + 1);
+            ids[ordinal] = id;
+            fingerprints[ordinal] = fingerprint;
+            ordinals.put(id, ordinal);
+            for (int field = 0; field < FIELD_COUNT; field++) {
+                lengths[field][ordinal] = values[field].length();
+                totalLengths[field] += values[field].length();
+                int[] grams = frequencies[field][0];
+                int[] counts = frequencies[field][1];
+                for (int i = 0; i < grams.length; i++) {
+                    postings[field].computeIfAbsent(grams[i], key -> new Postings()).add(ordinal, counts[i]);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            markDeleted(ordinals.remove(id));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ordinals.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int deletedCount() {
+        lock.readLock().lock();
+        try {
+            return deletedCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 제목/본문 검색어의 bigram을 모두 포함하는 문서 ID (관련도 높은 순, 같으면 최신 ID 순)
+     *
+     * @param title   제목 검색어 (없으면 null)
+     * @param content 본문 검색어 (없으면 null)
+     * @return 색인으로 처리할 수 없는 검색어(정규화 후 2글자 미만)면 null
+     */
+    public List<Long> search(String title, String content) {
+        String[] queries = {normalizeQuery(title), normalizeQuery(content)};
+        for (String query : queries) {
+            if (query != null && query.length() < 2) {
+                return null;
+            }
+        }
+        lock.readLock().lock();
+        try {
+            int[] matched = null;
+            double[] scores = null;
+            for (int field = 0; field < FIELD_COUNT; field++) {
+                if (queries[field] == null) {
+                    continue;
+                }
+                Postings[] lists = postingsOf(field, queries[field]);
+                int[] fieldMatched = match(lists, matched);
+                double[] fieldScores = score(field, lists, fieldMatched);
+                if (matched == null) {
+                    matched = fieldMatched;
+                    scores = fieldScores;
+                } else {
+                    // match에 이전 필드 결과를 후보로 넘겼으므로 fieldMatched는 matched의 부분집합 (둘 다 오름차순)
+                    double[] combined = new double[fieldMatched.length];
+                    for (int i = 0, j = 0; i < fieldMatched.length; i++) {
+                        while (matched[j] != fieldMatched[i]) {
+                            j++;
+                        }
+                        combined[i] = scores[j] + fieldScores[i];
+                    }
+                    matched = fieldMatched;
+                    scores = combined;
+                }
+            }
+            if (matched == null) {
+                return null;
+            }
+            Integer[] order = new Integer[matched.length];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            int[] hits = matched;
+            double[] hitScores = scores;
+            Arrays.sort(order, (a, b) -> {
+                int byScore = Double.compare(hitScores[b], hitScores[a]);
+                return byScore != 0 ? byScore : Long.compare(ids[hits[b]], ids[hits[a]]);
+            });
+            List<Long> result = new ArrayList<>(order.length);
+            for (Integer index : order) {
+                result.add(ids[hits[index]]);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어 bigram의 posting (짧은 순), 색인에 없는 bigram이 있으면 null
+     */
+    private Postings[] postingsOf(int field, String query) {
+        int[] grams = NgramAnalyzer.bigrams(query);
+        Postings[] lists = new Postings[grams.length];
+        for (int i = 0; i < grams.length; i++) {
+            lists[i] = postings[field].get(grams[i]);
+            if (lists[i] == null) {
+                return null;
+            }
+        }
+        Arrays.sort(lists, (a, b) -> Integer.compare(a.size, b.size));
+        return lists;
+    }
+
+    /**
+     * 검색어 bigram을 모두 포함하는 살아 있는 문서 번호 (오름차순)
+     * - posting을 짧은 것부터 교집합
+     */
+    private int[] match(Postings[] lists, int[] restrictTo) {
+        if (lists == null) {
+            return new int[0];
+        }
+        int[] candidates = restrictTo != null ? intersect(restrictTo, restrictTo.length, lists[0])
+                : Arrays.copyOf(lists[0].ordinals, lists[0].size);
+        for (int i = 1; i < lists.length && candidates.length > 0; i++) {
+            candidates = intersect(candidates, candidates.length, lists[i]);
+        }
+        int count = 0;
+        for (int ordinal : candidates) {
+            if (lengths[TITLE][ordinal] >= 0) {
+                candidates[count++] = ordinal;
+            }
+        }
+        return Arrays.copyOf(candidates, count);
+    }
+
+    private double[] score(int field, Postings[] lists, int[] matched) {
+        double[] scores = new double[matched.length];
+        int documentCount = ordinals.size();
+        if (matched.length == 0 || documentCount == 0) {
+            return scores;
+        }
+        double idf = Math.log(1 + (documentCount - matched.length + 0.5) / (matched.length + 0.5));
+        double averageLength = Math.max(1.0, (double) totalLengths[field] / documentCount);
+        for (int i = 0; i < matched.length; i++) {
+            int frequency = MAX_FREQUENCY;
+            for (Postings list : lists) {
+                frequency = Math.min(frequency, list.frequency(matched[i]));
+            }
+            double norm = K1 * (1 - B + B * lengths[field][matched[i]] / averageLength);
+            scores[i] = FIELD_WEIGHTS[field] * idf * frequency * (K1 + 1) / (frequency + norm);
+        }
+        return scores;
+    }
+
+    private static int[] intersect(int[] left, int leftSize, Postings right) {
+        int[] result = new int[Math.min(leftSize, right.size)];
+        int count = 0;
+        for (int i = 0, j = 0; i < leftSize && j < right.size; ) {
+            int a = left[i];
+            int b = right.ordinals[j];
+            if (a == b) {
+                result[count++] = a;
+                i++;
+                j++;
+            } else if (a < b) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    private static String normalizeQuery(String query) {
+        if (query == null || query.isBlank()) {
+            return null;
+        }
+        return NgramAnalyzer.normalize(query);
+    }
+
+    private void markDeleted(Integer ordinal) {
+        if (ordinal == null) {
+            return;
+        }
+        for (int field = 0; field < FIELD_COUNT; field++) {
+            totalLengths[field] -= lengths[field][ordinal];
+            lengths[field][ordinal] = -1;
+        }
+        deletedCount++;
+    }
+
+    /**
+     * 중복 없는 bigram(오름차순)과 각각의 출현 횟수
+     */
+    private static int[][] bigramFrequencies(String normalized) {
+        if (normalized.length() < 2) {
+            return new int[][]{new int[0], new int[0]};
+        }
+        int[] grams = new int[normalized.length() - 1];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = (normalized.charAt(i) << 16) | normalized.charAt(i + 1);
+        }
+        Arrays.sort(grams);
+        int[] counts = new int[grams.length];
+        int unique = 0;
+        for (int i = 0; i < grams.length; i++) {
+            if (i == 0 || grams[i] != grams[i - 1]) {
+                grams[unique] = grams[i];
+                counts[unique++] = 1;
+            } else {
+                counts[unique - 1]++;
+            }
+        }
+        return new int[][]{Arrays.copyOf(grams, unique), Arrays.copyOf(counts, unique)};
+    }
+
+    private static long fingerprint(String[] values) {
+        long hash = 1125899906842597L;
+        for (String value : values) {
+            for (int i = 0; i < value.length(); i++) {
+                hash = 31 * hash + value.charAt(i);
+            }
+            // 필드 경계
+            hash = 31 * hash + 0xFFFF;
+        }
+        return hash;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= ids.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, ids.length * 2);
+        ids = Arrays.copyOf(ids, newCapacity);
+        fingerprints = Arrays.copyOf(fingerprints, newCapacity);
+        for (int field = 0; field < FIELD_COUNT; field++) {
+            lengths[field] = Arrays.copyOf(lengths[field], newCapacity);
+        }
+    }
+
+    /**
+     * 오름차순 문서 번호와 문서별 bigram 출현 횟수 목록 (추가만 가능)
+     */
+    private static final class Postings {
+        private int[] ordinals = new int[4];
+        private byte[] frequencies = new byte[4];
+        private int size;
+
+        void add(int ordinal, int frequency) {
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            ordinals[size] = ordinal;
+            frequencies[size++] = (byte) Math.min(frequency, MAX_FREQUENCY);
+        }
+
+        int frequency(int ordinal) {
+            int index = Arrays.binarySearch(ordinals, 0, size, ordinal);
+            return index >= 0 ? frequencies[index] : 0;
+        }
+    }
+}
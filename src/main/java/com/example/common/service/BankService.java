@@ -3,14 +3,21 @@ package com.example.common.service;
 import java.util.List;
 import java.util.Random;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.cache.CacheNames;
+import com.example.cache.MybatisCacheInvalidator;
+import com.example.common.aop.SingleFlight;
 import com.example.common.domain.Bank;
 import com.example.common.dto.BankRequest;
 import com.example.common.dto.BankResponse;
 import com.example.common.dto.BankSearchRequest;
 import com.example.common.mapper.BankMapper;
+import com.example.common.mapper.CountryMapper;
 
 import lombok.RequiredArgsConstructor;
 
@@ -19,42 +26,58 @@ import lombok.RequiredArgsConstructor;
 public class BankService {
     
     private final BankMapper bankMapper;
+    private final MybatisCacheInvalidator mybatisCacheInvalidator;
     
     public List<BankResponse> searchBanks(BankSearchRequest searchRequest) {
         List<BankResponse> banks = bankMapper.getBankList(searchRequest);
         return banks;
     }
     
+    @SingleFlight
     public int getBankCount(BankSearchRequest searchRequest) {
         return bankMapper.getBankCount(searchRequest);
     }
     
+    @Cacheable(cacheNames = CacheNames.BANK, key = "#id", unless = "#result == null")
     public BankResponse getBankById(Long id) {
         Bank bank = bankMapper.getBankById(id);
         return bank != null ? convertToResponse(bank) : null;
     }
     
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.REMITTANCE_COUNTRIES, allEntries = true)
     public void createBank(BankRequest request) {
         Bank bank = new Bank();
         bank.setName(request.getName());
         bank.setCurrencyCode(request.getCurrencyCode());
         bank.setBankCode(generateBankCode());
         bankMapper.insertBank(bank);
+        // 송금 가능 국가 목록은 은행을 조인하므로 CountryMapper 2차 캐시도 무효화
+        mybatisCacheInvalidator.invalidate(CountryMapper.class);
     }
     
     @Transactional
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheNames.BANK, key = "#id"),
+        @CacheEvict(cacheNames = CacheNames.REMITTANCE_COUNTRIES, allEntries = true)
+    })
     public void updateBank(Long id, BankRequest request) {
         Bank bank = new Bank();
         bank.setId(id);
         bank.setName(request.getName());
         bank.setCurrencyCode(request.getCurrencyCode());
         bankMapper.updateBank(bank);
+        mybatisCacheInvalidator.invalidate(CountryMapper.class);
     }
     
     @Transactional
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheNames.BANK, key = "#id"),
+        @CacheEvict(cacheNames = CacheNames.REMITTANCE_COUNTRIES, allEntries = true)
+    })
     public void deleteBank(Long id) {
         bankMapper.deleteBank(id);
+        mybatisCacheInvalidator.invalidate(CountryMapper.class);
     }
 
     private String generateBankCode() {
@@ -0,0 +1,326 @@
+package com.example.common.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import com.example.common.domain.File;
+import com.example.common.dto.ChunkedUploadInitRequest;
+import com.example.common.dto.ChunkedUploadSession;
+import com.example.common.dto.ChunkedUploadStatusResponse;
+import com.example.context.SessionContext;
+import com.example.user.repository.UserRepository;
+
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 분할(재개 가능) 업로드 서비스
+ * - init: 세션 생성 (Redis), uploads/tmp/{uploadId}.part 생성
+ * - chunk: 요청 본문을 multipart 없이 조각 임시 파일에 받아 SHA-256 검증 후 part 파일의 해당 오프셋에 기록
+ * - complete: 모든 조각 수신 확인 후 내용 hash 계산, part 파일을 blob 위치로 이동(복사 없음)하고 파일 레코드 생성
+ * - 세션은 시작한 관리자에게 묶이며, 다른 관리자의 요청에는 세션이 없는 것으로 응답
+ * - 연결이 끊기면 status로 받은 조각을 확인하고 나머지만 다시 전송
+ * - part 파일은 로컬 디스크에 있으므로 업로드 경로가 노드 간 공유되거나 sticky 라우팅이어야 함
+ */
+@Slf4j
+@Service
+public class ChunkedUploadService {
+
+    private static final String SESSION_KEY_PREFIX = "upload:session:";
+    private static final String CHUNKS_KEY_SUFFIX = ":chunks";
+    private static final String COMPLETE_LOCK_PREFIX = "upload:complete:";
+    private static final String PART_SUFFIX = ".part";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final FileService fileService;
+    private final RedisService redisService;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final UserRepository userRepository;
+
+    @Value("${file.chunked-upload.default-chunk-size:1048576}")
+    private int defaultChunkSize;
+
+    @Value("${file.chunked-upload.max-chunk-size:8388608}")
+    private int maxChunkSize;
+
+    @Value("${file.chunked-upload.max-file-size:104857600}")
+    private long maxFileSize;
+
+    @Value("${file.chunked-upload.session-ttl:24h}")
+    private Duration sessionTtl;
+
+    public ChunkedUploadService(FileService fileService, RedisService redisService,
+                                RedisTemplate<String, Object> redisTemplate, UserRepository userRepository) {
+        this.fileService = fileService;
+        this.redisService = redisService;
+        this.redisTemplate = redisTemplate;
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * 업로드 시작
+     */
+    public ChunkedUploadStatusResponse init(ChunkedUploadInitRequest request) throws IOException {
+        Long adminId = SessionContext.getCurrentAdminId();
+        if (adminId == null) {
+            throw new IllegalStateException("로그인한 관리자만 업로드할 수 있습니다.");
+        }
+        if (request.getOriginalName() == null || request.getOriginalName().isBlank()) {
+            throw new IllegalArgumentException("파일명이 필요합니다.");
+        }
+        if (request.getUploadUserId() == null) {
+            throw new IllegalArgumentException("업로드 사용자 ID가 필요합니다.");
+        }
+        if (!userRepository.existsById(request.getUploadUserId())) {
+            throw new IllegalArgumentException("존재하지 않는 사용자입니다: " + request.getUploadUserId());
+        }
+        if (request.getFileSize() == null || request.getFileSize() <= 0 || request.getFileSize() > maxFileSize) {
+            throw new IllegalArgumentException("파일 크기가 올바르지 않습니다. (최대 " + maxFileSize + " bytes)");
+        }
+        int chunkSize = request.getChunkSize() != null ? request.getChunkSize() : defaultChunkSize;
+        if (chunkSize <= 0 || chunkSize > maxChunkSize) {
+            throw new IllegalArgumentException("조각 크기가 올바르지 않습니다. (최대 " + maxChunkSize + " bytes)");
+        }
+
+        long totalChunks = (request.getFileSize() + chunkSize - 1) / chunkSize;
+        ChunkedUploadSession session = ChunkedUploadSession.builder()
+                .uploadId(UUID.randomUUID().toString().replace("-", ""))
+                .originalName(request.getOriginalName())
+                .fileType(request.getFileType())
+                .fileSize(request.getFileSize())
+                .chunkSize(chunkSize)
+                .totalChunks((int) totalChunks)
+                .uploadUserId(request.getUploadUserId())
+                .adminId(adminId)
+                .build();
+
+        Files.createFile(partPath(session.getUploadId()));
+        saveSession(session, sessionTtl);
+        log.info("분할 업로드 시작 - UploadId: {}, AdminId: {}, Size: {}, Chunks: {}",
+                session.getUploadId(), adminId, session.getFileSize(), session.getTotalChunks());
+        return toStatus(session, List.of());
+    }
+
+    /**
+     * 조각 업로드
+     * - 조각별 임시 파일에 받아 크기/checksum을 검증한 뒤 조각 위치(index * chunkSize)에 기록
+     * - 순서와 무관하게, 같은 조각을 여러 번 보내도 안전 (검증 실패한 재전송은 기존 내용을 유지)
+     *
+     * @param checksum 조각 본문의 SHA-256 (hex)
+     */
+    public ChunkedUploadStatusResponse uploadChunk(String uploadId, int index, String checksum,
+                                                   InputStream body) throws IOException {
+        ChunkedUploadSession session = getSession(uploadId);
+        if (session.getFileId() != null) {
+            throw new IllegalStateException("이미 완료된 업로드입니다.");
+        }
+        if (index < 0 || index >= session.getTotalChunks()) {
+            throw new IllegalArgumentException("조각 번호가 올바르지 않습니다: " + index);
+        }
+        if (checksum == null || checksum.isBlank()) {
+            throw new IllegalArgumentException("조각 checksum(SHA-256)이 필요합니다.");
+        }
+
+        Path partPath = partPath(uploadId);
+        long offset = (long) index * session.getChunkSize();
+        long expectedLength = Math.min(session.getChunkSize(), session.getFileSize() - offset);
+        MessageDigest digest = FileService.newSha256();
+        long written = 0;
+
+        // 검증 전에는 part 파일을 건드리지 않음 (이미 받은 조각의 잘못된 재전송이 정상 내용을 덮어쓰지 않도록)
+        Path chunkPath = Files.createTempFile(fileService.getTempDir(), uploadId + "-" + index + "-", ".chunk");
+        try {
+            try (FileChannel channel = FileChannel.open(chunkPath, StandardOpenOption.WRITE)) {
+                byte[] buffer = new byte[BUFFER_SIZE];
+                int read;
+                while ((read = body.read(buffer)) != -1) {
+                    if (written + read > expectedLength) {
+                        throw new IllegalArgumentException("조각 크기가 예상보다 큽니다: " + index);
+                    }
+                    digest.update(buffer, 0, read);
+                    ByteBuffer byteBuffer = ByteBuffer.wrap(buffer, 0, read);
+                    while (byteBuffer.hasRemaining()) {
+                        channel.write(byteBuffer);
+                    }
+                    written += read;
+                }
+            }
+
+            if (written != expectedLength) {
+                throw new IllegalArgumentException("조각 크기가 일치하지 않습니다: " + index
+                        + " (expected " + expectedLength + ", actual " + written + ")");
+            }
+            String actual = HexFormat.of().formatHex(digest.digest());
+            if (!actual.equalsIgnoreCase(checksum.trim())) {
+                throw new IllegalArgumentException("조각 checksum이 일치하지 않습니다: " + index);
+            }
+
+            // 기록 도중 실패해도 수신 완료로 남지 않도록 먼저 수신 표시를 지우고 기록
+            redisTemplate.opsForSet().remove(chunksKey(uploadId), index);
+            copyInto(chunkPath, partPath, offset, written);
+        } finally {
+            Files.deleteIfExists(chunkPath);
+        }
+
+        String chunksKey = chunksKey(uploadId);
+        redisTemplate.opsForSet().add(chunksKey, index);
+        redisTemplate.expire(chunksKey, sessionTtl);
+        redisTemplate.expire(sessionKey(uploadId), sessionTtl);
+        return toStatus(session, receivedChunks(uploadId));
+    }
+
+    /**
+     * 업로드 상태 조회 (재개용)
+     */
+    public ChunkedUploadStatusResponse getStatus(String uploadId) {
+        ChunkedUploadSession session = getSession(uploadId);
+        return toStatus(session, session.getFileId() != null ? List.of() : receivedChunks(uploadId));
+    }
+
+    /**
+     * 업로드 완료
+     * - 재시도 시 이미 생성된 파일을 그대로 반환 (중복 레코드 없음)
+     */
+    public File complete(String uploadId) throws IOException {
+        // 다른 관리자가 완료 락을 잡아 두지 못하도록 소유자부터 확인
+        getSession(uploadId);
+        String lockToken = redisService.tryLock(COMPLETE_LOCK_PREFIX + uploadId, Duration.ofMinutes(5));
+        if (lockToken == null) {
+            throw new IllegalStateException("업로드 완료 처리가 진행 중입니다.");
+        }
+        try {
+            ChunkedUploadSession session = getSession(uploadId);
+            if (session.getFileId() != null) {
+                File existing = fileService.getFileById(session.getFileId());
+                if (existing != null) {
+                    return existing;
+                }
+            }
+
+            List<Integer> received = receivedChunks(uploadId);
+            if (received.size() != session.getTotalChunks()) {
+                throw new IllegalStateException("수신되지 않은 조각이 있습니다. ("
+                        + received.size() + "/" + session.getTotalChunks() + ")");
+            }
+
+            Path partPath = partPath(uploadId);
+            if (Files.size(partPath) != session.getFileSize()) {
+                throw new IllegalStateException("업로드된 파일 크기가 일치하지 않습니다.");
+            }
+
+            File file = fileService.createFileRecord(partPath, hash(partPath), null, session.getOriginalName(),
+                    session.getFileSize(), session.getFileType(), session.getUploadUserId());
+            // 같은 내용의 blob이 이미 있으면 part 파일은 이동되지 않고 남음
+            Files.deleteIfExists(partPath);
+
+            session.setFileId(file.getId());
+            saveSession(session, Duration.ofHours(1));
+            redisTemplate.delete(chunksKey(uploadId));
+            log.info("분할 업로드 완료 - UploadId: {}, FileId: {}", uploadId, file.getId());
+            return file;
+        } finally {
+            redisService.unlock(COMPLETE_LOCK_PREFIX + uploadId, lockToken);
+        }
+    }
+
+    private void copyInto(Path chunkPath, Path partPath, long offset, long length) throws IOException {
+        try (FileChannel source = FileChannel.open(chunkPath, StandardOpenOption.READ);
+             FileChannel target = FileChannel.open(partPath, StandardOpenOption.WRITE)) {
+            long copied = 0;
+            while (copied < length) {
+                long transferred = target.transferFrom(source, offset + copied, length - copied);
+                if (transferred <= 0) {
+                    throw new IOException("조각 기록 실패: " + partPath);
+                }
+                copied += transferred;
+            }
+        }
+    }
+
+    private String hash(Path path) throws IOException {
+        MessageDigest digest = FileService.newSha256();
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * 현재 관리자가 시작한 업로드 세션 (다른 관리자의 세션은 존재를 드러내지 않도록 없는 것으로 처리)
+     */
+    private ChunkedUploadSession getSession(String uploadId) {
+        Object session = redisTemplate.opsForValue().get(sessionKey(uploadId));
+        if (!(session instanceof ChunkedUploadSession chunkedUploadSession)) {
+            throw new EntityNotFoundException("업로드 세션을 찾을 수 없습니다: " + uploadId);
+        }
+        Long adminId = SessionContext.getCurrentAdminId();
+        if (adminId == null || !adminId.equals(chunkedUploadSession.getAdminId())) {
+            log.warn("다른 관리자의 업로드 세션 접근 거부 - UploadId: {}, AdminId: {}", uploadId, adminId);
+            throw new EntityNotFoundException("업로드 세션을 찾을 수 없습니다: " + uploadId);
+        }
+        return chunkedUploadSession;
+    }
+
+    private void saveSession(ChunkedUploadSession session, Duration ttl) {
+        redisTemplate.opsForValue().set(sessionKey(session.getUploadId()), session, ttl);
+    }
+
+    private List<Integer> receivedChunks(String uploadId) {
+        Set<Object> members = redisTemplate.opsForSet().members(chunksKey(uploadId));
+        if (members == null) {
+            return List.of();
+        }
+        return members.stream()
+                .filter(Objects::nonNull)
+                .map(member -> ((Number) member).intValue())
+                .sorted()
+                .toList();
+    }
+
+    private ChunkedUploadStatusResponse toStatus(ChunkedUploadSession session, List<Integer> receivedChunks) {
+        return ChunkedUploadStatusResponse.builder()
+                .uploadId(session.getUploadId())
+                .fileSize(session.getFileSize())
+                .chunkSize(session.getChunkSize())
+                .totalChunks(session.getTotalChunks())
+                .receivedChunks(receivedChunks)
+                .fileId(session.getFileId())
+                .build();
+    }
+
+    private Path partPath(String uploadId) throws IOException {
+        // uploadId는 서버가 만든 hex 문자열만 허용 (경로 조작 방지)
+        if (!uploadId.matches("[0-9a-f]{32}")) {
+            throw new EntityNotFoundException("업로드 세션을 찾을 수 없습니다: " + uploadId);
+        }
+        return fileService.getTempDir().resolve(uploadId + PART_SUFFIX);
+    }
+
+    private String sessionKey(String uploadId) {
+        return SESSION_KEY_PREFIX + uploadId;
+    }
+
+    private String chunksKey(String uploadId) {
+        return SESSION_KEY_PREFIX + uploadId + CHUNKS_KEY_SUFFIX;
+    }
+}
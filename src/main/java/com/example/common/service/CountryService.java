@@ -1,13 +1,20 @@
 package com.example.common.service;
 
+import com.example.cache.CacheNames;
+import com.example.cache.MybatisCacheInvalidator;
+import com.example.common.aop.SingleFlight;
 import com.example.common.domain.Country;
 import com.example.common.dto.CountryRequest;
 import com.example.common.dto.CountryResponse;
 import com.example.common.dto.CountrySearchRequest;
+import com.example.common.mapper.BankMapper;
 import com.example.common.mapper.CountryMapper;
 import com.example.common.repository.CountryRepository;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,6 +27,7 @@ public class CountryService {
     
     private final CountryMapper countryMapper;
     private final CountryRepository countryRepository;
+    private final MybatisCacheInvalidator mybatisCacheInvalidator;
     
     public List<CountryResponse> searchCountries(CountrySearchRequest searchRequest) {
         List<Country> countries = countryMapper.getCountryList(searchRequest);
@@ -28,15 +36,18 @@ public class CountryService {
                 .collect(Collectors.toList());
     }
     
+    @SingleFlight
     public int getCountryCount(CountrySearchRequest searchRequest) {
         return countryMapper.getCountryCount(searchRequest);
     }
     
+    @Cacheable(cacheNames = CacheNames.COUNTRY, key = "#code", unless = "#result == null")
     public CountryResponse getCountryByCode(String code) {
         Country country = countryMapper.getCountryByCode(code);
         return country != null ? convertToResponse(country) : null;
     }
     
+    @Cacheable(cacheNames = CacheNames.COUNTRIES)
     public List<CountryResponse> getAllCountries() {
         List<Country> countries = countryRepository.findAll();
         return countries.stream()
@@ -45,6 +56,10 @@ public class CountryService {
     }
     
     @Transactional
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheNames.COUNTRY, key = "#request.code"),
+        @CacheEvict(cacheNames = CacheNames.COUNTRIES, allEntries = true)
+    })
     public void createCountry(CountryRequest request) {
         Country country = Country.builder()
                 .code(request.getCode())
@@ -56,6 +71,11 @@ public class CountryService {
     }
     
     @Transactional
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheNames.COUNTRY, key = "#code"),
+        @CacheEvict(cacheNames = CacheNames.COUNTRIES, allEntries = true),
+        @CacheEvict(cacheNames = CacheNames.REMITTANCE_COUNTRIES, allEntries = true)
+    })
     public void updateCountry(String code, CountryRequest request) {
         Country country = Country.builder()
                 .code(code)
@@ -64,11 +84,19 @@ public class CountryService {
                 .build();
         
         countryMapper.updateCountry(country);
+        // 은행 목록은 국가명을 조인하므로 BankMapper 2차 캐시도 무효화
+        mybatisCacheInvalidator.invalidate(BankMapper.class);
     }
     
     @Transactional
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheNames.COUNTRY, key = "#code"),
+        @CacheEvict(cacheNames = CacheNames.COUNTRIES, allEntries = true),
+        @CacheEvict(cacheNames = CacheNames.REMITTANCE_COUNTRIES, allEntries = true)
+    })
     public void deleteCountry(String code) {
         countryMapper.deleteCountry(code);
+        mybatisCacheInvalidator.invalidate(BankMapper.class);
     }
     
     private CountryResponse convertToResponse(Country country) {
@@ -79,6 +107,7 @@ public class CountryService {
                 .build();
     }
 
+    @Cacheable(cacheNames = CacheNames.REMITTANCE_COUNTRIES)
     public List<CountryResponse> getRemittanceCountries() {
         return countryRepository.findRemittanceCountries();
     }
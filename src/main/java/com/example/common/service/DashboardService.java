@@ -14,6 +14,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.List;
 
 @Service
@@ -21,12 +22,24 @@ import java.util.List;
 @Slf4j
 public class DashboardService {
 
+    private static final String DASHBOARD_STATS_KEY = "dashboard:stats";
+    private static final Duration DASHBOARD_STATS_TTL = Duration.ofSeconds(60);
+
     private final DashboardMapper dashboardMapper;
+    private final RedisService redisService;
+    private final SingleFlightService singleFlightService;
 
     /**
      * 대시보드 통합 통계 조회
+     * - 여러 노드/관리자가 동시에 만료된 통계를 재계산하지 않도록 getOrCompute 사용
+     * - 같은 노드 안의 동시 재계산은 single-flight로 병합
      */
     public DashboardStatsResponse getDashboardStats() {
+        return redisService.getOrCompute(DASHBOARD_STATS_KEY, DASHBOARD_STATS_TTL,
+                () -> singleFlightService.execute("DashboardService.getDashboardStats", this::loadDashboardStats));
+    }
+
+    private DashboardStatsResponse loadDashboardStats() {
 
         try {
             // 송금 통계
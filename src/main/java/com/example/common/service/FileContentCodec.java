@@ -0,0 +1,72 @@
+package com.example.common.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 저장 파일 압축 코덱 (file.content_encoding)
+ * - null: 원본 그대로 저장
+ * - gzip: GZIP 압축 저장, blob 이름에 .gz 접미사
+ * - 값은 HTTP Content-Encoding 토큰과 같으므로 클라이언트가 지원하면 그대로 전달 가능
+ */
+public final class FileContentCodec {
+
+    public static final String GZIP = "gzip";
+
+    private static final String GZIP_SUFFIX = ".gz";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private FileContentCodec() {
+    }
+
+    /**
+     * 저장 파일명 접미사
+     */
+    public static String suffix(String contentEncoding) {
+        return GZIP.equals(contentEncoding) ? GZIP_SUFFIX : "";
+    }
+
+    /**
+     * blob 파일명에서 내용 hash 추출 (접미사 제거)
+     */
+    public static String stripSuffix(String fileName) {
+        return fileName.endsWith(GZIP_SUFFIX) ? fileName.substring(0, fileName.length() - GZIP_SUFFIX.length()) : fileName;
+    }
+
+    /**
+     * 원본 내용을 읽는 스트림 (압축 파일은 스트리밍 해제)
+     */
+    public static InputStream openDecoded(Path path, String contentEncoding) throws IOException {
+        InputStream inputStream = Files.newInputStream(path);
+        if (GZIP.equals(contentEncoding)) {
+            try {
+                return new GZIPInputStream(inputStream, BUFFER_SIZE);
+            } catch (IOException e) {
+                inputStream.close();
+                throw e;
+            }
+        }
+        return inputStream;
+    }
+
+    /**
+     * 지정한 코덱으로 기록하는 스트림
+     */
+    public static OutputStream openEncoded(Path path, String contentEncoding) throws IOException {
+        OutputStream outputStream = Files.newOutputStream(path);
+        if (GZIP.equals(contentEncoding)) {
+            try {
+                return new GZIPOutputStream(outputStream, BUFFER_SIZE);
+            } catch (IOException e) {
+                outputStream.close();
+                throw e;
+            }
+        }
+        return outputStream;
+    }
+}
@@ -0,0 +1,390 @@
+package com.example.common.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import com.example.common.domain.File;
+import com.example.common.repository.FileRepository;
+import com.example.common.storage.FileStorage;
+import com.example.common.storage.StoredObject;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 파일 저장소 고아 파일 정리 (증분 실행)
+ * - 저장소 -> DB: 저장소를 키 순으로 배치 단위 조회, 레코드가 참조하지 않는 파일은 quarantine으로 이동
+ *   (원본이 없는 미리보기는 파생 데이터이므로 바로 삭제)
+ * - 로컬 임시 디렉토리의 오래된 업로드 잔여물은 바로 삭제
+ * - DB -> 저장소: 파일 레코드를 ID 순으로 배치 확인, 실제 파일이 없으면 quarantine에서 복구하거나 누락으로 집계
+ * - quarantine 보관 기간이 지난 파일은 다시 참조 여부 확인 후 삭제 (참조되면 복구)
+ * - 진행 위치(checkpoint)는 Redis에 저장하여 재시작/다른 노드에서 이어서 진행
+ * - 초당 처리 파일 수 제한으로 디스크 I/O와 DB 부하를 평탄화
+ */
+@Slf4j
+@Service
+public class FileGarbageCollector {
+
+    static final String QUARANTINE_DIR = "quarantine";
+
+    private static final String STORAGE_CHECKPOINT_KEY = "file:gc:checkpoint:storage";
+    private static final String DB_CHECKPOINT_KEY = "file:gc:checkpoint:db";
+    private static final String LOCK_KEY = "file:gc:lock";
+
+    private final FileService fileService;
+    private final FilePreviewService filePreviewService;
+    private final FileRepository fileRepository;
+    private final FileStorage fileStorage;
+    private final RedisService redisService;
+
+    private final Counter reclaimedBytes;
+    private final Counter quarantinedFiles;
+    private final Counter deletedFiles;
+    private final Counter restoredFiles;
+    private final Counter missingFiles;
+
+    @Value("${file.gc.batch-size:500}")
+    private int batchSize;
+
+    @Value("${file.gc.max-batches-per-run:10}")
+    private int maxBatchesPerRun;
+
+    @Value("${file.gc.max-files-per-second:200}")
+    private int maxFilesPerSecond;
+
+    // 업로드 직후 파일과 경합하지 않도록 최근 수정된 파일은 건너뜀
+    @Value("${file.gc.min-age:1h}")
+    private Duration minAge;
+
+    // 분할 업로드 세션 TTL(24h)보다 길게
+    @Value("${file.gc.tmp-max-age:48h}")
+    private Duration tmpMaxAge;
+
+    @Value("${file.gc.quarantine-retention:7d}")
+    private Duration quarantineRetention;
+
+    public FileGarbageCollector(FileService fileService,
+                                FilePreviewService filePreviewService,
+                                FileRepository fileRepository,
+                                FileStorage fileStorage,
+                                RedisService redisService,
+                                MeterRegistry meterRegistry) {
+        this.fileService = fileService;
+        this.filePreviewService = filePreviewService;
+        this.fileRepository = fileRepository;
+        this.fileStorage = fileStorage;
+        this.redisService = redisService;
+        this.reclaimedBytes = Counter.builder("file.gc.reclaimed")
+                .description("고아 파일 정리로 회수한 디스크 용량")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.quarantinedFiles = fileCounter(meterRegistry, "quarantined");
+        this.deletedFiles = fileCounter(meterRegistry, "deleted");
+        this.restoredFiles = fileCounter(meterRegistry, "restored");
+        this.missingFiles = fileCounter(meterRegistry, "missing");
+    }
+
+    private Counter fileCounter(MeterRegistry meterRegistry, String action) {
+        return Counter.builder("file.gc.files")
+                .description("고아 파일 정리 처리 수")
+                .tag("action", action)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 1회 실행 (최대 maxBatchesPerRun 배치)
+     * - 여러 노드 중 한 곳에서만 실행
+     */
+    public void run() {
+        String lockToken = redisService.tryLock(LOCK_KEY, Duration.ofMinutes(30));
+        if (lockToken == null) {
+            log.debug("다른 노드에서 고아 파일 정리 실행 중");
+            return;
+        }
+        try {
+            Pacer pacer = new Pacer(maxFilesPerSecond);
+            for (int i = 0; i < maxBatchesPerRun; i++) {
+                if (!reconcileStorageBatch(pacer)) {
+                    break;
+                }
+            }
+            sweepTempDir();
+            reconcileDbBatch(pacer);
+            purgeQuarantine(pacer);
+        } catch (IOException e) {
+            throw new UncheckedIOException("고아 파일 정리 실패", e);
+        } finally {
+            redisService.unlock(LOCK_KEY, lockToken);
+        }
+    }
+
+    /**
+     * 저장소 -> DB 배치 1회
+     *
+     * @return 이어서 처리할 파일이 남아 있으면 true
+     */
+    private boolean reconcileStorageBatch(Pacer pacer) throws IOException {
+        Object value = redisService.get(STORAGE_CHECKPOINT_KEY);
+        String checkpoint = value != null ? value.toString() : "";
+
+        List<StoredObject> batch = fileStorage.list("", checkpoint, batchSize);
+        if (batch.isEmpty()) {
+            // 한 바퀴 완료, 다음 실행은 처음부터
+            redisService.delete(STORAGE_CHECKPOINT_KEY);
+            log.info("고아 파일 정리: 저장소 전체 확인 완료");
+            return false;
+        }
+
+        Instant cutoff = Instant.now().minus(minAge);
+        List<StoredObject> blobs = new ArrayList<>();
+        List<StoredObject> legacyFiles = new ArrayList<>();
+        for (StoredObject object : batch) {
+            String key = object.getKey();
+            if (key.startsWith(FileService.TEMP_DIR + "/") || key.startsWith(QUARANTINE_DIR + "/")
+                    || object.getLastModified().isAfter(cutoff)) {
+                continue;
+            }
+            String sourceKey = filePreviewService.sourceKeyOf(key);
+            if (sourceKey != null) {
+                if (!fileStorage.exists(sourceKey)) {
+                    delete(object);
+                }
+            } else if (key.startsWith(FileService.BLOB_DIR + "/")) {
+                blobs.add(object);
+            } else {
+                legacyFiles.add(object);
+            }
+        }
+
+        quarantineUnreferencedBlobs(blobs);
+        quarantineUnreferencedLegacyFiles(legacyFiles);
+
+        redisService.set(STORAGE_CHECKPOINT_KEY, batch.get(batch.size() - 1).getKey());
+        pacer.acquire(batch.size());
+        return batch.size() >= batchSize;
+    }
+
+    private void quarantineUnreferencedBlobs(List<StoredObject> blobs) {
+        if (blobs.isEmpty()) {
+            return;
+        }
+        List<String> hashes = blobs.stream().map(blob -> contentHashOf(blob.getKey())).distinct().toList();
+        Set<String> referenced = new HashSet<>(fileRepository.findReferencedContentHashes(hashes));
+        for (StoredObject blob : blobs) {
+            String hash = contentHashOf(blob.getKey());
+            if (referenced.contains(hash)) {
+                continue;
+            }
+            // 같은 hash 업로드와 경합하지 않도록 잠금 후 다시 확인 (잠금을 얻지 못하면 다음 주기에 다시 확인)
+            String lockToken = fileService.lockBlob(hash);
+            if (lockToken == null) {
+                log.debug("blob 잠금 획득 실패, 건너뜀 - Hash: {}", hash);
+                continue;
+            }
+            try {
+                if (fileRepository.countByContentHash(hash) == 0) {
+                    quarantine(blob.getKey());
+                    filePreviewService.deleteRenditions(blob.getKey());
+                }
+            } finally {
+                fileService.unlockBlob(hash, lockToken);
+            }
+        }
+    }
+
+    private void quarantineUnreferencedLegacyFiles(List<StoredObject> legacyFiles) {
+        if (legacyFiles.isEmpty()) {
+            return;
+        }
+        List<String> storedNames = legacyFiles.stream().map(StoredObject::getKey).toList();
+        Set<String> referenced = new HashSet<>(fileRepository.findReferencedStoredNames(storedNames));
+        for (StoredObject object : legacyFiles) {
+            if (!referenced.contains(object.getKey())) {
+                quarantine(object.getKey());
+                filePreviewService.deleteRenditions(object.getKey());
+            }
+        }
+    }
+
+    /**
+     * DB -> 저장소 배치 1회: 실제 파일이 없는 레코드 확인
+     */
+    private void reconcileDbBatch(Pacer pacer) throws IOException {
+        Object value = redisService.get(DB_CHECKPOINT_KEY);
+        long lastId = value instanceof Number number ? number.longValue() : 0L;
+
+        List<File> files = fileRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, batchSize));
+        if (files.isEmpty()) {
+            redisService.delete(DB_CHECKPOINT_KEY);
+            return;
+        }
+        for (File file : files) {
+            // content-addressed 파일은 내려받지 않고 존재 여부만 확인
+            boolean present = file.getContentHash() != null
+                    ? fileStorage.exists(file.getStoredName())
+                    : fileService.resolveFilePath(file) != null;
+            if (!present && !restore(file.getStoredName())) {
+                missingFiles.increment();
+                log.warn("파일 레코드의 실제 파일 없음 - FileId: {}, StoredName: {}", file.getId(), file.getStoredName());
+            }
+        }
+        redisService.set(DB_CHECKPOINT_KEY, files.get(files.size() - 1).getId());
+        pacer.acquire(files.size());
+    }
+
+    /**
+     * 보관 기간이 지난 quarantine 파일 삭제 (그 사이 다시 참조되면 복구)
+     */
+    private void purgeQuarantine(Pacer pacer) throws IOException {
+        String prefix = QUARANTINE_DIR + "/";
+        Instant cutoff = Instant.now().minus(quarantineRetention);
+        List<StoredObject> expired = new ArrayList<>();
+        String startAfter = "";
+        while (expired.size() < batchSize) {
+            List<StoredObject> page = fileStorage.list(prefix, startAfter, batchSize);
+            for (StoredObject object : page) {
+                if (object.getLastModified().isBefore(cutoff) && expired.size() < batchSize) {
+                    expired.add(object);
+                }
+            }
+            pacer.acquire(page.size());
+            if (page.size() < batchSize) {
+                break;
+            }
+            startAfter = page.get(page.size() - 1).getKey();
+        }
+
+        for (StoredObject object : expired) {
+            String storedName = object.getKey().substring(prefix.length());
+            boolean referenced = storedName.startsWith(FileService.BLOB_DIR + "/")
+                    ? fileRepository.countByContentHash(contentHashOf(storedName)) > 0
+                    : !fileRepository.findReferencedStoredNames(List.of(storedName)).isEmpty();
+            if (referenced) {
+                restore(storedName);
+            } else {
+                delete(object);
+            }
+        }
+    }
+
+    /**
+     * 오래된 업로드 잔여물 삭제 (임시 디렉토리는 저장소 종류와 관계없이 로컬)
+     */
+    private void sweepTempDir() throws IOException {
+        Path tempDir = fileService.getTempDir();
+        Instant cutoff = Instant.now().minus(tmpMaxAge);
+        List<Path> expired;
+        try (Stream<Path> stream = Files.list(tempDir)) {
+            expired = stream.filter(path -> {
+                        try {
+                            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+                            return attributes.isRegularFile() && attributes.lastModifiedTime().toInstant().isBefore(cutoff);
+                        } catch (IOException e) {
+                            return false;
+                        }
+                    })
+                    .toList();
+        }
+        for (Path path : expired) {
+            try {
+                long size = Files.size(path);
+                if (Files.deleteIfExists(path)) {
+                    deletedFiles.increment();
+                    reclaimedBytes.increment(size);
+                }
+            } catch (IOException e) {
+                log.warn("임시 파일 삭제 실패 - Path: {}, Error: {}", path, e.getMessage());
+            }
+        }
+    }
+
+    private void quarantine(String key) {
+        try {
+            // 이동 시 수정 시각이 갱신되어 quarantine 시각 기준으로 보관 기간 계산
+            fileStorage.move(key, QUARANTINE_DIR + "/" + key);
+            quarantinedFiles.increment();
+            log.info("고아 파일 quarantine - Key: {}", key);
+        } catch (IOException e) {
+            log.warn("고아 파일 quarantine 실패 - Key: {}, Error: {}", key, e.getMessage());
+        }
+    }
+
+    private boolean restore(String storedName) {
+        if (storedName == null) {
+            return false;
+        }
+        try {
+            String quarantineKey = QUARANTINE_DIR + "/" + storedName;
+            if (!fileStorage.exists(quarantineKey)) {
+                return false;
+            }
+            fileStorage.move(quarantineKey, storedName);
+            restoredFiles.increment();
+            log.warn("quarantine 파일 복구 - StoredName: {}", storedName);
+            return true;
+        } catch (IOException e) {
+            log.warn("quarantine 파일 복구 실패 - StoredName: {}, Error: {}", storedName, e.getMessage());
+            return false;
+        }
+    }
+
+    private void delete(StoredObject object) {
+        try {
+            fileStorage.delete(object.getKey());
+            deletedFiles.increment();
+            reclaimedBytes.increment(object.getSize());
+        } catch (IOException e) {
+            log.warn("고아 파일 삭제 실패 - Key: {}, Error: {}", object.getKey(), e.getMessage());
+        }
+    }
+
+    /**
+     * blob 키에서 내용 hash 추출 (압축 저장 접미사 제거)
+     */
+    private String contentHashOf(String blobKey) {
+        return FileContentCodec.stripSuffix(blobKey.substring(blobKey.lastIndexOf('/') + 1));
+    }
+
+    /**
+     * 초당 처리 수 제한 (누적 처리 수 기준으로 앞선 만큼 대기)
+     */
+    private static class Pacer {
+
+        private final long startNanos = System.nanoTime();
+        private final int permitsPerSecond;
+        private long permits;
+
+        Pacer(int permitsPerSecond) {
+            this.permitsPerSecond = Math.max(1, permitsPerSecond);
+        }
+
+        void acquire(int count) {
+            permits += count;
+            long expectedNanos = permits * 1_000_000_000L / permitsPerSecond;
+            long aheadNanos = expectedNanos - (System.nanoTime() - startNanos);
+            if (aheadNanos > 0) {
+                try {
+                    Thread.sleep(aheadNanos / 1_000_000, (int) (aheadNanos % 1_000_000));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+}
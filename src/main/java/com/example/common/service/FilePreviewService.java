@@ -0,0 +1,376 @@
+package com.example.common.service;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.rendering.ImageType;
+import org.apache.pdfbox.rendering.PDFRenderer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+
+import com.example.common.storage.FileStorage;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 파일 미리보기(rendition) 생성 서비스
+ * - 이미지: 축소 JPEG, PDF: 첫 페이지를 렌더링한 뒤 축소 JPEG
+ * - 저장소에 {원본 키}.{type}.jpg 로 저장 (content-addressed blob이면 같은 내용끼리 공유)
+ * - 원본은 로컬 경로(원격 저장소면 디스크 캐시)에서 읽음
+ * - 업로드 직후 filePreviewExecutor에서 생성하고, 큐 포화 등으로 없으면 조회 시 다시 백그라운드 생성 요청
+ * - 생성은 항상 filePreviewExecutor에서만 수행, 같은 원본의 동시 요청은 하나의 작업으로 합침
+ */
+@Slf4j
+@Service
+public class FilePreviewService {
+
+    /**
+     * 미리보기 종류 (URL 경로 이름)
+     */
+    public enum RenditionType {
+        THUMBNAIL("thumbnail"),
+        PREVIEW("preview");
+
+        private final String pathName;
+
+        RenditionType(String pathName) {
+            this.pathName = pathName;
+        }
+
+        public String getPathName() {
+            return pathName;
+        }
+
+        public static RenditionType fromPathName(String pathName) {
+            for (RenditionType type : values()) {
+                if (type.pathName.equalsIgnoreCase(pathName)) {
+                    return type;
+                }
+            }
+            return null;
+        }
+    }
+
+    public static final String RENDITION_CONTENT_TYPE = "image/jpeg";
+
+    private static final String PDF_CONTENT_TYPE = "application/pdf";
+    private static final float JPEG_QUALITY = 0.8f;
+    private static final float MAX_PDF_DPI = 150f;
+    private static final Duration FAILURE_TTL = Duration.ofMinutes(10);
+
+    private final TaskExecutor filePreviewExecutor;
+    private final FileStorage fileStorage;
+    private final MeterRegistry meterRegistry;
+
+    // 큐에 올라가 있거나 생성 중인 원본 키 (중복 작업 방지)
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+
+    // 생성에 실패한 원본 키 (조회마다 재시도하지 않도록 일정 시간 기억)
+    private final Cache<String, Boolean> failedSources = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(FAILURE_TTL)
+            .build();
+
+    @Value("${file.upload.path:uploads}")
+    private String uploadPath;
+
+    @Value("${file.preview.thumbnail-size:320}")
+    private int thumbnailSize;
+
+    @Value("${file.preview.preview-size:1280}")
+    private int previewSize;
+
+    public FilePreviewService(@Qualifier("filePreviewExecutor") TaskExecutor filePreviewExecutor,
+                              FileStorage fileStorage,
+                              MeterRegistry meterRegistry) {
+        this.filePreviewExecutor = filePreviewExecutor;
+        this.fileStorage = fileStorage;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 미리보기 생성 가능 여부 (PDF 또는 ImageIO가 읽을 수 있는 이미지)
+     */
+    public boolean supports(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        if (PDF_CONTENT_TYPE.equals(contentType)) {
+            return true;
+        }
+        return contentType.startsWith("image/") && ImageIO.getImageReadersByMIMEType(contentType).hasNext();
+    }
+
+    /**
+     * 백그라운드 생성 요청 (업로드 직후 호출)
+     * - 큐가 가득 차면 버리고 조회 시 다시 요청
+     */
+    public void schedule(String sourceKey, Path source, String contentType, String contentEncoding) {
+        if (source == null || !supports(contentType) || allRenditionsExist(sourceKey)) {
+            return;
+        }
+        submit(sourceKey, source, contentType, contentEncoding);
+    }
+
+    /**
+     * 생성된 미리보기 파일 조회 (요청 스레드에서 생성하지 않음)
+     *
+     * @return 미리보기 로컬 경로, 아직 없으면 null
+     */
+    public Path getRendition(String sourceKey, RenditionType type) {
+        try {
+            return fileStorage.getLocalPath(renditionKey(sourceKey, type));
+        } catch (IOException e) {
+            log.warn("미리보기 조회 실패 - Source: {}, Type: {}, Error: {}", sourceKey, type, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 조회 시 미리보기가 없을 때 백그라운드 생성 요청
+     * - 이미 생성 중이면 새 작업을 만들지 않음
+     *
+     * @return 생성 중(또는 곧 생성될 예정)이면 true, 지원하지 않는 형식이거나 최근 생성에 실패했으면 false
+     */
+    public boolean requestRendition(String sourceKey, Path source, String contentType, String contentEncoding) {
+        if (source == null || !supports(contentType) || failedSources.getIfPresent(sourceKey) != null) {
+            return false;
+        }
+        submit(sourceKey, source, contentType, contentEncoding);
+        return true;
+    }
+
+    /**
+     * 원본 삭제 시 미리보기 파일도 삭제
+     */
+    public void deleteRenditions(String sourceKey) {
+        for (RenditionType type : RenditionType.values()) {
+            try {
+                fileStorage.delete(renditionKey(sourceKey, type));
+            } catch (IOException e) {
+                log.warn("미리보기 삭제 실패 - Source: {}, Type: {}, Error: {}", sourceKey, type, e.getMessage());
+            }
+        }
+    }
+
+    public String renditionKey(String sourceKey, RenditionType type) {
+        return sourceKey + "." + type.getPathName() + ".jpg";
+    }
+
+    /**
+     * 미리보기 키면 원본 키, 아니면 null
+     */
+    public String sourceKeyOf(String key) {
+        for (RenditionType type : RenditionType.values()) {
+            String suffix = "." + type.getPathName() + ".jpg";
+            if (key.endsWith(suffix) && key.length() > suffix.length()) {
+                return key.substring(0, key.length() - suffix.length());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * filePreviewExecutor에 생성 작업 등록 (원본 키당 하나만 큐에 올림)
+     */
+    private void submit(String sourceKey, Path source, String contentType, String contentEncoding) {
+        if (!pending.add(sourceKey)) {
+            return;
+        }
+        try {
+            filePreviewExecutor.execute(() -> {
+                try {
+                    if (!generate(sourceKey, source, contentType, contentEncoding)) {
+                        failedSources.put(sourceKey, Boolean.TRUE);
+                    }
+                } catch (Exception e) {
+                    failedSources.put(sourceKey, Boolean.TRUE);
+                    log.warn("미리보기 생성 실패 - Source: {}, Error: {}", sourceKey, e.getMessage());
+                } finally {
+                    pending.remove(sourceKey);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            pending.remove(sourceKey);
+            log.debug("미리보기 작업 큐 포화, 다음 조회 시 재요청 - Source: {}", sourceKey);
+        }
+    }
+
+    private boolean allRenditionsExist(String sourceKey) {
+        try {
+            for (RenditionType type : RenditionType.values()) {
+                if (!fileStorage.exists(renditionKey(sourceKey, type))) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 가장 큰 미리보기 크기로 한 번만 디코딩/렌더링한 뒤 각 크기로 축소
+     *
+     * @return 원본을 읽을 수 없어 생성하지 못했으면 false
+     */
+    private boolean generate(String sourceKey, Path source, String contentType, String contentEncoding) throws IOException {
+        String kind = PDF_CONTENT_TYPE.equals(contentType) ? "pdf" : "image";
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result = "success";
+        try {
+            int maxSize = Math.max(thumbnailSize, previewSize);
+            BufferedImage base = "pdf".equals(kind)
+                    ? renderFirstPage(source, contentEncoding, maxSize)
+                    : readImage(source, contentEncoding, maxSize);
+            if (base == null) {
+                result = "unsupported";
+                return false;
+            }
+            writeRendition(sourceKey, RenditionType.PREVIEW, scale(base, previewSize));
+            writeRendition(sourceKey, RenditionType.THUMBNAIL, scale(base, thumbnailSize));
+            return true;
+        } catch (IOException | RuntimeException e) {
+            result = "failure";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("file.preview.generation")
+                    .description("미리보기 생성 시간")
+                    .tag("kind", kind)
+                    .tag("result", result)
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 이미지 읽기
+     * - 원본이 목표 크기보다 훨씬 크면 subsampling으로 디코딩하여 전체 해상도를 메모리에 올리지 않음
+     */
+    private BufferedImage readImage(Path source, String contentEncoding, int targetSize) throws IOException {
+        try (InputStream content = FileContentCodec.openDecoded(source, contentEncoding);
+             ImageInputStream input = ImageIO.createImageInputStream(content)) {
+            if (input == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                int subsampling = Math.max(1, Math.max(width, height) / (targetSize * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * PDF 첫 페이지 렌더링 (긴 변이 목표 크기 정도가 되는 DPI, 최대 150 DPI)
+     */
+    private BufferedImage renderFirstPage(Path source, String contentEncoding, int targetSize) throws IOException {
+        try (PDDocument document = loadPdf(source, contentEncoding)) {
+            if (document.getNumberOfPages() == 0) {
+                return null;
+            }
+            PDPage page = document.getPage(0);
+            float longestSidePt = Math.max(page.getCropBox().getWidth(), page.getCropBox().getHeight());
+            float dpi = Math.min(MAX_PDF_DPI, targetSize * 72f / Math.max(1f, longestSidePt));
+            return new PDFRenderer(document).renderImageWithDPI(0, dpi, ImageType.RGB);
+        }
+    }
+
+    /**
+     * 압축 저장 PDF는 스트림으로 읽고, 원본 그대로면 파일에서 직접 읽음 (임의 접근)
+     */
+    private PDDocument loadPdf(Path source, String contentEncoding) throws IOException {
+        if (contentEncoding == null) {
+            return PDDocument.load(source.toFile(), MemoryUsageSetting.setupTempFileOnly());
+        }
+        try (InputStream content = FileContentCodec.openDecoded(source, contentEncoding)) {
+            return PDDocument.load(content, MemoryUsageSetting.setupTempFileOnly());
+        }
+    }
+
+    /**
+     * 긴 변 기준 축소 (확대하지 않음), 투명 배경은 흰색으로 채움
+     */
+    private BufferedImage scale(BufferedImage image, int maxSize) {
+        double ratio = Math.min(1.0, (double) maxSize / Math.max(image.getWidth(), image.getHeight()));
+        int width = Math.max(1, (int) Math.round(image.getWidth() * ratio));
+        int height = Math.max(1, (int) Math.round(image.getHeight() * ratio));
+
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return scaled;
+    }
+
+    /**
+     * 로컬 임시 파일에 기록 후 저장소에 올려, 조회 중에 쓰다 만 파일이 보이지 않도록 함
+     */
+    private void writeRendition(String sourceKey, RenditionType type, BufferedImage image) throws IOException {
+        Path tempDir = Paths.get(uploadPath, FileService.TEMP_DIR);
+        Files.createDirectories(tempDir);
+        Path temp = Files.createTempFile(tempDir, "rendition-", ".tmp");
+        try {
+            ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+            try (ImageOutputStream output = ImageIO.createImageOutputStream(temp.toFile())) {
+                ImageWriteParam param = writer.getDefaultWriteParam();
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(JPEG_QUALITY);
+                writer.setOutput(output);
+                writer.write(null, new IIOImage(image, null, null), param);
+            } finally {
+                writer.dispose();
+            }
+            fileStorage.put(renditionKey(sourceKey, type), temp);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+}
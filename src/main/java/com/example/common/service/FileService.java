@@ -1,61 +1,278 @@
 package com.example.common.service;
 
+import com.example.cache.CacheInvalidationMessage;
+import com.example.cache.CacheInvalidationPublisher;
 import com.example.common.domain.File;
 import com.example.common.repository.FileRepository;
+import com.example.common.storage.FileStorage;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.HexFormat;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
 @Service
-public class FileService {
+public class FileService implements MessageListener {
+    
+    static final String BLOB_DIR = "blobs";
+    static final String TEMP_DIR = "tmp";
+    private static final String BLOB_LOCK_PREFIX = "file:blob:";
+    // 캐시 무효화 채널에서 파일 메타데이터 캐시를 구분하는 이름
+    private static final String METADATA_CACHE_NAME = "file-metadata";
     
     @Value("${file.upload.path:uploads}")
     private String uploadPath;
     
+    // 압축 저장 (기본 꺼짐)
+    @Value("${file.compression.enabled:false}")
+    private boolean compressionEnabled;
+    
+    @Value("${file.compression.content-types:application/pdf,image/tiff,image/bmp,text/,application/json,application/xml}")
+    private String[] compressionContentTypes;
+    
+    @Value("${file.compression.min-size:1024}")
+    private long compressionMinSize;
+    
+    // 압축 후 크기가 원본의 이 비율을 넘으면 원본 그대로 저장
+    @Value("${file.compression.max-ratio:0.9}")
+    private double compressionMaxRatio;
+    
+    // 같은 hash에 대한 업로드/삭제/정리 직렬화 (노드 간 Redis 락), 원격 저장소 업로드 시간보다 길게
+    @Value("${file.blob-lock.ttl:5m}")
+    private Duration blobLockTtl;
+    
+    @Value("${file.blob-lock.wait:10s}")
+    private Duration blobLockWait;
+    
     private final FileRepository fileRepository;
+    private final FilePreviewService filePreviewService;
+    private final FileStorage fileStorage;
+    private final RedisService redisService;
+    
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final GenericJackson2JsonRedisSerializer messageSerializer;
     
-    public FileService(FileRepository fileRepository) {
+    // 파일 ID -> 엔티티 + 실제 경로 (다운로드/미리보기 경로 탐색 결과 재사용)
+    // - 노드별 캐시, 삭제는 캐시 무효화 채널로 다른 노드에 알림
+    private final Cache<Long, StoredFile> metadataCache;
+    private final Counter metadataCacheHits;
+    private final Counter metadataCacheMisses;
+    
+    public FileService(FileRepository fileRepository,
+                       FilePreviewService filePreviewService,
+                       FileStorage fileStorage,
+                       RedisService redisService,
+                       CacheInvalidationPublisher cacheInvalidationPublisher,
+                       GenericJackson2JsonRedisSerializer redisValueSerializer,
+                       RedisMessageListenerContainer redisMessageListenerContainer,
+                       MeterRegistry meterRegistry,
+                       @Value("${file.metadata-cache.max-size:10000}") long metadataCacheMaxSize,
+                       @Value("${file.metadata-cache.ttl:10m}") Duration metadataCacheTtl) {
         this.fileRepository = fileRepository;
+        this.filePreviewService = filePreviewService;
+        this.fileStorage = fileStorage;
+        this.redisService = redisService;
+        this.invalidationPublisher = cacheInvalidationPublisher;
+        this.messageSerializer = redisValueSerializer;
+        this.metadataCache = Caffeine.newBuilder()
+                .maximumSize(metadataCacheMaxSize)
+                .expireAfterWrite(metadataCacheTtl)
+                .build();
+        this.metadataCacheHits = metadataCacheCounter(meterRegistry, "hit");
+        this.metadataCacheMisses = metadataCacheCounter(meterRegistry, "miss");
+        Gauge.builder("file.metadata.cache.size", metadataCache, Cache::estimatedSize)
+                .register(meterRegistry);
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(invalidationPublisher.getChannel()));
+    }
+    
+    private Counter metadataCacheCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("file.metadata.cache.gets")
+                .description("파일 메타데이터 캐시 조회 수")
+                .tag("result", result)
+                .register(meterRegistry);
     }
     
+    /**
+     * 파일 엔티티와 실제 경로
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class StoredFile {
+        private final File file;
+        private final Path path;
+    }
+    
+    /**
+     * 파일 업로드 (content-addressed 저장)
+     * - 업로드 스트림을 임시 파일에 쓰면서 SHA-256 계산
+     * - 같은 내용은 저장소 키 blobs/{hash[0:2]}/{hash[2:4]}/{hash} 에 한 번만 저장
+     * - 압축 저장이 켜져 있고 압축 대상 형식이면 쓰면서 GZIP 압축 (blob 이름에 .gz), 효과가 작으면 원본 저장
+     * - 저장 후 미리보기(썸네일/첫 페이지) 생성 작업 등록
+     */
     public File uploadFile(MultipartFile multipartFile, Long uploadUserId) throws IOException {
-        // 업로드 디렉토리 생성
-        Path uploadDir = Paths.get(uploadPath);
-        if (!Files.exists(uploadDir)) {
-            Files.createDirectories(uploadDir);
+        Path tempFile = createTempFile();
+        try {
+            String contentEncoding = shouldCompress(multipartFile) ? FileContentCodec.GZIP : null;
+            MessageDigest digest = newSha256();
+            try (InputStream inputStream = new DigestInputStream(multipartFile.getInputStream(), digest);
+                 OutputStream outputStream = FileContentCodec.openEncoded(tempFile, contentEncoding)) {
+                inputStream.transferTo(outputStream);
+            }
+            String contentHash = HexFormat.of().formatHex(digest.digest());
+            
+            if (contentEncoding != null && Files.size(tempFile) > multipartFile.getSize() * compressionMaxRatio) {
+                // 이미 압축된 내용(스캔 JPEG 기반 PDF 등)은 원본 그대로 저장
+                try (InputStream inputStream = multipartFile.getInputStream()) {
+                    Files.copy(inputStream, tempFile, StandardCopyOption.REPLACE_EXISTING);
+                }
+                contentEncoding = null;
+            }
+            
+            return createFileRecord(tempFile, contentHash, contentEncoding, multipartFile.getOriginalFilename(),
+                    multipartFile.getSize(), multipartFile.getContentType(), uploadUserId);
+        } finally {
+            Files.deleteIfExists(tempFile);
         }
-        
-        // 파일명 생성 (UUID 사용)
-        String originalFilename = multipartFile.getOriginalFilename();
-        String fileExtension = originalFilename.substring(originalFilename.lastIndexOf("."));
-        String storedFilename = UUID.randomUUID().toString() + fileExtension;
-        
-        // 파일 저장
-        Path filePath = uploadDir.resolve(storedFilename);
-        Files.copy(multipartFile.getInputStream(), filePath);
-        
-        // DB에 파일 정보 저장
-        File file = new File();
-        file.setOriginalName(originalFilename);
-        file.setStoredName(storedFilename);
-        file.setFilePath(filePath.toAbsolutePath().toString());
-        file.setFileSize(multipartFile.getSize());
-        file.setFileType(multipartFile.getContentType());
-        file.setUploadUserId(uploadUserId);
-        file.setCreatedAt(LocalDateTime.now());
-        
-        return fileRepository.save(file);
+    }
+    
+    /**
+     * 내용 hash가 계산된 임시 파일로 파일 레코드 생성 (일반 업로드, 분할 업로드 완료 공용)
+     * - blob이 없으면 임시 파일을 이동하고, 이미 있으면 임시 파일은 호출자가 정리
+     * - 관리자 검토 화면용 미리보기는 백그라운드에서 생성
+     */
+    public File createFileRecord(Path tempFile, String contentHash, String contentEncoding, String originalFilename,
+                                 long fileSize, String fileType, Long uploadUserId) throws IOException {
+        File saved = storeContent(tempFile, contentHash, contentEncoding, originalFilename, fileSize, fileType, uploadUserId);
+        filePreviewService.schedule(saved.getStoredName(), resolveFilePath(saved), saved.getFileType(), saved.getContentEncoding());
+        return saved;
+    }
+    
+    /**
+     * 임시 파일 내용을 blob으로 저장하고 파일 레코드 생성
+     * - 같은 내용의 blob이 다른 코덱으로 이미 있으면 그 blob을 참조 (내용 hash는 원본 기준)
+     * - 같은 hash의 삭제/정리와 겹치지 않도록 hash별 Redis 락 안에서 실행 (다른 소유자가 오래 잡고 있으면 업로드 실패)
+     * - Redis 장애로 락을 쓸 수 없으면 락 없이 진행하고 기존 blob 재사용 대신 항상 blob을 저장
+     *   (삭제/정리도 락을 얻지 못하면 blob을 지우지 않으므로 방금 저장한 blob이 지워지지 않음)
+     * - 레코드를 먼저 저장한 뒤 blob 존재 여부를 확인하므로,
+     *   락 만료 후 진행된 삭제가 blob을 지웠더라도 다음 같은 내용 업로드에서 다시 채워짐
+     */
+    File storeContent(Path tempFile, String contentHash, String contentEncoding, String originalFilename,
+                      long fileSize, String fileType, Long uploadUserId) throws IOException {
+        String lockToken;
+        boolean locked;
+        try {
+            lockToken = redisService.acquireLock(BLOB_LOCK_PREFIX + contentHash, blobLockTtl, blobLockWait);
+            if (lockToken == null) {
+                throw new IOException("파일 저장 잠금을 얻지 못했습니다. 잠시 후 다시 시도해주세요. - Hash: " + contentHash);
+            }
+            locked = true;
+        } catch (DataAccessException e) {
+            log.warn("blob 잠금 사용 불가, 잠금 없이 저장 - Hash: {}, Error: {}", contentHash, e.getMessage());
+            lockToken = null;
+            locked = false;
+        }
+        try {
+            String storedEncoding = contentEncoding;
+            String otherEncoding = contentEncoding == null ? FileContentCodec.GZIP : null;
+            if (locked && !fileStorage.exists(blobKey(contentHash, contentEncoding)) && fileStorage.exists(blobKey(contentHash, otherEncoding))) {
+                storedEncoding = otherEncoding;
+            }
+            
+            File file = new File();
+            file.setOriginalName(originalFilename);
+            file.setFileSize(fileSize);
+            file.setFileType(fileType);
+            file.setContentHash(contentHash);
+            file.setUploadUserId(uploadUserId);
+            file.setCreatedAt(LocalDateTime.now());
+            applyBlobLocation(file, contentHash, storedEncoding);
+            File saved = fileRepository.save(file);
+            
+            try {
+                if (!locked || !fileStorage.exists(saved.getStoredName())) {
+                    if (!Objects.equals(storedEncoding, contentEncoding)) {
+                        // 재사용하려던 blob이 그 사이 삭제됨 -> 업로드한 내용으로 저장
+                        applyBlobLocation(saved, contentHash, contentEncoding);
+                        saved = fileRepository.save(saved);
+                    }
+                    fileStorage.put(saved.getStoredName(), tempFile);
+                } else {
+                    log.debug("중복 업로드, 기존 blob 재사용 - Hash: {}, Encoding: {}", contentHash, storedEncoding);
+                }
+            } catch (IOException e) {
+                fileRepository.deleteById(saved.getId());
+                throw e;
+            }
+            return saved;
+        } finally {
+            unlockBlob(contentHash, lockToken);
+        }
+    }
+    
+    private void applyBlobLocation(File file, String contentHash, String contentEncoding) {
+        String blobKey = blobKey(contentHash, contentEncoding);
+        file.setStoredName(blobKey);
+        file.setFilePath(fileStorage.location(blobKey));
+        file.setContentEncoding(contentEncoding);
+    }
+    
+    /**
+     * 원본 내용 스트림 (압축 저장 파일은 스트리밍 해제)
+     */
+    public InputStream openContent(StoredFile storedFile) throws IOException {
+        return FileContentCodec.openDecoded(storedFile.getPath(), storedFile.getFile().getContentEncoding());
+    }
+    
+    private boolean shouldCompress(MultipartFile multipartFile) {
+        if (!compressionEnabled || multipartFile.getSize() < compressionMinSize || multipartFile.getContentType() == null) {
+            return false;
+        }
+        String contentType = multipartFile.getContentType().toLowerCase();
+        for (String compressible : compressionContentTypes) {
+            if (contentType.startsWith(compressible.trim().toLowerCase())) {
+                return true;
+            }
+        }
+        return false;
     }
     
     public List<File> getFilesByUserId(Long uploadUserId) {
@@ -63,14 +280,33 @@ public class FileService {
     }
     
     public void deleteFile(Long fileId) {
+        metadataCache.invalidate(fileId);
         File file = fileRepository.findById(fileId).orElse(null);
-        if (file != null) {
+        if (file == null) {
+            return;
+        }
+        if (file.getContentHash() != null) {
+            // content-addressed 파일: 마지막 참조가 사라질 때만 blob 삭제
+            // (락을 얻지 못하면 레코드만 삭제, 참조 없는 blob은 FileGarbageCollector가 정리)
+            String lockToken = lockBlob(file.getContentHash());
+            try {
+                fileRepository.deleteById(fileId);
+                if (lockToken != null) {
+                    releaseBlob(file.getContentHash());
+                } else {
+                    log.warn("blob 잠금 획득 실패, 정리 작업에 맡김 - Hash: {}", file.getContentHash());
+                }
+            } finally {
+                unlockBlob(file.getContentHash(), lockToken);
+            }
+        } else {
             try {
                 // 실제 파일 시스템에서 파일 삭제
                 Path filePath = Paths.get(file.getFilePath());
                 if (Files.exists(filePath)) {
                     Files.delete(filePath);
                 }
+                filePreviewService.deleteRenditions(file.getStoredName());
             } catch (IOException e) {
                 // 파일 삭제 실패 시에도 DB에서 삭제 진행
                 System.err.println("파일 시스템에서 파일 삭제 실패: " + e.getMessage());
@@ -78,22 +314,115 @@ public class FileService {
             // DB에서 파일 정보 삭제
             fileRepository.deleteById(fileId);
         }
+        // 레코드 삭제 후 무효화 (삭제 전에 다시 적재된 캐시 제거, 다른 노드는 메시지로 제거)
+        metadataCache.invalidate(fileId);
+        invalidationPublisher.publish(METADATA_CACHE_NAME, String.valueOf(fileId));
     }
     
+    /**
+     * 다른 노드의 파일 삭제 반영 (메타데이터 캐시만)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            Object payload = messageSerializer.deserialize(message.getBody());
+            if (payload instanceof CacheInvalidationMessage invalidation
+                    && METADATA_CACHE_NAME.equals(invalidation.getCacheName())
+                    && !invalidationPublisher.getOrigin().equals(invalidation.getOrigin())) {
+                if (invalidation.getKey() == null) {
+                    metadataCache.invalidateAll();
+                } else {
+                    metadataCache.invalidate(Long.valueOf(invalidation.getKey()));
+                }
+            }
+        } catch (Exception e) {
+            log.warn("파일 메타데이터 캐시 무효화 메시지 처리 실패: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * 사용자의 파일 전체 삭제
+     * - 레코드만 지우면 실제 파일/blob이 남으므로 파일 단위로 삭제
+     */
     public void deleteFilesByUserId(Long uploadUserId) {
-        fileRepository.deleteByUploadUserId(uploadUserId);
+        fileRepository.findByUploadUserId(uploadUserId)
+                .forEach(file -> deleteFile(file.getId()));
     }
     
     public File getFileById(Long fileId) {
         return fileRepository.findById(fileId).orElse(null);
     }
     
-    public Resource loadFileAsResource(Long fileId) throws IOException {
+    /**
+     * 파일 레코드 일괄 조회 (IN 조회 1회)
+     *
+     * @return 파일 ID -> 레코드 (없는 ID는 제외)
+     */
+    public Map<Long, File> getFilesByIds(Collection<Long> fileIds) {
+        if (fileIds.isEmpty()) {
+            return Map.of();
+        }
+        return fileRepository.findAllById(new HashSet<>(fileIds)).stream()
+                .collect(Collectors.toMap(File::getId, Function.identity()));
+    }
+    
+    /**
+     * 파일 엔티티 + 실제 경로 조회 (파일 응답용)
+     * - 캐시 hit: 경로가 여전히 파일인지 한 번만 확인 (stat 1회, 디스크 캐시에서 밀려났으면 다시 조회)
+     * - 다른 노드에서 삭제된 파일은 캐시 무효화 채널로 제거됨 (메시지 유실 시에도 TTL 이후 DB 기준)
+     * - 캐시 miss: DB 조회 1회 + 후보 경로 탐색 후 캐시에 저장
+     *
+     * @return 파일 레코드가 없거나 실제 파일을 찾지 못하면 null
+     */
+    public StoredFile getStoredFile(Long fileId) {
+        StoredFile cached = metadataCache.getIfPresent(fileId);
+        if (cached != null) {
+            if (Files.isRegularFile(cached.getPath())) {
+                metadataCacheHits.increment();
+                return cached;
+            }
+            metadataCache.invalidate(fileId);
+        }
+        metadataCacheMisses.increment();
+        
         File file = getFileById(fileId);
+        Path path = resolveFilePath(file);
+        if (path == null) {
+            return null;
+        }
+        StoredFile storedFile = new StoredFile(file, path);
+        metadataCache.put(fileId, storedFile);
+        return storedFile;
+    }
+    
+    public Resource loadFileAsResource(Long fileId) throws IOException {
+        return loadFileAsResource(getFileById(fileId));
+    }
+    
+    public Resource loadFileAsResource(File file) throws IOException {
+        Path path = resolveFilePath(file);
+        return path != null ? new UrlResource(path.toUri()) : null;
+    }
+    
+    /**
+     * 실제 파일 경로 조회
+     * - content-addressed 파일: 저장소의 로컬 경로 (원격 저장소면 디스크 캐시에 내려받은 경로)
+     * - 이전 방식 파일: 업로드 경로 설정이 환경마다 달랐던 파일도 찾을 수 있도록 후보 경로를 순서대로 확인
+     */
+    public Path resolveFilePath(File file) {
         if (file == null) {
             return null;
         }
         
+        if (file.getContentHash() != null) {
+            try {
+                return fileStorage.getLocalPath(file.getStoredName());
+            } catch (IOException e) {
+                log.error("저장소 파일 조회 실패 - StoredName: {}, Error: {}", file.getStoredName(), e.getMessage());
+                return null;
+            }
+        }
+        
         // Try multiple paths to find the file
         Path[] possiblePaths = {
             Paths.get(uploadPath, file.getStoredName()),
@@ -102,18 +431,81 @@ public class FileService {
             Paths.get(System.getProperty("user.dir"), "uploads", file.getStoredName())
         };
         
-        for (int i = 0; i < possiblePaths.length; i++) {
-            Path path = possiblePaths[i];
-            
-            if (Files.exists(path) && Files.isReadable(path)) {
-                Resource resource = new UrlResource(path.toUri());
-                
-                if (resource.exists() && resource.isReadable()) {
-                    return resource;
-                }
+        for (Path path : possiblePaths) {
+            if (Files.isRegularFile(path) && Files.isReadable(path)) {
+                return path;
             }
         }
         
         return null;
     }
-} 
\ No newline at end of file
+
+    /**
+     * 참조하는 파일 레코드가 없으면 blob과 미리보기 삭제
+     */
+    private void releaseBlob(String contentHash) {
+        if (fileRepository.countByContentHash(contentHash) > 0) {
+            return;
+        }
+        try {
+            for (String contentEncoding : new String[]{null, FileContentCodec.GZIP}) {
+                String blobKey = blobKey(contentHash, contentEncoding);
+                fileStorage.delete(blobKey);
+                filePreviewService.deleteRenditions(blobKey);
+            }
+        } catch (IOException e) {
+            log.error("blob 삭제 실패 - Hash: {}, Error: {}", contentHash, e.getMessage());
+        }
+    }
+    
+    /**
+     * blob 저장소 키
+     */
+    static String blobKey(String contentHash, String contentEncoding) {
+        return BLOB_DIR + "/" + contentHash.substring(0, 2) + "/" + contentHash.substring(2, 4) + "/" + contentHash
+                + FileContentCodec.suffix(contentEncoding);
+    }
+    
+    /**
+     * hash별 blob 락 (같은 hash의 저장/삭제/정리를 노드 간 직렬화)
+     *
+     * @return 해제용 토큰, 대기 시간 안에 얻지 못하면 null
+     */
+    String lockBlob(String contentHash) {
+        return redisService.tryLock(BLOB_LOCK_PREFIX + contentHash, blobLockTtl, blobLockWait);
+    }
+    
+    void unlockBlob(String contentHash, String lockToken) {
+        if (lockToken != null) {
+            redisService.unlock(BLOB_LOCK_PREFIX + contentHash, lockToken);
+        }
+    }
+    
+    private Path createTempFile() throws IOException {
+        return Files.createTempFile(getTempDir(), "upload-", ".tmp");
+    }
+    
+    /**
+     * 업로드 루트 디렉토리
+     */
+    public Path getUploadRoot() {
+        return Paths.get(uploadPath);
+    }
+    
+    /**
+     * 업로드 임시 디렉토리 (저장소 종류와 관계없이 로컬, 로컬 저장소면 같은 파일 시스템이라 복사 없이 이동)
+     */
+    public Path getTempDir() throws IOException {
+        Path tempDir = Paths.get(uploadPath, TEMP_DIR);
+        Files.createDirectories(tempDir);
+        return tempDir;
+    }
+    
+    static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
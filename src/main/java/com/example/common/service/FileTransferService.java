@@ -0,0 +1,361 @@
+package com.example.common.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import com.example.common.domain.File;
+import com.example.common.storage.FileStorage;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 파일 전송 서비스
+ * - 조건부 GET: 파일 메타데이터(ID, 크기, 수정 시각)로 만든 ETag / Last-Modified, If-None-Match / If-Modified-Since -> 304
+ * - Range 요청: 단일 범위(206), 다중 범위(206 multipart/byteranges), 만족 불가(416), If-Range 지원
+ * - 큰 파일은 Tomcat sendfile(zero-copy), 그 외에는 FileChannel.transferTo로 전송
+ *   (저장소 경로가 응답 이후 지워질 수 있으면 sendfile 대신 transferTo)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FileTransferService {
+
+    // Tomcat sendfile 요청 속성 (org.apache.catalina.Globals)
+    private static final String SENDFILE_SUPPORTED_ATTR = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+
+    // 과도한 다중 범위 요청은 전체 응답으로 처리
+    private static final int MAX_RANGES = 16;
+
+    private final FileStorage fileStorage;
+
+    @Value("${file.transfer.sendfile-threshold:65536}")
+    private long sendfileThreshold;
+
+    /**
+     * 파일 응답 전송
+     * - Content-Type, Content-Disposition, Cache-Control 등 표현 헤더는 호출자가 미리 설정
+     */
+    public void send(HttpServletRequest request, HttpServletResponse response,
+                     File file, Path path, String contentType) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        long length = attributes.size();
+        // HTTP 날짜는 초 단위이므로 밀리초 버림
+        long lastModified = attributes.lastModifiedTime().toMillis() / 1000 * 1000;
+        String etag = buildEtag(file, length, lastModified);
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        if (isNotModified(request, etag, lastModified)) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+
+        boolean headRequest = "HEAD".equalsIgnoreCase(request.getMethod());
+        List<long[]> ranges = resolveRanges(request, etag, lastModified, length);
+
+        if (ranges == null) {
+            response.setStatus(HttpStatus.OK.value());
+            response.setContentLengthLong(length);
+            if (!headRequest) {
+                transfer(request, response, path, 0, length);
+            }
+            return;
+        }
+
+        if (ranges.isEmpty()) {
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+            response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+            return;
+        }
+
+        response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+        if (ranges.size() == 1) {
+            long[] range = ranges.get(0);
+            long count = range[1] - range[0] + 1;
+            response.setHeader(HttpHeaders.CONTENT_RANGE, contentRange(range, length));
+            response.setContentLengthLong(count);
+            if (!headRequest) {
+                transfer(request, response, path, range[0], count);
+            }
+            return;
+        }
+
+        sendMultipartRanges(response, path, contentType, ranges, length, headRequest);
+    }
+
+    /**
+     * 압축 저장 파일 응답 전송
+     * - 클라이언트가 저장 코덱(gzip)을 지원하면 Content-Encoding을 붙여 압축된 바이트를 그대로 전송 (Range 포함)
+     * - 지원하지 않으면 스트리밍 해제하여 원본 크기로 전송 (Range 미지원, 조건부 GET만 지원)
+     */
+    public void sendEncoded(HttpServletRequest request, HttpServletResponse response,
+                            File file, Path path, String contentType) throws IOException {
+        String contentEncoding = file.getContentEncoding();
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (acceptsEncoding(request, contentEncoding)) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, contentEncoding);
+            send(request, response, file, path, contentType);
+            return;
+        }
+
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        long lastModified = attributes.lastModifiedTime().toMillis() / 1000 * 1000;
+        // 원본 크기 기준이므로 압축 표현의 ETag와 구분됨
+        String etag = buildEtag(file, file.getFileSize(), lastModified);
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "none");
+
+        if (isNotModified(request, etag, lastModified)) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentLengthLong(file.getFileSize());
+        if ("HEAD".equalsIgnoreCase(request.getMethod())) {
+            return;
+        }
+        try (InputStream inputStream = FileContentCodec.openDecoded(path, contentEncoding)) {
+            inputStream.transferTo(response.getOutputStream());
+        }
+        response.flushBuffer();
+    }
+
+    /**
+     * Accept-Encoding에 해당 코덱이 있고 q=0이 아닌지 확인
+     */
+    public boolean acceptsEncoding(HttpServletRequest request, String contentEncoding) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null || contentEncoding == null) {
+            return false;
+        }
+        for (String candidate : acceptEncoding.split(",")) {
+            String[] parts = candidate.trim().split(";");
+            if (!parts[0].trim().equalsIgnoreCase(contentEncoding)) {
+                continue;
+            }
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.startsWith("q=")) {
+                    try {
+                        return Double.parseDouble(param.substring(2)) > 0;
+                    } catch (NumberFormatException e) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 파일 ID, 크기, 수정 시각 기반의 strong ETag
+     */
+    public String buildEtag(File file, long length, long lastModified) {
+        return "\"" + Long.toHexString(file.getId()) + "-" + Long.toHexString(length)
+                + "-" + Long.toHexString(lastModified) + "\"";
+    }
+
+    private boolean isNotModified(HttpServletRequest request, String etag, long lastModified) {
+        if (!"GET".equalsIgnoreCase(request.getMethod()) && !"HEAD".equalsIgnoreCase(request.getMethod())) {
+            return false;
+        }
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            return etagMatches(ifNoneMatch, etag);
+        }
+        long ifModifiedSince = getDateHeader(request, HttpHeaders.IF_MODIFIED_SINCE);
+        return ifModifiedSince != -1 && lastModified <= ifModifiedSince;
+    }
+
+    private boolean etagMatches(String header, String etag) {
+        for (String candidate : header.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            // If-None-Match는 weak 비교
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Range 헤더 해석
+     * - null: 전체 응답 (Range 없음, If-Range 불일치, 형식 오류)
+     * - 빈 리스트: 만족 가능한 범위 없음 (416)
+     */
+    private List<long[]> resolveRanges(HttpServletRequest request, String etag, long lastModified, long length) {
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader == null || !rangeHeader.startsWith("bytes=")) {
+            return null;
+        }
+
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null) {
+            String trimmed = ifRange.trim();
+            if (trimmed.startsWith("\"") || trimmed.startsWith("W/")) {
+                // If-Range는 strong 비교
+                if (!trimmed.equals(etag)) {
+                    return null;
+                }
+            } else {
+                long ifRangeDate = getDateHeader(request, HttpHeaders.IF_RANGE);
+                if (ifRangeDate == -1 || lastModified > ifRangeDate) {
+                    return null;
+                }
+            }
+        }
+
+        List<long[]> ranges = new ArrayList<>();
+        String[] specs = rangeHeader.substring("bytes=".length()).split(",");
+        if (specs.length > MAX_RANGES) {
+            return null;
+        }
+        for (String spec : specs) {
+            String part = spec.trim();
+            int dash = part.indexOf('-');
+            if (dash < 0) {
+                return null;
+            }
+            try {
+                long start;
+                long end;
+                if (dash == 0) {
+                    // 마지막 N 바이트 (bytes=-N)
+                    long suffixLength = Long.parseLong(part.substring(1));
+                    if (suffixLength <= 0) {
+                        continue;
+                    }
+                    start = Math.max(0, length - suffixLength);
+                    end = length - 1;
+                } else {
+                    start = Long.parseLong(part.substring(0, dash));
+                    end = dash == part.length() - 1 ? length - 1 : Long.parseLong(part.substring(dash + 1));
+                    if (end < start) {
+                        return null;
+                    }
+                    end = Math.min(end, length - 1);
+                }
+                if (start < length && length > 0) {
+                    ranges.add(new long[]{start, end});
+                }
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return ranges;
+    }
+
+    private void sendMultipartRanges(HttpServletResponse response, Path path, String contentType,
+                                     List<long[]> ranges, long length, boolean headRequest) throws IOException {
+        String boundary = UUID.randomUUID().toString().replace("-", "");
+        List<byte[]> partHeaders = new ArrayList<>(ranges.size());
+        long contentLength = 0;
+        for (long[] range : ranges) {
+            byte[] header = ("\r\n--" + boundary + "\r\n"
+                    + HttpHeaders.CONTENT_TYPE + ": " + contentType + "\r\n"
+                    + HttpHeaders.CONTENT_RANGE + ": " + contentRange(range, length) + "\r\n\r\n")
+                    .getBytes(StandardCharsets.US_ASCII);
+            partHeaders.add(header);
+            contentLength += header.length + (range[1] - range[0] + 1);
+        }
+        byte[] closing = ("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII);
+        contentLength += closing.length;
+
+        response.setContentType("multipart/byteranges; boundary=" + boundary);
+        response.setContentLengthLong(contentLength);
+        if (headRequest) {
+            return;
+        }
+
+        OutputStream out = response.getOutputStream();
+        WritableByteChannel target = Channels.newChannel(out);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            for (int i = 0; i < ranges.size(); i++) {
+                long[] range = ranges.get(i);
+                out.write(partHeaders.get(i));
+                transferFully(channel, range[0], range[1] - range[0] + 1, target);
+            }
+        }
+        out.write(closing);
+        out.flush();
+    }
+
+    /**
+     * 본문 전송: Tomcat sendfile 지원 시 zero-copy, 그 외에는 FileChannel.transferTo
+     * - sendfile은 응답 처리 이후 경로로 파일을 열기 때문에 저장소 경로가 유지되는 경우에만 사용
+     */
+    private void transfer(HttpServletRequest request, HttpServletResponse response,
+                          Path path, long start, long count) throws IOException {
+        if (count >= sendfileThreshold && fileStorage.isPathStable()
+                && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED_ATTR))) {
+            request.setAttribute(SENDFILE_FILENAME_ATTR, path.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START_ATTR, start);
+            request.setAttribute(SENDFILE_END_ATTR, start + count);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+            transferFully(channel, start, count, target);
+        }
+        response.flushBuffer();
+    }
+
+    private void transferFully(FileChannel channel, long position, long count, WritableByteChannel target) throws IOException {
+        long remaining = count;
+        while (remaining > 0) {
+            long transferred = channel.transferTo(position, remaining, target);
+            if (transferred <= 0) {
+                break;
+            }
+            position += transferred;
+            remaining -= transferred;
+        }
+    }
+
+    private String contentRange(long[] range, long length) {
+        return "bytes " + range[0] + "-" + range[1] + "/" + length;
+    }
+
+    private long getDateHeader(HttpServletRequest request, String name) {
+        try {
+            return request.getDateHeader(name);
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+}
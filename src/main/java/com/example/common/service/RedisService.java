@@ -1,10 +1,21 @@
 package com.example.common.service;
 
+import java.time.Duration;
+import java.util.Collections;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -19,6 +30,34 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class RedisService {
 
+    private static final String LOCK_SUFFIX = ":lock";
+
+    // 재계산 락 TTL (재계산 노드가 죽어도 락이 영구히 남지 않도록)
+    private static final Duration RECOMPUTE_LOCK_TTL = Duration.ofSeconds(10);
+
+    // 논리 만료 이후에도 stale 값을 제공하기 위해 물리 TTL을 논리 TTL의 배수로 설정
+    private static final int STALE_TTL_MULTIPLIER = 2;
+
+    // XFetch beta (1.0 권장, 클수록 더 일찍 재계산)
+    private static final double XFETCH_BETA = 1.0;
+
+    // 최초 적재 시 다른 노드의 계산 결과를 기다리는 최대 시간
+    private static final long INITIAL_LOAD_WAIT_MILLIS = 2000;
+    private static final long INITIAL_LOAD_POLL_MILLIS = 50;
+
+    // 락 대기 시 재시도 간격
+    private static final long LOCK_RETRY_MILLIS = 50;
+
+    // 락 소유자만 해제하도록 토큰 비교 후 삭제
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    // 락 소유자만 만료 시간 연장
+    private static final RedisScript<Long> EXTEND_LOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end",
+            Long.class);
+
     private final RedisTemplate<String, Object> redisTemplate;
 
     /**
@@ -121,4 +160,196 @@ public class RedisService {
         String key = "admin:session:" + adminId;
         return delete(key);
     }
+
+    /**
+     * 분산 락 획득
+     * - 성공 시 해제에 필요한 토큰 반환, 실패 시 null
+     */
+    public String tryLock(String key, Duration ttl) {
+        try {
+            return acquireLock(key, ttl);
+        } catch (Exception e) {
+            log.error("Redis 락 획득 실패 - Key: {}, Error: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 분산 락 획득 (다른 소유자가 있으면 waitTime까지 재시도)
+     * - 성공 시 해제에 필요한 토큰 반환, 대기 시간 초과/인터럽트/Redis 장애 시 null (장애면 기다리지 않음)
+     */
+    public String tryLock(String key, Duration ttl, Duration waitTime) {
+        try {
+            return acquireLock(key, ttl, waitTime);
+        } catch (Exception e) {
+            log.error("Redis 락 획득 실패 - Key: {}, Error: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 분산 락 획득 (Redis 장애는 예외로 전달)
+     * - 다른 소유자가 있는 경우와 Redis 장애를 구분해 장애 시 다르게 처리해야 할 때 사용
+     *
+     * @return 해제용 토큰, 다른 소유자가 있으면 null
+     * @throws DataAccessException Redis 장애
+     */
+    public String acquireLock(String key, Duration ttl) {
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(key, token, ttl);
+        return Boolean.TRUE.equals(acquired) ? token : null;
+    }
+
+    /**
+     * 분산 락 획득 (다른 소유자가 있으면 waitTime까지 재시도, Redis 장애는 예외로 전달)
+     *
+     * @return 해제용 토큰, 대기 시간 초과/인터럽트 시 null
+     * @throws DataAccessException Redis 장애
+     */
+    public String acquireLock(String key, Duration ttl, Duration waitTime) {
+        long deadline = System.nanoTime() + waitTime.toNanos();
+        while (true) {
+            String token = acquireLock(key, ttl);
+            if (token != null) {
+                return token;
+            }
+            if (System.nanoTime() >= deadline) {
+                return null;
+            }
+            try {
+                Thread.sleep(LOCK_RETRY_MILLIS + ThreadLocalRandom.current().nextLong(LOCK_RETRY_MILLIS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+        }
+    }
+
+    /**
+     * 분산 락 해제 (토큰이 일치하는 경우에만)
+     */
+    public boolean unlock(String key, String token) {
+        try {
+            Long result = redisTemplate.execute(UNLOCK_SCRIPT, Collections.singletonList(key), token);
+            return result != null && result > 0;
+        } catch (Exception e) {
+            log.error("Redis 락 해제 실패 - Key: {}, Error: {}", key, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 분산 락 만료 연장 (오래 걸리는 작업 중 주기적으로 호출)
+     *
+     * @return 락을 여전히 소유하고 있으면 true
+     */
+    public boolean extendLock(String key, String token, Duration ttl) {
+        try {
+            // Integer는 값 직렬화기에서 타입 정보 없이 숫자 그대로 직렬화됨
+            int ttlMillis = (int) Math.min(ttl.toMillis(), Integer.MAX_VALUE);
+            Long result = redisTemplate.execute(EXTEND_LOCK_SCRIPT, Collections.singletonList(key), token, ttlMillis);
+            return result != null && result > 0;
+        } catch (Exception e) {
+            log.error("Redis 락 연장 실패 - Key: {}, Error: {}", key, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 캐시 조회 또는 계산 (Cache Stampede 방지)
+     * - XFetch: 만료가 가까울수록, 계산 비용이 클수록 높은 확률로 조기 재계산
+     * - 재계산은 짧은 Redis 락을 획득한 한 노드만 수행하고, 나머지 노드는 기존(stale) 값을 반환
+     * - Redis 장애 시에는 loader를 직접 호출
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getOrCompute(String key, Duration ttl, Supplier<T> loader) {
+        CacheEntry entry;
+        try {
+            entry = (CacheEntry) redisTemplate.opsForValue().get(key);
+        } catch (Exception e) {
+            log.error("Redis 캐시 조회 실패, 직접 계산 - Key: {}, Error: {}", key, e.getMessage());
+            return loader.get();
+        }
+
+        if (entry != null && !shouldRecompute(entry)) {
+            return (T) entry.getValue();
+        }
+
+        String lockKey = key + LOCK_SUFFIX;
+        String token = tryLock(lockKey, RECOMPUTE_LOCK_TTL);
+        if (token == null) {
+            // 다른 노드가 재계산 중: stale 값이 있으면 그대로 제공
+            if (entry != null) {
+                return (T) entry.getValue();
+            }
+            CacheEntry loaded = waitForInitialLoad(key);
+            return loaded != null ? (T) loaded.getValue() : loader.get();
+        }
+
+        try {
+            long startedAt = System.currentTimeMillis();
+            T value = loader.get();
+            long computedAt = System.currentTimeMillis();
+            if (value != null) {
+                CacheEntry newEntry = new CacheEntry(value, computedAt - startedAt, computedAt + ttl.toMillis());
+                redisTemplate.opsForValue().set(key, newEntry, ttl.multipliedBy(STALE_TTL_MULTIPLIER));
+                log.debug("Redis 캐시 재계산 완료 - Key: {}, 소요: {}ms", key, computedAt - startedAt);
+            }
+            return value;
+        } catch (RuntimeException e) {
+            // 재계산 실패 시 stale 값이 있으면 제공
+            if (entry != null) {
+                log.error("Redis 캐시 재계산 실패, stale 값 사용 - Key: {}, Error: {}", key, e.getMessage());
+                return (T) entry.getValue();
+            }
+            throw e;
+        } finally {
+            unlock(lockKey, token);
+        }
+    }
+
+    /**
+     * XFetch 조기 만료 판단: now - delta * beta * ln(rand) >= expiry
+     */
+    private boolean shouldRecompute(CacheEntry entry) {
+        double random = 1.0 - ThreadLocalRandom.current().nextDouble(); // (0, 1]
+        double gap = entry.getDelta() * XFETCH_BETA * Math.log(random);
+        return System.currentTimeMillis() - gap >= entry.getExpiresAt();
+    }
+
+    /**
+     * 다른 노드의 최초 계산 결과 대기
+     */
+    private CacheEntry waitForInitialLoad(String key) {
+        long deadline = System.currentTimeMillis() + INITIAL_LOAD_WAIT_MILLIS;
+        try {
+            while (System.currentTimeMillis() < deadline) {
+                Thread.sleep(INITIAL_LOAD_POLL_MILLIS);
+                CacheEntry entry = (CacheEntry) redisTemplate.opsForValue().get(key);
+                if (entry != null) {
+                    return entry;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("Redis 캐시 대기 중 조회 실패 - Key: {}, Error: {}", key, e.getMessage());
+        }
+        return null;
+    }
+
+    /**
+     * getOrCompute 캐시 항목
+     * - value: 캐시 값
+     * - delta: 재계산 소요 시간(ms)
+     * - expiresAt: 논리 만료 시각(epoch ms)
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CacheEntry {
+        private Object value;
+        private long delta;
+        private long expiresAt;
+    }
 }
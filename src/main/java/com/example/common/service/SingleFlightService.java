@@ -0,0 +1,112 @@
+package com.example.common.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Single-flight 요청 병합 서비스
+ * - 동일한 메서드 + 인자로 동시에 들어온 호출은 하나의 실행 결과(CompletableFuture)를 공유
+ * - 대시보드 집계, count 쿼리처럼 비싼 조회가 작은 커넥션 풀을 중복 점유하지 않도록 사용
+ * - 결과는 호출자 간에 공유되므로 변경하지 않는 조회 결과에만 사용
+ */
+@Slf4j
+@Service
+public class SingleFlightService {
+
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    // 호출마다 meter registry를 조회하지 않도록 "메서드:결과"별 Counter 보관
+    private final ConcurrentMap<String, Counter> counters = new ConcurrentHashMap<>();
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    public SingleFlightService(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("singleflight.inflight", inFlight, ConcurrentMap::size)
+                .description("현재 실행 중인 single-flight 호출 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 동일 키의 실행 중인 호출이 있으면 그 결과를 기다리고, 없으면 직접 실행
+     *
+     * @param method 메서드 식별자 (예: "CountryService.getCountryCount")
+     * @param supplier 실제 조회 로직
+     * @param args 키에 포함될 메서드 인자
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String method, Supplier<T> supplier, Object... args) {
+        String key = buildKey(method, args);
+        if (key == null) {
+            return supplier.get();
+        }
+
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            countCall(method, "coalesced");
+            return (T) await(existing);
+        }
+
+        countCall(method, "leader");
+        try {
+            T result = supplier.get();
+            future.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    private Object await(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 메서드 + 인자(JSON)로 키 생성, 직렬화 불가 시 null (병합하지 않음)
+     */
+    private String buildKey(String method, Object[] args) {
+        try {
+            return method + ":" + objectMapper.writeValueAsString(args);
+        } catch (JsonProcessingException e) {
+            log.warn("single-flight 키 생성 실패, 병합 없이 실행 - Method: {}, Error: {}", method, e.getMessage());
+            return null;
+        }
+    }
+
+    private void countCall(String method, String result) {
+        counters.computeIfAbsent(method + ":" + result, key -> Counter.builder("singleflight.calls")
+                        .description("single-flight 호출 수 (leader: 직접 실행, coalesced: 병합됨)")
+                        .tag("method", method)
+                        .tag("result", result)
+                        .register(meterRegistry))
+                .increment();
+    }
+}
@@ -0,0 +1,288 @@
+package com.example.common.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 원격 저장소 앞단의 노드별 로컬 디스크 캐시 (크기 제한 LRU)
+ * - 조회: 캐시에 있으면 로컬 파일, 없으면 원격에서 내려받아 캐시에 저장 후 반환
+ * - 존재 확인: 캐시와 관계없이 항상 원격 확인 (캐시는 읽기 전용 사본)
+ * - 저장: 원격에 올린 뒤 같은 파일을 캐시에 보관 (업로드 직후 검토 화면 조회 대비)
+ * - 삭제/이동: 원격 반영 후 캐시에서 제거
+ * - 재시작 시 캐시 디렉토리를 수정 시각 순으로 읽어 LRU 순서를 근사 복원
+ */
+@Slf4j
+public class CachingFileStorage implements FileStorage {
+
+    private static final String DOWNLOAD_DIR = ".download";
+
+    private final FileStorage delegate;
+    private final Path cacheRoot;
+    private final long maxBytes;
+
+    // 키 -> 파일 크기 (접근 순서)
+    private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+
+    // 같은 키를 동시에 내려받지 않도록 키별 잠금 (striped)
+    private final Object[] downloadLocks = new Object[64];
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public CachingFileStorage(FileStorage delegate, Path cacheRoot, long maxBytes, MeterRegistry meterRegistry) throws IOException {
+        this.delegate = delegate;
+        this.cacheRoot = cacheRoot.toAbsolutePath().normalize();
+        this.maxBytes = maxBytes;
+        for (int i = 0; i < downloadLocks.length; i++) {
+            downloadLocks[i] = new Object();
+        }
+        this.hits = cacheCounter(meterRegistry, "hit");
+        this.misses = cacheCounter(meterRegistry, "miss");
+        Gauge.builder("file.storage.cache.size", this, CachingFileStorage::getTotalBytes)
+                .description("로컬 디스크 캐시 사용량")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        loadExistingEntries();
+    }
+
+    private Counter cacheCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("file.storage.cache.gets")
+                .description("로컬 디스크 캐시 조회 수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 항상 원격 확인 (다른 노드가 원격에서 지운 객체가 이 노드 캐시에만 남아 있을 수 있음)
+     */
+    @Override
+    public boolean exists(String key) throws IOException {
+        return delegate.exists(key);
+    }
+
+    @Override
+    public void put(String key, Path source) throws IOException {
+        delegate.put(key, source);
+        Path cached = cachePath(key);
+        Files.createDirectories(cached.getParent());
+        move(source, cached);
+        add(key, Files.size(cached));
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        Path path = getLocalPath(key);
+        if (path == null) {
+            throw new NoSuchFileException(key);
+        }
+        return Files.newInputStream(path);
+    }
+
+    @Override
+    public Path getLocalPath(String key) throws IOException {
+        Path cached = cachePath(key);
+        if (touch(key, cached)) {
+            hits.increment();
+            return cached;
+        }
+        synchronized (downloadLocks[Math.floorMod(key.hashCode(), downloadLocks.length)]) {
+            // 대기 중 다른 스레드가 내려받았을 수 있음
+            if (touch(key, cached)) {
+                hits.increment();
+                return cached;
+            }
+            misses.increment();
+            if (!delegate.exists(key)) {
+                return null;
+            }
+            Path downloadDir = cacheRoot.resolve(DOWNLOAD_DIR);
+            Files.createDirectories(downloadDir);
+            Path temp = Files.createTempFile(downloadDir, "download-", ".tmp");
+            try {
+                try (InputStream inputStream = delegate.open(key)) {
+                    Files.copy(inputStream, temp, StandardCopyOption.REPLACE_EXISTING);
+                }
+                Files.createDirectories(cached.getParent());
+                move(temp, cached);
+            } catch (NoSuchFileException e) {
+                return null;
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            add(key, Files.size(cached));
+            return cached;
+        }
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        delegate.delete(key);
+        evict(key);
+    }
+
+    @Override
+    public void move(String sourceKey, String targetKey) throws IOException {
+        delegate.move(sourceKey, targetKey);
+        evict(sourceKey);
+        evict(targetKey);
+    }
+
+    @Override
+    public List<StoredObject> list(String prefix, String startAfter, int limit) throws IOException {
+        return delegate.list(prefix, startAfter, limit);
+    }
+
+    @Override
+    public String location(String key) {
+        return delegate.location(key);
+    }
+
+    /**
+     * 캐시 파일은 LRU 제거로 응답 이후 지워질 수 있으므로 sendfile 불가
+     */
+    @Override
+    public boolean isPathStable() {
+        return false;
+    }
+
+    public synchronized long getTotalBytes() {
+        return totalBytes;
+    }
+
+    /**
+     * 캐시에 있으면 접근 순서 갱신 후 true
+     */
+    private boolean touch(String key, Path cached) {
+        synchronized (this) {
+            if (entries.get(key) == null) {
+                return false;
+            }
+        }
+        if (Files.isRegularFile(cached)) {
+            return true;
+        }
+        // 외부에서 지워진 캐시 파일
+        removeEntry(key);
+        return false;
+    }
+
+    private void add(String key, long size) {
+        List<String> evicted = new ArrayList<>();
+        synchronized (this) {
+            Long previous = entries.put(key, size);
+            totalBytes += size - (previous != null ? previous : 0L);
+            Iterator<Map.Entry<String, Long>> iterator = entries.entrySet().iterator();
+            while (totalBytes > maxBytes && iterator.hasNext()) {
+                Map.Entry<String, Long> eldest = iterator.next();
+                if (eldest.getKey().equals(key)) {
+                    continue;
+                }
+                totalBytes -= eldest.getValue();
+                evicted.add(eldest.getKey());
+                iterator.remove();
+            }
+        }
+        for (String evictedKey : evicted) {
+            deleteCacheFile(evictedKey);
+        }
+    }
+
+    private void evict(String key) {
+        removeEntry(key);
+        deleteCacheFile(key);
+    }
+
+    private synchronized void removeEntry(String key) {
+        Long size = entries.remove(key);
+        if (size != null) {
+            totalBytes -= size;
+        }
+    }
+
+    private void deleteCacheFile(String key) {
+        try {
+            Files.deleteIfExists(cachePath(key));
+        } catch (IOException e) {
+            log.warn("캐시 파일 삭제 실패 - Key: {}, Error: {}", key, e.getMessage());
+        }
+    }
+
+    private void loadExistingEntries() throws IOException {
+        Files.createDirectories(cacheRoot);
+        // 중단된 다운로드 잔여물 정리
+        Path downloadDir = cacheRoot.resolve(DOWNLOAD_DIR);
+        if (Files.isDirectory(downloadDir)) {
+            try (Stream<Path> stream = Files.list(downloadDir)) {
+                for (Path path : stream.toList()) {
+                    Files.deleteIfExists(path);
+                }
+            }
+        }
+        List<CachedFile> files = new ArrayList<>();
+        try (Stream<Path> stream = Files.walk(cacheRoot)) {
+            stream.filter(path -> !path.startsWith(cacheRoot.resolve(DOWNLOAD_DIR)))
+                    .forEach(path -> {
+                        try {
+                            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+                            if (attributes.isRegularFile()) {
+                                files.add(new CachedFile(cacheRoot.relativize(path).toString().replace('\\', '/'),
+                                        attributes.size(), attributes.lastModifiedTime().toMillis()));
+                            }
+                        } catch (IOException e) {
+                            log.debug("캐시 파일 확인 실패 - Path: {}", path);
+                        }
+                    });
+        }
+        files.sort(Comparator.comparingLong(CachedFile::getLastModified));
+        for (CachedFile file : files) {
+            add(file.getKey(), file.getSize());
+        }
+        log.info("파일 저장소 캐시 로드 - {}개, {} bytes", files.size(), getTotalBytes());
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class CachedFile {
+        private final String key;
+        private final long size;
+        private final long lastModified;
+    }
+
+    private Path cachePath(String key) {
+        Path path = cacheRoot.resolve(key).normalize();
+        if (!path.startsWith(cacheRoot) || path.startsWith(cacheRoot.resolve(DOWNLOAD_DIR))) {
+            throw new IllegalArgumentException("잘못된 저장소 키: " + key);
+        }
+        return path;
+    }
+
+    private void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.common.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * 업로드 파일 저장소 SPI
+ * - 키: 저장소 루트 기준 상대 경로 (예: blobs/ab/cd/{hash}, blobs/ab/cd/{hash}.thumbnail.jpg)
+ * - 구현: LocalFileStorage(로컬 디스크), S3FileStorage(S3 호환 오브젝트 스토리지)
+ * - 원격 저장소는 CachingFileStorage로 감싸 노드별 로컬 디스크 캐시를 두고 사용
+ */
+public interface FileStorage {
+
+    boolean exists(String key) throws IOException;
+
+    /**
+     * 파일 저장 (같은 키가 있으면 덮어씀)
+     * - source는 저장소로 이동될 수 있으므로 호출 후 다시 사용하지 않음
+     */
+    void put(String key, Path source) throws IOException;
+
+    /**
+     * 내용 스트림
+     *
+     * @throws java.nio.file.NoSuchFileException 키가 없을 때
+     */
+    InputStream open(String key) throws IOException;
+
+    /**
+     * 로컬 파일 경로 (sendfile, 미리보기 생성 등 경로가 필요한 곳에서 사용)
+     *
+     * @return 키가 없거나 로컬 사본이 없는 원격 저장소면 null
+     */
+    Path getLocalPath(String key) throws IOException;
+
+    void delete(String key) throws IOException;
+
+    /**
+     * 키 이동 (이동된 객체의 수정 시각은 이동 시점)
+     */
+    void move(String sourceKey, String targetKey) throws IOException;
+
+    /**
+     * prefix로 시작하고 startAfter보다 큰 키를 키 순서(문자열 순)로 최대 limit개 조회
+     */
+    List<StoredObject> list(String prefix, String startAfter, int limit) throws IOException;
+
+    /**
+     * 파일 레코드(file_path)에 기록할 위치 표현
+     */
+    String location(String key);
+
+    /**
+     * getLocalPath 경로를 응답 처리 이후(Tomcat sendfile)에 열어도 되는지
+     * - 로컬 캐시처럼 경로가 언제든 지워질 수 있으면 false (열린 채널로만 전송)
+     */
+    default boolean isPathStable() {
+        return true;
+    }
+}
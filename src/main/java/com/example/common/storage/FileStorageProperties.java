@@ -0,0 +1,38 @@
+package com.example.common.storage;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import lombok.Data;
+
+/**
+ * 파일 저장소 설정 (file.storage.*)
+ * - type: local(기본, file.upload.path 사용) | s3
+ */
+@Data
+@ConfigurationProperties(prefix = "file.storage")
+public class FileStorageProperties {
+
+    private String type = "local";
+    private S3 s3 = new S3();
+    private Cache cache = new Cache();
+
+    @Data
+    public static class S3 {
+        // MinIO 등 S3 호환 저장소 주소 (AWS S3면 비워 둠)
+        private String endpoint;
+        private String region = "ap-northeast-2";
+        private String bucketName;
+        // 비워 두면 기본 자격 증명 체인(환경 변수, IAM Role 등) 사용
+        private String accessKey;
+        private String secretKey;
+        // MinIO는 path-style 주소 사용
+        private boolean pathStyleAccess = false;
+    }
+
+    @Data
+    public static class Cache {
+        private String path = "uploads/cache";
+        private DataSize maxSize = DataSize.ofGigabytes(10);
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.common.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 로컬 디스크 저장소 (키 = 루트 기준 상대 경로)
+ * - 같은 파일 시스템의 임시 파일은 복사 없이 이동
+ */
+public class LocalFileStorage implements FileStorage {
+
+    private final Path root;
+
+    public LocalFileStorage(Path root) {
+        this.root = root.toAbsolutePath().normalize();
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return Files.isRegularFile(resolve(key));
+    }
+
+    @Override
+    public void put(String key, Path source) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        move(source, target);
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        return Files.newInputStream(resolve(key));
+    }
+
+    @Override
+    public Path getLocalPath(String key) {
+        Path path = resolve(key);
+        return Files.isRegularFile(path) ? path : null;
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        Files.deleteIfExists(resolve(key));
+    }
+
+    @Override
+    public void move(String sourceKey, String targetKey) throws IOException {
+        Path source = resolve(sourceKey);
+        if (!Files.isRegularFile(source)) {
+            throw new NoSuchFileException(sourceKey);
+        }
+        Path target = resolve(targetKey);
+        Files.createDirectories(target.getParent());
+        move(source, target);
+        Files.setLastModifiedTime(target, FileTime.from(Instant.now()));
+    }
+
+    /**
+     * 디렉토리 탐색으로 키 순서 목록 조회
+     * - 디렉토리 이름 뒤에 '/'를 붙여 정렬하면 전체 키의 문자열 순서와 같아짐 (S3 목록 순서와 동일)
+     * - startAfter 이전 키만 있는 디렉토리는 들어가지 않음
+     */
+    @Override
+    public List<StoredObject> list(String prefix, String startAfter, int limit) throws IOException {
+        List<StoredObject> result = new ArrayList<>();
+        if (Files.isDirectory(root)) {
+            collect(root, prefix != null ? prefix : "", startAfter != null ? startAfter : "", limit, result);
+        }
+        return result;
+    }
+
+    private void collect(Path dir, String prefix, String startAfter, int limit, List<StoredObject> result) throws IOException {
+        List<Path> children;
+        try (Stream<Path> stream = Files.list(dir)) {
+            children = stream.sorted(Comparator.comparing(this::sortKey)).toList();
+        }
+        for (Path child : children) {
+            if (result.size() >= limit) {
+                return;
+            }
+            if (child.getFileName().toString().startsWith(".")) {
+                continue;
+            }
+            String key = keyOf(child);
+            if (Files.isDirectory(child, LinkOption.NOFOLLOW_LINKS)) {
+                String dirPrefix = key + "/";
+                boolean overlapsPrefix = dirPrefix.startsWith(prefix) || prefix.startsWith(dirPrefix);
+                boolean beforeStart = dirPrefix.compareTo(startAfter) < 0 && !startAfter.startsWith(dirPrefix);
+                if (overlapsPrefix && !beforeStart) {
+                    collect(child, prefix, startAfter, limit, result);
+                }
+            } else if (key.startsWith(prefix) && key.compareTo(startAfter) > 0) {
+                BasicFileAttributes attributes = Files.readAttributes(child, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+                if (attributes.isRegularFile()) {
+                    result.add(new StoredObject(key, attributes.size(), attributes.lastModifiedTime().toInstant()));
+                }
+            }
+        }
+    }
+
+    @Override
+    public String location(String key) {
+        return resolve(key).toString();
+    }
+
+    private String sortKey(Path path) {
+        String name = path.getFileName().toString();
+        return Files.isDirectory(path, LinkOption.NOFOLLOW_LINKS) ? name + "/" : name;
+    }
+
+    private String keyOf(Path path) {
+        return root.relativize(path).toString().replace('\\', '/');
+    }
+
+    private Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root)) {
+            throw new IllegalArgumentException("잘못된 저장소 키: " + key);
+        }
+        return path;
+    }
+
+    private void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.common.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.List;
+
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+/**
+ * S3 호환 오브젝트 스토리지 저장소 (AWS S3, MinIO 등)
+ * - 로컬 경로가 없으므로 CachingFileStorage로 감싸서 사용
+ * - SDK 예외는 IOException으로 변환하여 로컬 저장소와 같은 방식으로 처리
+ */
+public class S3FileStorage implements FileStorage {
+
+    private final S3Client client;
+    private final String bucket;
+
+    public S3FileStorage(S3Client client, String bucket) {
+        this.client = client;
+        this.bucket = bucket;
+    }
+
+    public static S3FileStorage create(FileStorageProperties.S3 properties) {
+        if (properties.getBucketName() == null || properties.getBucketName().isBlank()) {
+            throw new IllegalStateException("file.storage.s3.bucket-name 설정이 필요합니다.");
+        }
+        AwsCredentialsProvider credentials = properties.getAccessKey() != null && !properties.getAccessKey().isBlank()
+                ? StaticCredentialsProvider.create(AwsBasicCredentials.create(properties.getAccessKey(), properties.getSecretKey()))
+                : DefaultCredentialsProvider.create();
+        S3ClientBuilder builder = S3Client.builder()
+                .region(Region.of(properties.getRegion()))
+                .credentialsProvider(credentials)
+                .serviceConfiguration(S3Configuration.builder()
+                        .pathStyleAccessEnabled(properties.isPathStyleAccess())
+                        .build());
+        if (properties.getEndpoint() != null && !properties.getEndpoint().isBlank()) {
+            builder.endpointOverride(URI.create(properties.getEndpoint()));
+        }
+        return new S3FileStorage(builder.build(), properties.getBucketName());
+    }
+
+    @Override
+    public boolean exists(String key) throws IOException {
+        try {
+            client.headObject(HeadObjectRequest.builder().bucket(bucket).key(key).build());
+            return true;
+        } catch (NoSuchKeyException e) {
+            return false;
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return false;
+            }
+            throw new IOException("S3 조회 실패: " + key, e);
+        } catch (SdkException e) {
+            throw new IOException("S3 조회 실패: " + key, e);
+        }
+    }
+
+    @Override
+    public void put(String key, Path source) throws IOException {
+        try {
+            client.putObject(PutObjectRequest.builder().bucket(bucket).key(key).build(), RequestBody.fromFile(source));
+        } catch (SdkException e) {
+            throw new IOException("S3 저장 실패: " + key, e);
+        }
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        try {
+            return client.getObject(GetObjectRequest.builder().bucket(bucket).key(key).build());
+        } catch (NoSuchKeyException e) {
+            throw new NoSuchFileException(key);
+        } catch (SdkException e) {
+            throw new IOException("S3 읽기 실패: " + key, e);
+        }
+    }
+
+    @Override
+    public Path getLocalPath(String key) {
+        return null;
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        try {
+            client.deleteObject(DeleteObjectRequest.builder().bucket(bucket).key(key).build());
+        } catch (SdkException e) {
+            throw new IOException("S3 삭제 실패: " + key, e);
+        }
+    }
+
+    @Override
+    public void move(String sourceKey, String targetKey) throws IOException {
+        try {
+            client.copyObject(CopyObjectRequest.builder()
+                    .sourceBucket(bucket).sourceKey(sourceKey)
+                    .destinationBucket(bucket).destinationKey(targetKey)
+                    .build());
+        } catch (NoSuchKeyException e) {
+            throw new NoSuchFileException(sourceKey);
+        } catch (SdkException e) {
+            throw new IOException("S3 이동 실패: " + sourceKey, e);
+        }
+        delete(sourceKey);
+    }
+
+    @Override
+    public List<StoredObject> list(String prefix, String startAfter, int limit) throws IOException {
+        try {
+            ListObjectsV2Request.Builder request = ListObjectsV2Request.builder()
+                    .bucket(bucket)
+                    .maxKeys(limit);
+            if (prefix != null && !prefix.isEmpty()) {
+                request.prefix(prefix);
+            }
+            if (startAfter != null && !startAfter.isEmpty()) {
+                request.startAfter(startAfter);
+            }
+            return client.listObjectsV2(request.build()).contents().stream()
+                    .map(object -> new StoredObject(object.key(), object.size(), object.lastModified()))
+                    .toList();
+        } catch (SdkException e) {
+            throw new IOException("S3 목록 조회 실패: " + prefix, e);
+        }
+    }
+
+    @Override
+    public String location(String key) {
+        return "s3://" + bucket + "/" + key;
+    }
+}
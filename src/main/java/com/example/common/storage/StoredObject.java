@@ -0,0 +1,17 @@
+package com.example.common.storage;
+
+import java.time.Instant;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 저장소 목록 조회 결과
+ */
+@Getter
+@AllArgsConstructor
+public class StoredObject {
+    private final String key;
+    private final long size;
+    private final Instant lastModified;
+}
@@ -0,0 +1,190 @@
+package com.example.common.timer;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 계층형 타이머 휠 (키별 예약, 같은 키로 다시 예약하면 교체)
+ * - 단계마다 64칸, 1단계 한 칸 = tick, 상위 단계 한 칸 = 하위 단계 한 바퀴 (5단계, tick 1초면 약 34년)
+ * - 예약/취소 O(1), 먼 미래의 예약은 상위 단계에 있다가 시간이 다가오면 하위 단계로 내려옴
+ * - 범위를 넘는 예약은 최상위 단계가 한 바퀴 돌 때마다 다시 배치
+ * - 만료된 작업은 전용 스레드가 아닌 executor에서 실행 (DB 작업 등으로 tick이 밀리지 않도록)
+ */
+@Slf4j
+public class HierarchicalTimerWheel<K> {
+
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final int LEVELS = 5;
+
+    private final long tickMillis;
+    private final long startMillis;
+    private final Executor executor;
+    private final Thread thread;
+
+    @SuppressWarnings("unchecked")
+    private final List<Timeout<K>>[][] wheels = new List[LEVELS][WHEEL_SIZE];
+    private final List<Timeout<K>> overflow = new ArrayList<>();
+    private final Map<K, Timeout<K>> timeouts = new HashMap<>();
+    private long currentTick;
+    private volatile boolean running = true;
+
+    public HierarchicalTimerWheel(String name, long tickMillis, Executor executor) {
+        this.tickMillis = tickMillis;
+        this.startMillis = System.currentTimeMillis();
+        this.executor = executor;
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < WHEEL_SIZE; slot++) {
+                wheels[level][slot] = new ArrayList<>();
+            }
+        }
+        this.thread = new Thread(this::run, name);
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * 예약 (같은 키의 기존 예약은 취소), 이미 지난 시각이면 바로 실행
+     */
+    public synchronized void schedule(K key, Instant deadline, Runnable task) {
+        cancel(key);
+        long deadlineTick = Math.max(0, Math.floorDiv(deadline.toEpochMilli() - startMillis + tickMillis - 1, tickMillis));
+        Timeout<K> timeout = new Timeout<>(key, deadlineTick, task);
+        timeouts.put(key, timeout);
+        place(timeout);
+    }
+
+    public synchronized void cancel(K key) {
+        Timeout<K> timeout = timeouts.remove(key);
+        if (timeout != null) {
+            timeout.cancelled = true;
+        }
+    }
+
+    public synchronized void cancelAll() {
+        for (Timeout<K> timeout : timeouts.values()) {
+            timeout.cancelled = true;
+        }
+        timeouts.clear();
+    }
+
+    public synchronized int size() {
+        return timeouts.size();
+    }
+
+    public void stop() {
+        running = false;
+        thread.interrupt();
+    }
+
+    /**
+     * deadline과 현재 tick의 상위 자리가 같아지는 가장 낮은 단계에 배치
+     */
+    private void place(Timeout<K> timeout) {
+        if (timeout.deadlineTick <= currentTick) {
+            expire(timeout);
+            return;
+        }
+        for (int level = 0; level < LEVELS; level++) {
+            int shift = WHEEL_BITS * (level + 1);
+            if ((timeout.deadlineTick >>> shift) == (currentTick >>> shift)) {
+                int slot = (int) ((timeout.deadlineTick >>> (WHEEL_BITS * level)) & WHEEL_MASK);
+                wheels[level][slot].add(timeout);
+                return;
+            }
+        }
+        overflow.add(timeout);
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                long targetTick = (System.currentTimeMillis() - startMillis) / tickMillis;
+                synchronized (this) {
+                    // GC 등으로 늦어진 tick은 한꺼번에 처리
+                    while (currentTick < targetTick) {
+                        advance();
+                    }
+                }
+                long nextTickMillis = startMillis + (targetTick + 1) * tickMillis;
+                long sleepMillis = nextTickMillis - System.currentTimeMillis();
+                if (sleepMillis > 0) {
+                    TimeUnit.MILLISECONDS.sleep(sleepMillis);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("타이머 휠 처리 중 오류 발생: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    private void advance() {
+        currentTick++;
+        // 상위 단계 칸의 시작 tick에 도달하면 그 칸의 예약을 하위 단계로 내림 (높은 단계부터)
+        for (int level = LEVELS - 1; level >= 1; level--) {
+            if ((currentTick & ((1L << (WHEEL_BITS * level)) - 1)) == 0) {
+                if (level == LEVELS - 1 && (currentTick & ((1L << (WHEEL_BITS * LEVELS)) - 1)) == 0) {
+                    cascade(overflow);
+                }
+                int slot = (int) ((currentTick >>> (WHEEL_BITS * level)) & WHEEL_MASK);
+                cascade(wheels[level][slot]);
+            }
+        }
+        List<Timeout<K>> due = wheels[0][(int) (currentTick & WHEEL_MASK)];
+        if (!due.isEmpty()) {
+            List<Timeout<K>> expired = new ArrayList<>(due);
+            due.clear();
+            for (Timeout<K> timeout : expired) {
+                expire(timeout);
+            }
+        }
+    }
+
+    private void cascade(List<Timeout<K>> bucket) {
+        if (bucket.isEmpty()) {
+            return;
+        }
+        List<Timeout<K>> moving = new ArrayList<>(bucket);
+        bucket.clear();
+        for (Timeout<K> timeout : moving) {
+            if (!timeout.cancelled) {
+                place(timeout);
+            }
+        }
+    }
+
+    private void expire(Timeout<K> timeout) {
+        if (timeout.cancelled) {
+            return;
+        }
+        timeouts.remove(timeout.key, timeout);
+        try {
+            executor.execute(timeout.task);
+        } catch (Exception e) {
+            log.error("타이머 작업 실행 실패 - Key: {}, Error: {}", timeout.key, e.getMessage());
+        }
+    }
+
+    private static final class Timeout<K> {
+        private final K key;
+        private final long deadlineTick;
+        private final Runnable task;
+        private boolean cancelled;
+
+        Timeout(K key, long deadlineTick, Runnable task) {
+            this.key = key;
+            this.deadlineTick = deadlineTick;
+            this.task = task;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.config;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+
+import com.example.cache.CacheInvalidationPublisher;
+import com.example.cache.MybatisRedisCacheInitializer;
+import com.example.cache.TwoLevelCacheManager;
+import com.example.cache.TwoLevelCacheProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 캐시 설정 클래스
+ * - @Cacheable 등에서 사용하는 2단계 CacheManager (L1: Caffeine, L2: Redis) 등록
+ * - 캐시별 TTL은 L2(Redis) 설정에도 동일하게 적용
+ * - MyBatis 2차 캐시(MybatisRedisCache) Redis 자원 주입
+ */
+@Configuration
+@EnableConfigurationProperties(TwoLevelCacheProperties.class)
+public class CacheConfig {
+
+    @Bean
+    public CacheInvalidationPublisher cacheInvalidationPublisher(RedisTemplate<String, Object> redisTemplate,
+                                                                 TwoLevelCacheProperties properties) {
+        return new CacheInvalidationPublisher(redisTemplate, properties.getInvalidationChannel());
+    }
+
+    @Bean
+    public TwoLevelCacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                             GenericJackson2JsonRedisSerializer redisValueSerializer,
+                                             TwoLevelCacheProperties properties,
+                                             CacheInvalidationPublisher cacheInvalidationPublisher,
+                                             RedisMessageListenerContainer redisMessageListenerContainer,
+                                             MeterRegistry meterRegistry) {
+        RedisCacheConfiguration defaults = RedisCacheConfiguration.defaultCacheConfig()
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(redisValueSerializer))
+                .disableCachingNullValues()
+                .entryTtl(properties.getDefaultTtl());
+
+        // 캐시별 TTL
+        Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
+        for (String cacheName : properties.getCaches().keySet()) {
+            cacheConfigurations.put(cacheName, defaults.entryTtl(properties.specFor(cacheName).getTtl()));
+        }
+
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
+                .cacheDefaults(defaults)
+                .withInitialCacheConfigurations(cacheConfigurations)
+                .build();
+        redisCacheManager.afterPropertiesSet();
+
+        TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(redisCacheManager, properties,
+                cacheInvalidationPublisher, redisValueSerializer, meterRegistry);
+
+        // 다른 노드의 L1 무효화 메시지 구독
+        redisMessageListenerContainer.addMessageListener(cacheManager,
+                new ChannelTopic(cacheInvalidationPublisher.getChannel()));
+        return cacheManager;
+    }
+
+    @Bean
+    public MybatisRedisCacheInitializer mybatisRedisCacheInitializer(RedisTemplate<String, Object> redisTemplate,
+                                                                     GenericJackson2JsonRedisSerializer redisValueSerializer,
+                                                                     RedisMessageListenerContainer redisMessageListenerContainer) {
+        return new MybatisRedisCacheInitializer(redisTemplate, redisValueSerializer, redisMessageListenerContainer);
+    }
+}
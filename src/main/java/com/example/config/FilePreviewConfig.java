@@ -0,0 +1,32 @@
+package com.example.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 파일 미리보기(썸네일/첫 페이지) 생성 설정
+ * - 이미지 디코딩/PDF 렌더링은 CPU와 메모리를 많이 쓰므로 작은 고정 크기 풀에서 실행
+ * - 큐가 가득 차면 작업을 버리고, 미리보기는 최초 조회 시 생성됨
+ */
+@Configuration
+public class FilePreviewConfig {
+
+    @Bean(name = "filePreviewExecutor")
+    public ThreadPoolTaskExecutor filePreviewExecutor(
+            @Value("${file.preview.pool-size:2}") int poolSize,
+            @Value("${file.preview.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("file-preview-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+}
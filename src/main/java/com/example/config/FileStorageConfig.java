@@ -0,0 +1,40 @@
+package com.example.config;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.common.storage.CachingFileStorage;
+import com.example.common.storage.FileStorage;
+import com.example.common.storage.FileStorageProperties;
+import com.example.common.storage.LocalFileStorage;
+import com.example.common.storage.S3FileStorage;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 파일 저장소 설정
+ * - local: file.upload.path 디렉토리에 저장 (기본)
+ * - s3: S3 호환 오브젝트 스토리지에 저장하고, 노드별 로컬 디스크 LRU 캐시(file.storage.cache.*)를 앞에 둠
+ */
+@Configuration
+@EnableConfigurationProperties(FileStorageProperties.class)
+public class FileStorageConfig {
+
+    @Bean
+    public FileStorage fileStorage(FileStorageProperties properties,
+                                   @Value("${file.upload.path:uploads}") String uploadPath,
+                                   MeterRegistry meterRegistry) throws IOException {
+        if ("s3".equalsIgnoreCase(properties.getType())) {
+            return new CachingFileStorage(S3FileStorage.create(properties.getS3()),
+                    Paths.get(properties.getCache().getPath()),
+                    properties.getCache().getMaxSize().toBytes(),
+                    meterRegistry);
+        }
+        return new LocalFileStorage(Paths.get(uploadPath));
+    }
+}
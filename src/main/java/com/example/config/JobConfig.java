@@ -0,0 +1,29 @@
+package com.example.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 작업 프레임워크 설정
+ * - jobTriggerExecutor: 운영자가 actuator로 요청한 작업 실행 (요청 스레드를 붙잡지 않도록)
+ * - 정기 실행은 @Scheduled 스레드, 임대 연장은 JobService 내부 스레드에서 처리
+ */
+@Configuration
+public class JobConfig {
+
+    @Bean(name = "jobTriggerExecutor")
+    public ThreadPoolTaskExecutor jobTriggerExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(10);
+        executor.setThreadNamePrefix("job-trigger-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+}
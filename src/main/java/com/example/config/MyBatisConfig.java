@@ -30,6 +30,8 @@ public class MyBatisConfig {
         org.apache.ibatis.session.Configuration configuration = new org.apache.ibatis.session.Configuration();
         configuration.setMapUnderscoreToCamelCase(true);
         configuration.setCallSettersOnNulls(true);
+        // 2차 캐시는 <cache type="com.example.cache.MybatisRedisCache"/>를 선언한 mapper에만 적용
+        configuration.setCacheEnabled(true);
         sessionFactory.setConfiguration(configuration);
 
         return sessionFactory.getObject();
@@ -0,0 +1,45 @@
+package com.example.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 공지 전체 메일 발송 설정
+ * - noticeBroadcastExecutor: 발송 작업 진행 (페이지 조회, cursor 저장), 작업은 하나씩 순서대로
+ * - noticeBroadcastSendExecutor: 페이지 안의 메일을 병렬 발송, 대기열이 차면 진행 스레드가 직접 발송
+ */
+@Configuration
+public class NoticeBroadcastConfig {
+
+    @Bean(name = "noticeBroadcastExecutor")
+    public ThreadPoolTaskExecutor noticeBroadcastExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("notice-broadcast-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "noticeBroadcastSendExecutor")
+    public ThreadPoolTaskExecutor noticeBroadcastSendExecutor(
+            @Value("${email.broadcast.workers:3}") int workers,
+            @Value("${email.broadcast.page-size:200}") int pageSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(pageSize);
+        executor.setThreadNamePrefix("notice-broadcast-send-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 공지사항 시작/종료 타이머 설정
+ * - 타이머 휠 스레드는 만료 판정만 하고, DB 갱신/캐시 무효화는 이 executor에서 실행
+ */
+@Configuration
+public class NoticeTimerConfig {
+
+    @Bean(name = "noticeTimerExecutor")
+    public ThreadPoolTaskExecutor noticeTimerExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("notice-timer-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+}
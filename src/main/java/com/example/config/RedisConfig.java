@@ -1,10 +1,17 @@
 package com.example.config;
 
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
@@ -13,6 +20,7 @@ import org.springframework.data.redis.serializer.StringRedisSerializer;
  * - 캐시 활성화
  * - RedisTemplate 설정
  * - 직렬화 방식 설정
+ * - pub/sub 리스너 컨테이너 설정
  */
 @Configuration
 @EnableCaching  // @Cacheable, @CacheEvict 등 캐시 어노테이션 활성화
@@ -24,7 +32,8 @@ public class RedisConfig {
      * - Key와 Value의 직렬화 방식 설정
      */
     @Bean
-    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory) {
+    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory,
+                                                       GenericJackson2JsonRedisSerializer redisValueSerializer) {
         RedisTemplate<String, Object> template = new RedisTemplate<>();
         
         // Redis 연결 팩토리 설정
@@ -34,17 +43,45 @@ public class RedisConfig {
         template.setKeySerializer(new StringRedisSerializer());
         
         // Value 직렬화 방식: JSON (객체를 JSON으로 변환)
-        template.setValueSerializer(new GenericJackson2JsonRedisSerializer());
+        template.setValueSerializer(redisValueSerializer);
         
         // Hash Key 직렬화 방식: String
         template.setHashKeySerializer(new StringRedisSerializer());
         
         // Hash Value 직렬화 방식: JSON
-        template.setHashValueSerializer(new GenericJackson2JsonRedisSerializer());
+        template.setHashValueSerializer(redisValueSerializer);
         
         // 설정 적용
         template.afterPropertiesSet();
         
         return template;
     }
+
+    /**
+     * Redis Value 직렬화기
+     * - 타입 정보(@class)를 포함한 JSON 직렬화
+     * - LocalDate/LocalDateTime 필드를 가진 DTO(대시보드 통계 등)도 캐시할 수 있도록 JavaTimeModule 등록
+     */
+    @Bean
+    public GenericJackson2JsonRedisSerializer redisValueSerializer() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        objectMapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        objectMapper.activateDefaultTyping(objectMapper.getPolymorphicTypeValidator(),
+                ObjectMapper.DefaultTyping.EVERYTHING, JsonTypeInfo.As.PROPERTY);
+        GenericJackson2JsonRedisSerializer.registerNullValueSerializer(objectMapper, null);
+        return new GenericJackson2JsonRedisSerializer(objectMapper);
+    }
+
+    /**
+     * Redis pub/sub 리스너 컨테이너
+     * - 노드 간 캐시 무효화 등 채널 구독에 공통으로 사용
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
 }
@@ -0,0 +1,29 @@
+package com.example.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 공지사항/Q&A 검색 색인 설정
+ * - 색인 재구성과 변경분 동기화는 한 스레드에서 순서대로 실행 (서로 겹치지 않도록)
+ * - 이미 대기 중인 작업이 있으면 새 요청은 버림 (대기 중인 작업이 최신 상태까지 반영함)
+ */
+@Configuration
+public class SearchIndexConfig {
+
+    @Bean(name = "searchIndexExecutor")
+    public ThreadPoolTaskExecutor searchIndexExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(4);
+        executor.setThreadNamePrefix("search-index-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+}
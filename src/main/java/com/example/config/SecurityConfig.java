@@ -69,6 +69,8 @@ public class SecurityConfig {
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .csrf(csrf -> csrf.disable())
             .authorizeHttpRequests(authz -> authz
+                // 작업 목록/수동 실행은 관리자 로그인 필요
+                .requestMatchers("/actuator/jobs", "/actuator/jobs/**").authenticated()
                 // Actuator 엔드포인트 허용 (모니터링용) - 최우선
                 .requestMatchers("/actuator/**").permitAll()
                 // 헬스체크
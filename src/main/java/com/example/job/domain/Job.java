@@ -0,0 +1,78 @@
+package com.example.job.domain;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import lombok.Getter;
+
+/**
+ * 등록된 백그라운드 작업
+ * - leaseTime이 있으면 Redis 임대(lease)를 얻은 한 노드만 실행 (실행 중에는 주기적으로 연장)
+ * - minLeaseTime: 실행이 빨리 끝나도 이 시간 동안은 임대를 유지 (노드 간 시계 차이로 같은 주기를 두 번 실행하지 않도록)
+ * - leaseTime이 없으면 노드마다 실행 (노드별 메모리 상태를 다루는 작업)
+ * - runWithoutLease: 임대 저장소(Redis) 장애로 임대를 얻을 수 없으면 노드마다 실행 (여러 번 실행돼도 결과가 같은 작업)
+ */
+@Getter
+public class Job {
+
+    private final String name;
+    private final String description;
+    private final Duration leaseTime;
+    private final Duration minLeaseTime;
+    private final boolean runWithoutLease;
+    private final Runnable task;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile LocalDateTime lastStartedAt;
+    private volatile LocalDateTime lastFinishedAt;
+    private volatile Result lastResult;
+    private volatile long lastDurationMillis;
+    private volatile String lastError;
+
+    public Job(String name, String description, Duration leaseTime, Duration minLeaseTime,
+               boolean runWithoutLease, Runnable task) {
+        this.name = name;
+        this.description = description;
+        this.leaseTime = leaseTime;
+        this.minLeaseTime = minLeaseTime != null ? minLeaseTime : Duration.ZERO;
+        this.runWithoutLease = runWithoutLease;
+        this.task = task;
+    }
+
+    public boolean isLeased() {
+        return leaseTime != null;
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    /**
+     * 이 노드에서 이미 실행 중이면 false
+     */
+    public boolean tryAcquire() {
+        return running.compareAndSet(false, true);
+    }
+
+    public void release() {
+        running.set(false);
+    }
+
+    public void start(LocalDateTime now) {
+        lastStartedAt = now;
+    }
+
+    public void finish(LocalDateTime now, Result result, long durationMillis, String error) {
+        lastFinishedAt = now;
+        lastResult = result;
+        lastDurationMillis = durationMillis;
+        lastError = error;
+    }
+
+    public enum Result {
+        SUCCEEDED,
+        FAILED,
+        SKIPPED
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.job.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 지연 작업 (Redis sorted set 멤버로 JSON 저장, 점수 = 실행 시각)
+ * - payload는 작업 종류별 처리기가 해석하는 문자열
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DelayedJob {
+    private String id;
+    private String type;
+    private String payload;
+    private int attempts;
+}
@@ -0,0 +1,26 @@
+package com.example.job.dto;
+
+import java.time.LocalDateTime;
+
+import com.example.job.domain.Job;
+
+import lombok.Data;
+
+/**
+ * 작업 상태 (actuator jobs 엔드포인트 응답)
+ * - running/last*는 이 노드 기준, leaseHeld는 클러스터 기준 (다른 노드가 실행 중이거나 최소 임대 시간 중)
+ */
+@Data
+public class JobStatus {
+    private String name;
+    private String description;
+    private boolean leased;
+    private Long leaseTimeSeconds;
+    private boolean leaseHeld;
+    private boolean running;
+    private LocalDateTime lastStartedAt;
+    private LocalDateTime lastFinishedAt;
+    private Job.Result lastResult;
+    private Long lastDurationMillis;
+    private String lastError;
+}
@@ -0,0 +1,45 @@
+package com.example.job.endpoint;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import com.example.job.dto.JobStatus;
+import com.example.job.service.JobService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 작업 목록/수동 실행 (GET /actuator/jobs, GET·POST /actuator/jobs/{name})
+ * - 관리자 로그인 필요 (SecurityConfig)
+ */
+@Component
+@Endpoint(id = "jobs")
+@RequiredArgsConstructor
+public class JobsEndpoint {
+
+    private final JobService jobService;
+
+    @ReadOperation
+    public List<JobStatus> jobs() {
+        return jobService.getStatuses();
+    }
+
+    @ReadOperation
+    public JobStatus job(@Selector String name) {
+        return jobService.getStatus(name);
+    }
+
+    @WriteOperation
+    public Map<String, Object> trigger(@Selector String name) {
+        if (jobService.getStatus(name) == null) {
+            return null;
+        }
+        return Map.of("job", name, "triggered", jobService.trigger(name));
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.job.scheduler;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.job.service.DelayedJobQueue;
+import com.example.job.service.JobService;
+
+/**
+ * 지연 작업 대기열 조회
+ * - 꺼내기가 원자적이므로 모든 노드에서 실행 (처리량 분산)
+ */
+@Component
+public class DelayedJobScheduler {
+
+    private static final String JOB_NAME = "delayed-job-poll";
+
+    private final JobService jobService;
+
+    public DelayedJobScheduler(JobService jobService, DelayedJobQueue delayedJobQueue) {
+        this.jobService = jobService;
+        jobService.registerLocal(JOB_NAME, "실행 시각이 된 지연 작업 처리", delayedJobQueue::poll);
+    }
+
+    @Scheduled(initialDelayString = "${job.delayed.poll-interval:PT1S}", fixedDelayString = "${job.delayed.poll-interval:PT1S}")
+    public void poll() {
+        jobService.run(JOB_NAME);
+    }
+}
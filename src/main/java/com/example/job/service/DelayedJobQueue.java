@@ -0,0 +1,204 @@
+package com.example.job.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.stereotype.Service;
+
+import com.example.job.dto.DelayedJob;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis sorted set 기반 지연 작업 대기열 (한 번만 실행할 미래 작업)
+ * - 점수 = 실행 시각(epoch millis), 멤버 = 작업 JSON
+ * - 실행 시각이 된 항목은 스크립트로 원자적으로 꺼내 처리 중 목록으로 옮기므로 여러 노드가 동시에 조회해도 한 노드만 처리
+ * - 처리 중 노드가 죽으면 visibility-timeout 후 다시 대기열로 (최소 1회 실행, 처리기는 멱등이어야 함)
+ * - 실패 시 지수 백오프로 재시도, MAX_ATTEMPTS회 실패하면 버림
+ * - 작업 종류별 처리기는 registerHandler로 등록
+ */
+@Slf4j
+@Service
+public class DelayedJobQueue {
+
+    private static final String QUEUE_KEY = "job:delayed";
+    private static final String PROCESSING_KEY = "job:delayed:processing";
+    private static final int MAX_ATTEMPTS = 5;
+    private static final Duration RETRY_BASE_DELAY = Duration.ofSeconds(10);
+    // 처리기가 없는 종류 (배포 중 구버전 노드 등)는 잠시 뒤 다시 대기열로
+    private static final Duration UNKNOWN_TYPE_DELAY = Duration.ofMinutes(1);
+
+    // 실행 시각이 된 항목을 꺼내 처리 중 목록으로 이동 (점수 = 처리 제한 시각)
+    private static final RedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>(
+            "local items = redis.call('zrangebyscore', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, tonumber(ARGV[2])) " +
+            "for _, item in ipairs(items) do " +
+            "  redis.call('zrem', KEYS[1], item) " +
+            "  redis.call('zadd', KEYS[2], ARGV[3], item) " +
+            "end " +
+            "return items",
+            List.class);
+
+    // 처리 제한 시각이 지난 항목을 대기열로 되돌림
+    private static final RedisScript<Long> RECOVER_SCRIPT = new DefaultRedisScript<>(
+            "local items = redis.call('zrangebyscore', KEYS[2], '-inf', ARGV[1], 'LIMIT', 0, tonumber(ARGV[2])) " +
+            "for _, item in ipairs(items) do " +
+            "  redis.call('zrem', KEYS[2], item) " +
+            "  redis.call('zadd', KEYS[1], ARGV[1], item) " +
+            "end " +
+            "return #items",
+            Long.class);
+
+    // 처리 중 항목을 다른 멤버(시도 횟수 증가)로 바꿔 대기열에 다시 추가
+    private static final RedisScript<Long> REQUEUE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('zrem', KEYS[2], ARGV[1]) " +
+            "return redis.call('zadd', KEYS[1], ARGV[3], ARGV[2])",
+            Long.class);
+
+    private static final RedisSerializer<String> STRING = new StringRedisSerializer();
+
+    private final Map<String, Consumer<String>> handlers = new ConcurrentHashMap<>();
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${job.delayed.batch-size:100}")
+    private int batchSize;
+
+    @Value("${job.delayed.visibility-timeout:PT5M}")
+    private Duration visibilityTimeout;
+
+    public DelayedJobQueue(RedisTemplate<String, Object> redisTemplate,
+                           ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void registerHandler(String type, Consumer<String> handler) {
+        if (handlers.putIfAbsent(type, handler) != null) {
+            throw new IllegalStateException("이미 등록된 지연 작업 종류입니다: " + type);
+        }
+    }
+
+    /**
+     * 지연 작업 예약
+     *
+     * @return 작업 ID
+     */
+    public String schedule(String type, String payload, Instant runAt) {
+        DelayedJob job = new DelayedJob(UUID.randomUUID().toString(), type, payload, 0);
+        byte[] member = bytes(toJson(job));
+        redisTemplate.execute((RedisCallback<Boolean>) connection ->
+                connection.zSetCommands().zAdd(bytes(QUEUE_KEY), runAt.toEpochMilli(), member));
+        return job.getId();
+    }
+
+    /**
+     * 실행 시각이 된 작업 처리 (모든 노드에서 주기 호출)
+     *
+     * @return 처리한 작업 수
+     */
+    public int poll() {
+        long now = System.currentTimeMillis();
+        redisTemplate.execute(RECOVER_SCRIPT, STRING, STRING,
+                List.of(QUEUE_KEY, PROCESSING_KEY), String.valueOf(now), String.valueOf(batchSize));
+        @SuppressWarnings("unchecked")
+        List<String> items = (List<String>) redisTemplate.execute(CLAIM_SCRIPT, STRING, STRING,
+                List.of(QUEUE_KEY, PROCESSING_KEY), String.valueOf(now), String.valueOf(batchSize),
+                String.valueOf(now + visibilityTimeout.toMillis()));
+        if (items == null || items.isEmpty()) {
+            return 0;
+        }
+        for (String item : items) {
+            process(item);
+        }
+        return items.size();
+    }
+
+    private void process(String item) {
+        DelayedJob job;
+        try {
+            job = objectMapper.readValue(item, DelayedJob.class);
+        } catch (JsonProcessingException e) {
+            log.error("지연 작업 형식 오류로 버림 - Item: {}", item);
+            complete(item);
+            return;
+        }
+        Consumer<String> handler = handlers.get(job.getType());
+        if (handler == null) {
+            log.warn("지연 작업 처리기가 없습니다 - Type: {}, Id: {}", job.getType(), job.getId());
+            requeue(item, item, Instant.now().plus(UNKNOWN_TYPE_DELAY));
+            return;
+        }
+        try {
+            handler.accept(job.getPayload());
+            complete(item);
+            count(job.getType(), "success");
+        } catch (Exception e) {
+            int attempts = job.getAttempts() + 1;
+            if (attempts >= MAX_ATTEMPTS) {
+                complete(item);
+                count(job.getType(), "dropped");
+                log.error("지연 작업 재시도 한도 초과로 버림 - Type: {}, Id: {}, Error: {}",
+                        job.getType(), job.getId(), e.getMessage(), e);
+                return;
+            }
+            job.setAttempts(attempts);
+            Duration delay = RETRY_BASE_DELAY.multipliedBy(1L << (attempts - 1));
+            requeue(item, toJson(job), Instant.now().plus(delay));
+            count(job.getType(), "failure");
+            log.warn("지연 작업 실패, {} 후 재시도 - Type: {}, Id: {}, Attempts: {}, Error: {}",
+                    delay, job.getType(), job.getId(), attempts, e.getMessage());
+        }
+    }
+
+    private void complete(String item) {
+        byte[] member = bytes(item);
+        redisTemplate.execute((RedisCallback<Long>) connection ->
+                connection.zSetCommands().zRem(bytes(PROCESSING_KEY), member));
+    }
+
+    private void requeue(String item, String newItem, Instant runAt) {
+        redisTemplate.execute(REQUEUE_SCRIPT, STRING, STRING,
+                List.of(QUEUE_KEY, PROCESSING_KEY), item, newItem, String.valueOf(runAt.toEpochMilli()));
+    }
+
+    private void count(String type, String result) {
+        Counter.builder("job.delayed.executions")
+                .description("지연 작업 처리 수")
+                .tag("type", type)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private String toJson(DelayedJob job) {
+        try {
+            return objectMapper.writeValueAsString(job);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("지연 작업 직렬화 실패", e);
+        }
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,246 @@
+package com.example.job.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import com.example.common.service.RedisService;
+import com.example.job.domain.Job;
+import com.example.job.dto.JobStatus;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 백그라운드 작업 등록/실행
+ * - 스케줄러는 작업을 이름으로 등록해 두고 @Scheduled/이벤트에서 run(name) 호출
+ * - 임대 작업: Redis 임대를 얻은 노드만 실행, 실행 중에는 leaseTime의 1/3마다 연장
+ *   (Redis 장애로 임대를 얻지 못하면 건너뜀, 멱등 작업으로 등록했으면 임대 없이 실행)
+ * - 지표: job.execution (작업별 실행 시간, result=success/failure),
+ *   job.skipped (reason=lease/lease-unavailable/running)
+ * - actuator jobs 엔드포인트에서 목록 조회와 수동 실행
+ */
+@Slf4j
+@Service
+public class JobService implements DisposableBean {
+
+    private static final String LEASE_KEY_PREFIX = "job:lease:";
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final Map<String, Job> jobs = new ConcurrentSkipListMap<>();
+    private final RedisService redisService;
+    private final TaskExecutor jobTriggerExecutor;
+    private final MeterRegistry meterRegistry;
+    private final ScheduledExecutorService leaseRenewer;
+
+    public JobService(RedisService redisService,
+                      @Qualifier("jobTriggerExecutor") TaskExecutor jobTriggerExecutor,
+                      MeterRegistry meterRegistry) {
+        this.redisService = redisService;
+        this.jobTriggerExecutor = jobTriggerExecutor;
+        this.meterRegistry = meterRegistry;
+        this.leaseRenewer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "job-lease-renewer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 한 노드에서만 실행할 작업 등록
+     *
+     * @param leaseTime    실행 중 임대 유지 시간 (연장 주기의 기준, 노드가 죽으면 이 시간 후 다른 노드가 실행 가능)
+     * @param minLeaseTime 실행 후에도 임대를 유지할 최소 시간
+     */
+    public void register(String name, String description, Duration leaseTime, Duration minLeaseTime, Runnable task) {
+        add(new Job(name, description, leaseTime, minLeaseTime, false, task));
+    }
+
+    /**
+     * 한 노드에서만 실행하되, Redis 장애로 임대를 얻을 수 없으면 노드마다 실행할 작업 등록
+     * - 여러 노드가 동시에 실행해도 결과가 같은(조건부 UPDATE 등) 작업이면서 건너뛰면 안 되는 작업용
+     */
+    public void registerIdempotent(String name, String description, Duration leaseTime, Duration minLeaseTime, Runnable task) {
+        add(new Job(name, description, leaseTime, minLeaseTime, true, task));
+    }
+
+    /**
+     * 노드마다 실행할 작업 등록
+     */
+    public void registerLocal(String name, String description, Runnable task) {
+        add(new Job(name, description, null, null, false, task));
+    }
+
+    private void add(Job job) {
+        if (jobs.putIfAbsent(job.getName(), job) != null) {
+            throw new IllegalStateException("이미 등록된 작업입니다: " + job.getName());
+        }
+        for (String result : new String[]{"success", "failure"}) {
+            executionTimer(job.getName(), result);
+        }
+    }
+
+    /**
+     * 작업 실행 (호출 스레드에서 실행, 예외는 기록 후 삼킴)
+     */
+    public Job.Result run(String name) {
+        Job job = jobs.get(name);
+        if (job == null) {
+            throw new IllegalArgumentException("등록되지 않은 작업입니다: " + name);
+        }
+        if (!job.tryAcquire()) {
+            skipped(job, "running");
+            return Job.Result.SKIPPED;
+        }
+        try {
+            return job.isLeased() ? runLeased(job) : execute(job);
+        } finally {
+            job.release();
+        }
+    }
+
+    /**
+     * 운영자 수동 실행 요청 (백그라운드, 임대 규칙은 정기 실행과 동일)
+     *
+     * @return 등록되지 않은 작업이거나 실행 대기열이 가득 차면 false
+     */
+    public boolean trigger(String name) {
+        if (!jobs.containsKey(name)) {
+            return false;
+        }
+        try {
+            jobTriggerExecutor.execute(() -> {
+                Job.Result result = run(name);
+                log.info("작업 수동 실행 완료 - Job: {}, Result: {}", name, result);
+            });
+            return true;
+        } catch (TaskRejectedException e) {
+            log.warn("작업 수동 실행 대기열이 가득 찼습니다 - Job: {}", name);
+            return false;
+        }
+    }
+
+    public List<JobStatus> getStatuses() {
+        return jobs.values().stream().map(this::toStatus).toList();
+    }
+
+    public JobStatus getStatus(String name) {
+        Job job = jobs.get(name);
+        return job != null ? toStatus(job) : null;
+    }
+
+    @Override
+    public void destroy() {
+        leaseRenewer.shutdownNow();
+    }
+
+    private Job.Result runLeased(Job job) {
+        String leaseKey = LEASE_KEY_PREFIX + job.getName();
+        String token;
+        try {
+            token = redisService.acquireLock(leaseKey, job.getLeaseTime());
+        } catch (DataAccessException e) {
+            if (job.isRunWithoutLease()) {
+                log.warn("작업 임대 저장소 사용 불가, 임대 없이 실행 - Job: {}, Error: {}", job.getName(), e.getMessage());
+                return execute(job);
+            }
+            log.error("작업 임대 획득 실패 - Job: {}, Error: {}", job.getName(), e.getMessage());
+            skipped(job, "lease-unavailable");
+            return Job.Result.SKIPPED;
+        }
+        if (token == null) {
+            skipped(job, "lease");
+            return Job.Result.SKIPPED;
+        }
+        long renewMillis = Math.max(1000, job.getLeaseTime().toMillis() / 3);
+        ScheduledFuture<?> renewal = leaseRenewer.scheduleAtFixedRate(() -> {
+            if (!redisService.extendLock(leaseKey, token, job.getLeaseTime())) {
+                log.warn("작업 임대 연장 실패 (다른 노드가 실행할 수 있음) - Job: {}", job.getName());
+            }
+        }, renewMillis, renewMillis, TimeUnit.MILLISECONDS);
+        long startedAt = System.nanoTime();
+        try {
+            return execute(job);
+        } finally {
+            renewal.cancel(false);
+            Duration remaining = job.getMinLeaseTime().minusNanos(System.nanoTime() - startedAt);
+            if (remaining.toMillis() > 0) {
+                redisService.extendLock(leaseKey, token, remaining);
+            } else {
+                redisService.unlock(leaseKey, token);
+            }
+        }
+    }
+
+    private Job.Result execute(Job job) {
+        job.start(LocalDateTime.now(KST));
+        long startedAt = System.nanoTime();
+        Job.Result result;
+        String error = null;
+        try {
+            job.getTask().run();
+            result = Job.Result.SUCCEEDED;
+        } catch (Exception e) {
+            result = Job.Result.FAILED;
+            error = e.getMessage();
+            log.error("작업 실행 중 오류 발생 - Job: {}, Error: {}", job.getName(), e.getMessage(), e);
+        }
+        long elapsed = System.nanoTime() - startedAt;
+        executionTimer(job.getName(), result == Job.Result.SUCCEEDED ? "success" : "failure")
+                .record(elapsed, TimeUnit.NANOSECONDS);
+        job.finish(LocalDateTime.now(KST), result, TimeUnit.NANOSECONDS.toMillis(elapsed), error);
+        return result;
+    }
+
+    private void skipped(Job job, String reason) {
+        Counter.builder("job.skipped")
+                .description("실행하지 않고 건너뛴 작업 수")
+                .tag("job", job.getName())
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+        log.debug("작업 건너뜀 - Job: {}, Reason: {}", job.getName(), reason);
+    }
+
+    private Timer executionTimer(String name, String result) {
+        return Timer.builder("job.execution")
+                .description("작업 실행 시간")
+                .tag("job", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private JobStatus toStatus(Job job) {
+        JobStatus status = new JobStatus();
+        status.setName(job.getName());
+        status.setDescription(job.getDescription());
+        status.setLeased(job.isLeased());
+        status.setRunning(job.isRunning());
+        if (job.isLeased()) {
+            status.setLeaseTimeSeconds(job.getLeaseTime().toSeconds());
+            status.setLeaseHeld(redisService.exists(LEASE_KEY_PREFIX + job.getName()));
+        }
+        status.setLastStartedAt(job.getLastStartedAt());
+        status.setLastFinishedAt(job.getLastFinishedAt());
+        status.setLastResult(job.getLastResult());
+        status.setLastDurationMillis(job.getLastResult() != null ? job.getLastDurationMillis() : null);
+        status.setLastError(job.getLastError());
+        return status;
+    }
+}
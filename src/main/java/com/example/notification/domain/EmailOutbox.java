@@ -0,0 +1,89 @@
+package com.example.notification.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 이메일 발송 대기열 (outbox)
+ * - 업무 트랜잭션 안에서 저장하고, 커밋 후 발송 worker가 SMTP로 전달
+ * - payload는 메일 종류별 DTO의 JSON (발송 시점에 렌더링)
+ * - 모아 보내기 대상 종류는 수신자별로 잠시 대기 후 한 통으로 합쳐 발송 (EmailOutboxDispatcher)
+ */
+@Entity
+@Table(name = "email_outbox", indexes = {
+        @Index(name = "idx_email_outbox_status_next_attempt", columnList = "status, next_attempt_at"),
+        @Index(name = "idx_email_outbox_recipient_status", columnList = "recipient, status")
+})
+@Getter
+@Setter
+public class EmailOutbox {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "email_type", nullable = false, length = 30)
+    private EmailType emailType;
+    
+    @Column(name = "recipient", nullable = false, length = 255)
+    private String recipient;
+    
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private OutboxStatus status = OutboxStatus.PENDING;
+    
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+    
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+    
+    // SENDING 상태의 점유 만료 시각 (발송 중 노드가 죽으면 이후 다른 worker가 가져감)
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+    
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+    
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+    
+    public enum EmailType {
+        REMITTANCE_LIMIT(true),     // 송금 한도 요청 승인/반려
+        QNA_ANSWER(true);           // Q&A 답변 등록
+        
+        // 같은 수신자의 다른 알림과 합쳐 보낼 수 있는지
+        private final boolean digestible;
+        
+        EmailType(boolean digestible) {
+            this.digestible = digestible;
+        }
+        
+        public boolean isDigestible() {
+            return digestible;
+        }
+        
+        public static List<EmailType> digestibleTypes() {
+            return Arrays.stream(values()).filter(EmailType::isDigestible).toList();
+        }
+    }
+    
+    public enum OutboxStatus {
+        PENDING,    // 발송 대기 (재시도 대기 포함)
+        SENDING,    // 발송 중
+        SENT,       // 발송 완료
+        DEAD        // 재시도 초과, 수동 확인 필요
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.notification.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 긴급 공지 전체 메일 발송 작업
+ * - 수신자를 사용자 ID 순으로 페이지 단위 발송하고, 페이지마다 마지막 사용자 ID(cursor)를 저장
+ * - 중단되면 cursor 다음 사용자부터 이어서 발송
+ * - SMTP 연결/인증 오류로 중단되면 cursor를 그대로 두고 backoff 후 재시작
+ */
+@Entity
+@Table(name = "notice_broadcast", indexes = {
+        @Index(name = "idx_notice_broadcast_status", columnList = "status")
+})
+@Getter
+@Setter
+public class NoticeBroadcast {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "notice_id", nullable = false)
+    private Long noticeId;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private BroadcastStatus status = BroadcastStatus.PENDING;
+    
+    // 발송을 마친 마지막 사용자 ID
+    @Column(name = "last_user_id", nullable = false)
+    private Long lastUserId = 0L;
+    
+    @Column(name = "sent_count", nullable = false)
+    private int sentCount;
+    
+    @Column(name = "failed_count", nullable = false)
+    private int failedCount;
+    
+    // 연속으로 중단된 실행 수 (SMTP 연결/인증 오류, 페이지 발송 성공 시 0)
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+    
+    // 중단 후 다음 재시작 가능 시각
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+    
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+    
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+    
+    public enum BroadcastStatus {
+        PENDING,    // 대기
+        RUNNING,    // 발송 중 (중단 시 재시작 대상)
+        COMPLETED,  // 완료
+        CANCELED    // 공지사항 삭제 등으로 취소
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.notification.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Q&A 답변 알림 메일 내용
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class QnaAnswerEmailPayload {
+    private String userName;
+    private String qnaTitle;
+    private String qnaContent;
+    private String answerContent;
+}
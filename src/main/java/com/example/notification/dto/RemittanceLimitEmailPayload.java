@@ -0,0 +1,24 @@
+package com.example.notification.dto;
+
+import java.math.BigDecimal;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 송금 한도 요청 승인/반려 메일 내용
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RemittanceLimitEmailPayload {
+    private String userName;
+    private String status;
+    private String comment;
+    private BigDecimal dailyLimit;
+    private BigDecimal monthlyLimit;
+    private BigDecimal singleLimit;
+}
@@ -0,0 +1,66 @@
+package com.example.notification.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.notification.domain.EmailOutbox;
+import com.example.notification.domain.EmailOutbox.EmailType;
+import com.example.notification.domain.EmailOutbox.OutboxStatus;
+
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+    
+    /**
+     * 발송할 차례가 된 메일 ID (재시도 시각 도래 또는 점유가 만료된 발송 중 메일)
+     */
+    @Query("SELECT o.id FROM EmailOutbox o " +
+           "WHERE (o.status = 'PENDING' AND o.nextAttemptAt <= :now) " +
+           "   OR (o.status = 'SENDING' AND o.lockedUntil < :now) " +
+           "ORDER BY o.id")
+    List<Long> findDueIds(@Param("now") LocalDateTime now, Pageable pageable);
+    
+    /**
+     * 발송 점유 (조건부 UPDATE, 여러 worker/노드 중 한 곳만 성공)
+     *
+     * @return 점유에 성공하면 1
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE EmailOutbox o SET o.status = 'SENDING', o.lockedUntil = :lockedUntil " +
+           "WHERE o.id = :id " +
+           "AND ((o.status = 'PENDING' AND o.nextAttemptAt <= :now) OR (o.status = 'SENDING' AND o.lockedUntil < :now))")
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("lockedUntil") LocalDateTime lockedUntil);
+    
+    /**
+     * 같은 수신자에게 합쳐 보낼 대기 중인 메일 ID (발송 시각과 관계없이)
+     */
+    @Query("SELECT o.id FROM EmailOutbox o " +
+           "WHERE o.recipient = :recipient AND o.status = 'PENDING' AND o.emailType IN :types AND o.id <> :id " +
+           "ORDER BY o.id")
+    List<Long> findDigestCandidateIds(@Param("recipient") String recipient, @Param("id") Long id,
+                                      @Param("types") Collection<EmailType> types, Pageable pageable);
+    
+    /**
+     * 모아 보내기 점유 (대기 시간이 남아 있어도 PENDING이면 점유)
+     *
+     * @return 점유에 성공하면 1
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE EmailOutbox o SET o.status = 'SENDING', o.lockedUntil = :lockedUntil " +
+           "WHERE o.id = :id AND o.status = 'PENDING'")
+    int claimForDigest(@Param("id") Long id, @Param("lockedUntil") LocalDateTime lockedUntil);
+    
+    long countByStatus(OutboxStatus status);
+    
+    long countByRecipientAndStatusAndEmailTypeIn(String recipient, OutboxStatus status, Collection<EmailType> types);
+}
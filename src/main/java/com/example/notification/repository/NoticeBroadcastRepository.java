@@ -0,0 +1,19 @@
+package com.example.notification.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.example.notification.domain.NoticeBroadcast;
+import com.example.notification.domain.NoticeBroadcast.BroadcastStatus;
+
+@Repository
+public interface NoticeBroadcastRepository extends JpaRepository<NoticeBroadcast, Long> {
+    
+    /**
+     * 끝나지 않은 발송 작업 (재시작 시 이어서 발송)
+     */
+    List<NoticeBroadcast> findByStatusInOrderByIdAsc(Collection<BroadcastStatus> statuses);
+}
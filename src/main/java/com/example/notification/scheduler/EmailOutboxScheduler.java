@@ -0,0 +1,33 @@
+package com.example.notification.scheduler;
+
+import com.example.job.service.JobService;
+import com.example.notification.service.EmailOutboxDispatcher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이메일 outbox 주기 조회
+ * - 커밋 직후 깨우기를 놓친 메일(재시작, worker 포화), 재시도 시각이 된 메일 발송
+ * - 대기열 크기 지표 갱신
+ * - 노드별 발송 worker를 깨우는 작업이므로 모든 노드에서 실행 (메일은 행 단위로 선점)
+ */
+@Component
+public class EmailOutboxScheduler {
+
+    private static final String JOB_NAME = "email-outbox-poll";
+
+    private final JobService jobService;
+
+    public EmailOutboxScheduler(JobService jobService, EmailOutboxDispatcher emailOutboxDispatcher) {
+        this.jobService = jobService;
+        jobService.registerLocal(JOB_NAME, "이메일 outbox 조회 및 발송 worker 깨우기", () -> {
+            emailOutboxDispatcher.refreshDepth();
+            emailOutboxDispatcher.wakeUp();
+        });
+    }
+
+    @Scheduled(initialDelayString = "${email.outbox.initial-delay:PT30S}", fixedDelayString = "${email.outbox.poll-interval:PT30S}")
+    public void pollOutbox() {
+        jobService.run(JOB_NAME);
+    }
+}
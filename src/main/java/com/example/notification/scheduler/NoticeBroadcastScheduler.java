@@ -0,0 +1,39 @@
+package com.example.notification.scheduler;
+
+import java.time.Duration;
+
+import com.example.job.service.JobService;
+import com.example.notification.service.NoticeBroadcastService;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 공지 전체 메일 발송 재시작
+ * - 서버 시작 시, 이후 주기적으로 끝나지 않은 발송 작업을 이어서 진행 (다른 노드가 중단한 작업 포함)
+ * - 한 주기에 한 노드만 조회
+ */
+@Component
+public class NoticeBroadcastScheduler {
+
+    private static final String JOB_NAME = "notice-broadcast-resume";
+
+    private final JobService jobService;
+
+    public NoticeBroadcastScheduler(JobService jobService, NoticeBroadcastService noticeBroadcastService) {
+        this.jobService = jobService;
+        jobService.register(JOB_NAME, "끝나지 않은 공지 메일 발송 이어서 진행",
+                Duration.ofMinutes(1), Duration.ofSeconds(30), noticeBroadcastService::resumeUnfinished);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        resumeUnfinished();
+    }
+
+    @Scheduled(initialDelayString = "${email.broadcast.resume-interval:PT1M}", fixedDelayString = "${email.broadcast.resume-interval:PT1M}")
+    public void resumeUnfinished() {
+        jobService.run(JOB_NAME);
+    }
+}
@@ -0,0 +1,306 @@
+package com.example.notification.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import com.example.common.service.EmailService;
+import com.example.notification.domain.EmailOutbox;
+import com.example.notification.domain.EmailOutbox.OutboxStatus;
+import com.example.notification.dto.QnaAnswerEmailPayload;
+import com.example.notification.dto.RemittanceLimitEmailPayload;
+import com.example.notification.repository.EmailOutboxRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.mail.internet.AddressException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * outbox 발송 worker
+ * - 발송할 차례가 된 메일을 조건부 UPDATE로 점유한 뒤 발송 (여러 worker/노드가 같은 메일을 보내지 않음)
+ * - 실패 시 지수 backoff(+jitter)로 재시도, 최대 횟수를 넘거나 주소 오류면 DEAD
+ * - DB 커넥션은 점유/결과 기록 때만 잠깐 사용하고 SMTP 대기 중에는 잡지 않음
+ * - 모아 보내기 대상이면 같은 수신자의 대기 중인 알림을 함께 점유하여 한 통으로 발송
+ */
+@Slf4j
+@Service
+public class EmailOutboxDispatcher {
+    
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final EmailService emailService;
+    private final ObjectMapper objectMapper;
+    private final TaskExecutor emailOutboxExecutor;
+    private final MeterRegistry meterRegistry;
+    
+    private final AtomicLong pendingCount = new AtomicLong();
+    private final AtomicLong deadCount = new AtomicLong();
+    private final Timer deliveryLatency;
+    private final Counter sentCounter;
+    private final Counter retryCounter;
+    private final Counter deadCounter;
+    private final DistributionSummary digestSize;
+    
+    @Value("${email.outbox.batch-size:50}")
+    private int batchSize;
+    
+    // 한 통으로 합칠 최대 알림 수 (1이면 합치지 않음)
+    @Value("${email.digest.max-items:10}")
+    private int digestMaxItems;
+    
+    @Value("${email.outbox.max-attempts:8}")
+    private int maxAttempts;
+    
+    @Value("${email.outbox.backoff-base:PT30S}")
+    private Duration backoffBase;
+    
+    @Value("${email.outbox.backoff-max:PT1H}")
+    private Duration backoffMax;
+    
+    // 이 시간 안에 결과가 기록되지 않으면 발송 중 노드가 죽은 것으로 보고 다시 발송
+    @Value("${email.outbox.lock-timeout:PT5M}")
+    private Duration lockTimeout;
+    
+    public EmailOutboxDispatcher(EmailOutboxRepository emailOutboxRepository,
+                                 EmailService emailService,
+                                 ObjectMapper objectMapper,
+                                 @Qualifier("emailOutboxExecutor") TaskExecutor emailOutboxExecutor,
+                                 MeterRegistry meterRegistry) {
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.emailService = emailService;
+        this.objectMapper = objectMapper;
+        this.emailOutboxExecutor = emailOutboxExecutor;
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("email.outbox.depth", pendingCount, AtomicLong::get)
+                .description("발송 대기 중인 이메일 수")
+                .tag("status", "pending")
+                .register(meterRegistry);
+        Gauge.builder("email.outbox.depth", deadCount, AtomicLong::get)
+                .description("발송 대기 중인 이메일 수")
+                .tag("status", "dead")
+                .register(meterRegistry);
+        this.deliveryLatency = Timer.builder("email.outbox.delivery.latency")
+                .description("등록부터 발송 완료까지 걸린 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.sentCounter = resultCounter("sent");
+        this.retryCounter = resultCounter("retry");
+        this.deadCounter = resultCounter("dead");
+        this.digestSize = DistributionSummary.builder("email.digest.size")
+                .description("알림 모음 한 통에 합친 알림 수")
+                .register(meterRegistry);
+    }
+    
+    private Counter resultCounter(String result) {
+        return Counter.builder("email.outbox.attempts")
+                .description("이메일 발송 시도 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+    
+    /**
+     * 발송 worker 실행 요청 (등록 트랜잭션 커밋 후, 주기 조회 시)
+     * - worker와 대기 자리가 모두 차 있으면 버림: 대기 중인 worker가 곧 outbox를 다시 조회함
+     */
+    public void wakeUp() {
+        try {
+            emailOutboxExecutor.execute(this::drain);
+        } catch (TaskRejectedException e) {
+            log.debug("이메일 발송 worker 모두 사용 중");
+        }
+    }
+    
+    /**
+     * 발송할 메일이 없을 때까지 배치 단위로 점유 후 발송
+     */
+    void drain() {
+        while (true) {
+            LocalDateTime now = LocalDateTime.now();
+            List<Long> dueIds = emailOutboxRepository.findDueIds(now, PageRequest.of(0, batchSize));
+            int claimed = 0;
+            for (Long id : dueIds) {
+                if (emailOutboxRepository.claim(id, LocalDateTime.now(), LocalDateTime.now().plus(lockTimeout)) == 1) {
+                    claimed++;
+                    deliver(id);
+                }
+            }
+            // 다른 worker가 모두 가져갔거나 남은 메일이 없음
+            if (claimed == 0 || dueIds.size() < batchSize) {
+                return;
+            }
+        }
+    }
+    
+    private void deliver(Long id) {
+        EmailOutbox outbox = emailOutboxRepository.findById(id).orElse(null);
+        if (outbox == null) {
+            return;
+        }
+        List<EmailOutbox> digestItems = claimDigestItems(outbox);
+        long startNanos = System.nanoTime();
+        String type = digestItems.isEmpty() ? outbox.getEmailType().name() : "DIGEST";
+        String result = "success";
+        try {
+            if (digestItems.isEmpty()) {
+                send(outbox);
+            } else {
+                sendDigest(outbox, digestItems);
+                digestSize.record(digestItems.size() + 1);
+            }
+            LocalDateTime sentAt = LocalDateTime.now();
+            markSent(outbox, sentAt);
+            for (EmailOutbox item : digestItems) {
+                markSent(item, sentAt);
+            }
+        } catch (Exception e) {
+            result = "failure";
+            markFailed(outbox, e);
+            // 함께 점유한 알림은 시도 횟수를 올리지 않고 대기 상태로 되돌림 (각자의 발송 시각에 다시 시도)
+            for (EmailOutbox item : digestItems) {
+                item.setStatus(OutboxStatus.PENDING);
+                item.setLockedUntil(null);
+                emailOutboxRepository.save(item);
+            }
+        } finally {
+            meterRegistry.timer("email.outbox.send", "type", type, "result", result)
+                    .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+    
+    /**
+     * 같은 수신자에게 대기 중인 알림을 함께 점유 (발송 시각이 남아 있어도 가져감)
+     * - 먼저 등록된 알림의 window가 끝나는 시점에 그 사이 쌓인 알림이 한 통으로 나감
+     */
+    private List<EmailOutbox> claimDigestItems(EmailOutbox outbox) {
+        List<EmailOutbox> items = new ArrayList<>();
+        if (!outbox.getEmailType().isDigestible() || digestMaxItems <= 1) {
+            return items;
+        }
+        List<Long> candidateIds = emailOutboxRepository.findDigestCandidateIds(outbox.getRecipient(), outbox.getId(),
+                EmailOutbox.EmailType.digestibleTypes(), PageRequest.of(0, digestMaxItems - 1));
+        for (Long candidateId : candidateIds) {
+            if (emailOutboxRepository.claimForDigest(candidateId, LocalDateTime.now().plus(lockTimeout)) == 1) {
+                emailOutboxRepository.findById(candidateId).ifPresent(items::add);
+            }
+        }
+        return items;
+    }
+    
+    private void markSent(EmailOutbox outbox, LocalDateTime sentAt) {
+        outbox.setStatus(OutboxStatus.SENT);
+        outbox.setAttempts(outbox.getAttempts() + 1);
+        outbox.setSentAt(sentAt);
+        outbox.setLockedUntil(null);
+        outbox.setLastError(null);
+        emailOutboxRepository.save(outbox);
+        sentCounter.increment();
+        deliveryLatency.record(Duration.between(outbox.getCreatedAt(), sentAt));
+    }
+    
+    private void markFailed(EmailOutbox outbox, Exception e) {
+        int attempts = outbox.getAttempts() + 1;
+        outbox.setAttempts(attempts);
+        outbox.setLockedUntil(null);
+        outbox.setLastError(truncate(e.getMessage()));
+        if (attempts >= maxAttempts || isPermanent(e)) {
+            outbox.setStatus(OutboxStatus.DEAD);
+            deadCounter.increment();
+            log.error("이메일 발송 포기 - Id: {}, Type: {}, Attempts: {}, Error: {}",
+                    outbox.getId(), outbox.getEmailType(), attempts, e.getMessage());
+        } else {
+            outbox.setStatus(OutboxStatus.PENDING);
+            outbox.setNextAttemptAt(LocalDateTime.now().plus(backoff(attempts)));
+            retryCounter.increment();
+            log.warn("이메일 발송 실패, 재시도 예정 - Id: {}, Attempts: {}, NextAttemptAt: {}, Error: {}",
+                    outbox.getId(), attempts, outbox.getNextAttemptAt(), e.getMessage());
+        }
+        emailOutboxRepository.save(outbox);
+    }
+    
+    /**
+     * 재시도 간격: base * 2^(attempts-1), 최대 backoffMax, 동시 실패한 메일이 한꺼번에 재시도하지 않도록 ±20% jitter
+     */
+    private Duration backoff(int attempts) {
+        long baseMillis = backoffBase.toMillis();
+        long delayMillis = Math.min(backoffMax.toMillis(), baseMillis << Math.min(attempts - 1, 20));
+        double jitter = 0.8 + ThreadLocalRandom.current().nextDouble() * 0.4;
+        return Duration.ofMillis((long) (delayMillis * jitter));
+    }
+    
+    /**
+     * 재시도해도 성공할 수 없는 오류 (잘못된 수신 주소)
+     */
+    private boolean isPermanent(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof AddressException) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private void send(EmailOutbox outbox) throws Exception {
+        Object payload = readPayload(outbox);
+        if (payload instanceof RemittanceLimitEmailPayload limit) {
+            emailService.sendRemittanceLimitNotification(outbox.getRecipient(), limit.getUserName(), limit.getStatus(),
+                    limit.getComment(), limit.getDailyLimit(), limit.getMonthlyLimit(), limit.getSingleLimit());
+        } else if (payload instanceof QnaAnswerEmailPayload qna) {
+            emailService.sendQnaAnswerEmail(outbox.getRecipient(), qna.getUserName(), qna.getQnaTitle(),
+                    qna.getQnaContent(), qna.getAnswerContent());
+        }
+    }
+    
+    /**
+     * 알림 모음 발송 (등록 순서대로)
+     */
+    private void sendDigest(EmailOutbox outbox, List<EmailOutbox> digestItems) throws IOException {
+        List<EmailOutbox> group = new ArrayList<>();
+        group.add(outbox);
+        group.addAll(digestItems);
+        group.sort((a, b) -> Long.compare(a.getId(), b.getId()));
+        List<Object> payloads = new ArrayList<>();
+        for (EmailOutbox item : group) {
+            payloads.add(readPayload(item));
+        }
+        emailService.sendNotificationDigest(outbox.getRecipient(), payloads);
+    }
+    
+    private Object readPayload(EmailOutbox outbox) throws IOException {
+        return switch (outbox.getEmailType()) {
+            case REMITTANCE_LIMIT -> objectMapper.readValue(outbox.getPayload(), RemittanceLimitEmailPayload.class);
+            case QNA_ANSWER -> objectMapper.readValue(outbox.getPayload(), QnaAnswerEmailPayload.class);
+        };
+    }
+    
+    /**
+     * 대기열 크기 지표 갱신 (주기 조회 시, 지표 수집마다 DB를 조회하지 않도록)
+     */
+    public void refreshDepth() {
+        pendingCount.set(emailOutboxRepository.countByStatus(OutboxStatus.PENDING)
+                + emailOutboxRepository.countByStatus(OutboxStatus.SENDING));
+        deadCount.set(emailOutboxRepository.countByStatus(OutboxStatus.DEAD));
+    }
+    
+    private String truncate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() > 1000 ? message.substring(0, 1000) : message;
+    }
+}
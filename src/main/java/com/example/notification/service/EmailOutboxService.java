@@ -0,0 +1,80 @@
+package com.example.notification.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.common.util.TransactionUtils;
+import com.example.notification.domain.EmailOutbox;
+import com.example.notification.domain.EmailOutbox.EmailType;
+import com.example.notification.domain.EmailOutbox.OutboxStatus;
+import com.example.notification.repository.EmailOutboxRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 이메일 발송 등록
+ * - 호출한 업무 트랜잭션에 참여하여 outbox에 저장 (업무가 롤백되면 메일도 등록되지 않음)
+ * - 커밋 후 발송 worker를 깨우고, 요청 스레드는 SMTP를 기다리지 않음
+ * - 모아 보내기 대상은 digest window 만큼 늦춰 등록, 그 사이 같은 수신자에게 쌓인 알림은 한 통으로 발송
+ *   (수신자별 대기 건수가 max-items에 도달하면 바로 발송)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EmailOutboxService {
+    
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final EmailOutboxDispatcher emailOutboxDispatcher;
+    private final ObjectMapper objectMapper;
+    
+    // 0이면 모아 보내기 대기 없음
+    @Value("${email.digest.window:PT3M}")
+    private Duration digestWindow;
+    
+    @Value("${email.digest.max-items:10}")
+    private int digestMaxItems;
+    
+    @Transactional
+    public EmailOutbox enqueue(EmailType emailType, String recipient, Object payload) {
+        EmailOutbox outbox = new EmailOutbox();
+        outbox.setEmailType(emailType);
+        outbox.setRecipient(recipient);
+        outbox.setPayload(toJson(payload));
+        outbox.setNextAttemptAt(LocalDateTime.now().plus(digestDelay(emailType, recipient)));
+        outbox.setCreatedAt(LocalDateTime.now());
+        EmailOutbox saved = emailOutboxRepository.save(outbox);
+        
+        TransactionUtils.afterCommit(emailOutboxDispatcher::wakeUp);
+        log.debug("이메일 발송 등록 - Id: {}, Type: {}", saved.getId(), emailType);
+        return saved;
+    }
+    
+    /**
+     * 모아 보내기 대기 시간
+     * - 수신자의 첫 알림이 window 후 발송되면서 그동안 쌓인 알림을 함께 가져감
+     * - 이번 알림으로 max-items가 차면 대기 없이 바로 발송
+     */
+    private Duration digestDelay(EmailType emailType, String recipient) {
+        if (!emailType.isDigestible() || digestWindow.isZero() || digestWindow.isNegative()) {
+            return Duration.ZERO;
+        }
+        long buffered = emailOutboxRepository.countByRecipientAndStatusAndEmailTypeIn(
+                recipient, OutboxStatus.PENDING, EmailType.digestibleTypes());
+        return buffered + 1 >= digestMaxItems ? Duration.ZERO : digestWindow;
+    }
+    
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("이메일 내용 직렬화 실패: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,345 @@
+package com.example.notification.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.common.service.RedisService;
+import com.example.common.util.TransactionUtils;
+import com.example.notification.domain.NoticeBroadcast;
+import com.example.notification.domain.NoticeBroadcast.BroadcastStatus;
+import com.example.notification.repository.NoticeBroadcastRepository;
+import com.example.notification.template.EmailTemplates;
+import com.example.support.domain.Notice;
+import com.example.support.repository.NoticeRepository;
+import com.example.user.dto.UserRecipient;
+import com.example.user.repository.UserRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.activation.DataHandler;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.internet.AddressException;
+import jakarta.mail.internet.MimeMessage;
+import jakarta.mail.util.ByteArrayDataSource;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 긴급 공지 전체 메일 발송
+ * - 공지 등록 트랜잭션에서 작업을 저장하고 커밋 후 시작
+ * - 활성 사용자를 ID 순 페이지로 조회하여 SMTP 연결 풀로 병렬 발송, 전체 발송 속도는 초당 발송 수로 제한
+ * - 페이지마다 cursor를 저장하므로 중단되면 다음 실행에서 이어서 발송 (중단된 페이지는 다시 발송될 수 있음)
+ * - 수신 주소 오류만 실패로 세고 넘어감, SMTP 연결/인증 오류나 발송 한도 거부는 페이지를 중단하고
+ *   cursor를 그대로 둔 채 지수 backoff 후 재시작
+ * - 여러 노드 중 Redis 락을 잡은 한 곳에서만 진행
+ */
+@Slf4j
+@Service
+public class NoticeBroadcastService {
+    
+    private static final String LOCK_KEY_PREFIX = "notice:broadcast:lock:";
+    
+    private final NoticeBroadcastRepository noticeBroadcastRepository;
+    private final NoticeRepository noticeRepository;
+    private final UserRepository userRepository;
+    private final SmtpTransportPool smtpTransportPool;
+    private final JavaMailSender mailSender;
+    private final EmailTemplates emailTemplates;
+    private final RedisService redisService;
+    private final TaskExecutor noticeBroadcastExecutor;
+    private final TaskExecutor noticeBroadcastSendExecutor;
+    
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+    
+    @Value("${GMAIL_USERNAME}")
+    private String fromEmail;
+    
+    @Value("${email.broadcast.page-size:200}")
+    private int pageSize;
+    
+    // 메일 서버 발송 한도에 맞춘 전체 초당 발송 수
+    @Value("${email.broadcast.rate-per-second:5}")
+    private double ratePerSecond;
+    
+    @Value("${email.broadcast.lock-ttl:PT2M}")
+    private Duration lockTtl;
+    
+    @Value("${email.broadcast.backoff-base:PT1M}")
+    private Duration backoffBase;
+    
+    @Value("${email.broadcast.backoff-max:PT30M}")
+    private Duration backoffMax;
+    
+    public NoticeBroadcastService(NoticeBroadcastRepository noticeBroadcastRepository,
+                                  NoticeRepository noticeRepository,
+                                  UserRepository userRepository,
+                                  SmtpTransportPool smtpTransportPool,
+                                  JavaMailSender mailSender,
+                                  EmailTemplates emailTemplates,
+                                  RedisService redisService,
+                                  @Qualifier("noticeBroadcastExecutor") TaskExecutor noticeBroadcastExecutor,
+                                  @Qualifier("noticeBroadcastSendExecutor") TaskExecutor noticeBroadcastSendExecutor,
+                                  MeterRegistry meterRegistry) {
+        this.noticeBroadcastRepository = noticeBroadcastRepository;
+        this.noticeRepository = noticeRepository;
+        this.userRepository = userRepository;
+        this.smtpTransportPool = smtpTransportPool;
+        this.mailSender = mailSender;
+        this.emailTemplates = emailTemplates;
+        this.redisService = redisService;
+        this.noticeBroadcastExecutor = noticeBroadcastExecutor;
+        this.noticeBroadcastSendExecutor = noticeBroadcastSendExecutor;
+        this.sentCounter = Counter.builder("notice.broadcast.emails").tag("result", "sent").register(meterRegistry);
+        this.failedCounter = Counter.builder("notice.broadcast.emails").tag("result", "failed").register(meterRegistry);
+    }
+    
+    /**
+     * 발송 작업 등록 (공지 등록 트랜잭션에 참여, 커밋 후 시작)
+     */
+    @Transactional
+    public NoticeBroadcast schedule(Notice notice) {
+        NoticeBroadcast broadcast = new NoticeBroadcast();
+        broadcast.setNoticeId(notice.getId());
+        broadcast.setCreatedAt(LocalDateTime.now());
+        NoticeBroadcast saved = noticeBroadcastRepository.save(broadcast);
+        
+        TransactionUtils.afterCommit(() -> resume(saved.getId()));
+        return saved;
+    }
+    
+    /**
+     * 끝나지 않은 작업 재시작 (서버 시작, 주기 확인)
+     */
+    public void resumeUnfinished() {
+        LocalDateTime now = LocalDateTime.now();
+        noticeBroadcastRepository.findByStatusInOrderByIdAsc(EnumSet.of(BroadcastStatus.PENDING, BroadcastStatus.RUNNING))
+                .stream()
+                .filter(broadcast -> broadcast.getNextAttemptAt() == null || !broadcast.getNextAttemptAt().isAfter(now))
+                .forEach(broadcast -> resume(broadcast.getId()));
+    }
+    
+    private void resume(Long broadcastId) {
+        try {
+            noticeBroadcastExecutor.execute(() -> run(broadcastId));
+        } catch (TaskRejectedException e) {
+            log.warn("공지 메일 발송 대기열 포화, 다음 확인 때 시작 - BroadcastId: {}", broadcastId);
+        }
+    }
+    
+    private void run(Long broadcastId) {
+        String lockKey = LOCK_KEY_PREFIX + broadcastId;
+        String lockToken = redisService.tryLock(lockKey, lockTtl);
+        if (lockToken == null) {
+            // 다른 노드에서 진행 중
+            return;
+        }
+        try {
+            NoticeBroadcast broadcast = noticeBroadcastRepository.findById(broadcastId).orElse(null);
+            if (broadcast == null || broadcast.getStatus() == BroadcastStatus.COMPLETED
+                    || broadcast.getStatus() == BroadcastStatus.CANCELED) {
+                return;
+            }
+            Notice notice = noticeRepository.findById(broadcast.getNoticeId()).orElse(null);
+            if (notice == null) {
+                broadcast.setStatus(BroadcastStatus.CANCELED);
+                broadcast.setCompletedAt(LocalDateTime.now());
+                noticeBroadcastRepository.save(broadcast);
+                log.info("공지사항이 삭제되어 메일 발송 취소 - BroadcastId: {}", broadcastId);
+                return;
+            }
+            
+            // 수신자와 관계없는 내용이므로 한 번만 렌더링하여 모든 메일이 공유
+            String subject = "[긴급 공지] " + notice.getTitle();
+            byte[] html = emailTemplates.get(EmailTemplates.NOTICE_BROADCAST).render(createModel(notice));
+            
+            if (broadcast.getStatus() == BroadcastStatus.PENDING) {
+                broadcast.setStatus(BroadcastStatus.RUNNING);
+                broadcast.setStartedAt(LocalDateTime.now());
+                broadcast = noticeBroadcastRepository.save(broadcast);
+            }
+            log.info("공지 메일 발송 시작 - BroadcastId: {}, NoticeId: {}, LastUserId: {}",
+                    broadcastId, notice.getId(), broadcast.getLastUserId());
+            
+            RateLimiter rateLimiter = new RateLimiter(ratePerSecond);
+            while (true) {
+                List<UserRecipient> recipients = userRepository.findActiveRecipients(broadcast.getLastUserId(), PageRequest.of(0, pageSize));
+                if (recipients.isEmpty()) {
+                    break;
+                }
+                int[] result;
+                try {
+                    result = sendPage(recipients, subject, html, rateLimiter);
+                } catch (MessagingException e) {
+                    // cursor를 옮기지 않으므로 이 페이지는 재시작 때 처음부터 다시 발송
+                    int attempts = broadcast.getAttempts() + 1;
+                    broadcast.setAttempts(attempts);
+                    broadcast.setNextAttemptAt(LocalDateTime.now().plus(backoff(attempts)));
+                    broadcast = noticeBroadcastRepository.save(broadcast);
+                    log.warn("SMTP 오류로 공지 메일 발송 중단, 재시작 예정 - BroadcastId: {}, LastUserId: {}, Attempts: {}, NextAttemptAt: {}, Error: {}",
+                            broadcastId, broadcast.getLastUserId(), attempts, broadcast.getNextAttemptAt(), e.getMessage());
+                    return;
+                }
+                
+                // 페이지 단위 진행 위치 저장
+                broadcast.setLastUserId(recipients.get(recipients.size() - 1).getId());
+                broadcast.setSentCount(broadcast.getSentCount() + result[0]);
+                broadcast.setFailedCount(broadcast.getFailedCount() + result[1]);
+                broadcast.setAttempts(0);
+                broadcast.setNextAttemptAt(null);
+                broadcast = noticeBroadcastRepository.save(broadcast);
+                
+                if (Thread.currentThread().isInterrupted() || !redisService.extendLock(lockKey, lockToken, lockTtl)) {
+                    log.warn("공지 메일 발송 중단, 다음 실행에서 이어서 진행 - BroadcastId: {}, LastUserId: {}",
+                            broadcastId, broadcast.getLastUserId());
+                    return;
+                }
+            }
+            
+            broadcast.setStatus(BroadcastStatus.COMPLETED);
+            broadcast.setCompletedAt(LocalDateTime.now());
+            noticeBroadcastRepository.save(broadcast);
+            log.info("공지 메일 발송 완료 - BroadcastId: {}, Sent: {}, Failed: {}",
+                    broadcastId, broadcast.getSentCount(), broadcast.getFailedCount());
+        } catch (Exception e) {
+            log.error("공지 메일 발송 실패 - BroadcastId: {}, Error: {}", broadcastId, e.getMessage(), e);
+        } finally {
+            redisService.unlock(lockKey, lockToken);
+        }
+    }
+    
+    /**
+     * 한 페이지 병렬 발송 후 완료 대기
+     * - 수신 주소 오류는 실패로 세고 계속, 그 외 SMTP 오류가 나면 남은 발송을 건너뛰고 예외
+     *
+     * @return {성공 수, 실패 수}
+     * @throws MessagingException SMTP 연결/인증 오류, 발송 한도 거부 등 수신자와 무관한 오류
+     */
+    private int[] sendPage(List<UserRecipient> recipients, String subject, byte[] html, RateLimiter rateLimiter)
+            throws InterruptedException, MessagingException {
+        CountDownLatch latch = new CountDownLatch(recipients.size());
+        AtomicInteger sent = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        AtomicReference<MessagingException> transportError = new AtomicReference<>();
+        for (UserRecipient recipient : recipients) {
+            noticeBroadcastSendExecutor.execute(() -> {
+                try {
+                    if (transportError.get() != null) {
+                        return;
+                    }
+                    rateLimiter.acquire();
+                    smtpTransportPool.send(createMessage(recipient.getEmail(), subject, html));
+                    sent.incrementAndGet();
+                    sentCounter.increment();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    failed.incrementAndGet();
+                } catch (MessagingException e) {
+                    if (isRecipientError(e)) {
+                        failed.incrementAndGet();
+                        failedCounter.increment();
+                        log.warn("공지 메일 발송 실패 - UserId: {}, Error: {}", recipient.getId(), e.getMessage());
+                    } else {
+                        transportError.compareAndSet(null, e);
+                    }
+                } catch (Exception e) {
+                    failed.incrementAndGet();
+                    failedCounter.increment();
+                    log.warn("공지 메일 발송 실패 - UserId: {}, Error: {}", recipient.getId(), e.getMessage());
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        if (transportError.get() != null) {
+            throw transportError.get();
+        }
+        return new int[]{sent.get(), failed.get()};
+    }
+    
+    /**
+     * 해당 수신자에게만 해당하는 오류 (잘못된 주소, 서버가 수신 주소를 거부)
+     * - 일시 거부(4xx)는 주소가 유효하지 않은 것이 아니므로 제외
+     */
+    private boolean isRecipientError(MessagingException e) {
+        if (e instanceof AddressException) {
+            return true;
+        }
+        return e instanceof SendFailedException sendFailed
+                && sendFailed.getInvalidAddresses() != null && sendFailed.getInvalidAddresses().length > 0;
+    }
+    
+    /**
+     * 재시작 간격: base * 2^(attempts-1), 최대 backoffMax, ±20% jitter
+     */
+    private Duration backoff(int attempts) {
+        long baseMillis = backoffBase.toMillis();
+        long delayMillis = Math.min(backoffMax.toMillis(), baseMillis << Math.min(attempts - 1, 20));
+        double jitter = 0.8 + ThreadLocalRandom.current().nextDouble() * 0.4;
+        return Duration.ofMillis((long) (delayMillis * jitter));
+    }
+    
+    private MimeMessage createMessage(String toEmail, String subject, byte[] html) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, false, "UTF-8");
+        helper.setFrom(fromEmail);
+        helper.setTo(toEmail);
+        helper.setSubject(subject);
+        message.setDataHandler(new DataHandler(new ByteArrayDataSource(html, "text/html; charset=UTF-8")));
+        return message;
+    }
+    
+    private Map<String, Object> createModel(Notice notice) {
+        Map<String, Object> model = new HashMap<>();
+        model.put("title", notice.getTitle());
+        model.put("content", notice.getContent());
+        model.put("noticeEndAt", notice.getNoticeEndAt() != null ? notice.getNoticeEndAt().toLocalDate().toString() : null);
+        return model;
+    }
+    
+    /**
+     * 전체 발송 속도 제한 (모든 발송 스레드가 공유, 일정 간격으로 1건씩 허용)
+     */
+    private static class RateLimiter {
+        
+        private final long intervalNanos;
+        private long nextFreeNanos = System.nanoTime();
+        
+        RateLimiter(double permitsPerSecond) {
+            this.intervalNanos = (long) (1_000_000_000L / Math.max(0.01, permitsPerSecond));
+        }
+        
+        void acquire() throws InterruptedException {
+            long waitNanos;
+            synchronized (this) {
+                long now = System.nanoTime();
+                long slot = Math.max(now, nextFreeNanos);
+                nextFreeNanos = slot + intervalNanos;
+                waitNanos = slot - now;
+            }
+            if (waitNanos > 0) {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            }
+        }
+    }
+}
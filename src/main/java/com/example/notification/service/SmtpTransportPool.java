@@ -0,0 +1,136 @@
+package com.example.notification.service;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.stereotype.Component;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 연결된 SMTP Transport 풀 (대량 발송용)
+ * - JavaMailSender.send()는 메일마다 연결/인증을 새로 하므로, 연결을 유지한 채 여러 메일을 보냄
+ * - 동시 연결 수는 풀 크기로 제한 (메일 서버의 계정당 동시 연결 제한 대응)
+ * - 오래 쉬던 연결은 사용 전 확인하고, 연결 오류면 새 연결로 한 번 다시 보냄
+ */
+@Slf4j
+@Component
+public class SmtpTransportPool implements DisposableBean {
+
+    private final JavaMailSenderImpl mailSender;
+    private final BlockingQueue<PooledTransport> idle;
+    private final Semaphore permits;
+    private final long idleCheckNanos;
+
+    public SmtpTransportPool(JavaMailSender mailSender,
+                             @Value("${email.smtp-pool.size:3}") int size,
+                             @Value("${email.smtp-pool.idle-check:PT30S}") Duration idleCheck) {
+        if (!(mailSender instanceof JavaMailSenderImpl impl)) {
+            throw new IllegalStateException("SMTP 연결 풀은 JavaMailSenderImpl 설정이 필요합니다.");
+        }
+        this.mailSender = impl;
+        this.idle = new ArrayBlockingQueue<>(size);
+        this.permits = new Semaphore(size);
+        this.idleCheckNanos = idleCheck.toNanos();
+    }
+
+    /**
+     * 풀의 연결로 메일 발송 (연결이 모두 사용 중이면 대기)
+     */
+    public void send(MimeMessage message) throws MessagingException, InterruptedException {
+        message.saveChanges();
+        permits.acquire();
+        PooledTransport transport = null;
+        try {
+            transport = borrow();
+            try {
+                transport.send(message);
+            } catch (SendFailedException e) {
+                // 수신 주소 문제, 연결은 정상
+                idle.offer(transport);
+                transport = null;
+                throw e;
+            } catch (MessagingException e) {
+                // 서버가 유휴 연결을 끊은 경우 등 -> 새 연결로 한 번 더
+                log.debug("SMTP 연결 오류, 재연결 후 재시도: {}", e.getMessage());
+                close(transport);
+                transport = null;
+                transport = connect();
+                transport.send(message);
+            }
+            idle.offer(transport);
+            transport = null;
+        } finally {
+            close(transport);
+            permits.release();
+        }
+    }
+
+    private PooledTransport borrow() throws MessagingException {
+        PooledTransport transport = idle.poll();
+        if (transport != null && transport.isUsable(idleCheckNanos)) {
+            return transport;
+        }
+        close(transport);
+        return connect();
+    }
+
+    private PooledTransport connect() throws MessagingException {
+        Transport transport = mailSender.getSession().getTransport(mailSender.getProtocol());
+        transport.connect(mailSender.getHost(), mailSender.getPort(), mailSender.getUsername(), mailSender.getPassword());
+        return new PooledTransport(transport);
+    }
+
+    private void close(PooledTransport transport) {
+        if (transport == null) {
+            return;
+        }
+        try {
+            transport.transport.close();
+        } catch (MessagingException e) {
+            log.debug("SMTP 연결 종료 실패: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        PooledTransport transport;
+        while ((transport = idle.poll()) != null) {
+            close(transport);
+        }
+    }
+
+    private static final class PooledTransport {
+        private final Transport transport;
+        private long lastUsedNanos = System.nanoTime();
+
+        PooledTransport(Transport transport) {
+            this.transport = transport;
+        }
+
+        void send(MimeMessage message) throws MessagingException {
+            transport.sendMessage(message, message.getAllRecipients());
+            lastUsedNanos = System.nanoTime();
+        }
+
+        /**
+         * 최근에 쓴 연결은 확인 없이 사용 (끊겼으면 발송 실패 후 재연결), 오래 쉬었으면 NOOP으로 확인
+         */
+        boolean isUsable(long idleCheckNanos) {
+            if (System.nanoTime() - lastUsedNanos < idleCheckNanos) {
+                return true;
+            }
+            return transport.isConnected();
+        }
+    }
+}
@@ -0,0 +1,319 @@
+package com.example.notification.template;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 컴파일된 HTML 메일 템플릿
+ * - 시작 시 한 번 파싱하여 고정 부분은 UTF-8 바이트로 보관하고, 발송 시에는 값 자리만 채움
+ * - 문법
+ *   {{name}}            : HTML escape 후 출력
+ *   {{name|multiline}}  : HTML escape + 줄바꿈(\r\n, \r, \n)을 <br>로 변환
+ *   {{name|number}}     : 정수 천 단위 구분 (1,234,567)
+ *   {{#name}}...{{/name}} : 값이 있을 때만 출력 (null, 빈 문자열, false 가 아닌 경우)
+ *                           값이 목록이면 항목(Map)마다 반복 출력, 구역 안의 이름은 항목에서 조회
+ * - 스레드 안전 (컴파일 후 불변)
+ */
+public final class EmailTemplate {
+
+    private static final byte[] AMP = "&amp;".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] LT = "&lt;".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] GT = "&gt;".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] QUOT = "&quot;".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] APOS = "&#39;".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] BR = "<br>".getBytes(StandardCharsets.US_ASCII);
+
+    private final String name;
+    private final Node[] nodes;
+    // 렌더링 버퍼 초기 크기 (고정 부분 크기 + 값 여유분), 버퍼 재할당 방지
+    private final int estimatedSize;
+
+    private EmailTemplate(String name, Node[] nodes, int staticSize) {
+        this.name = name;
+        this.nodes = nodes;
+        this.estimatedSize = staticSize + 1024;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 템플릿 컴파일
+     *
+     * @throws IllegalArgumentException 태그가 닫히지 않았거나 구역 짝이 맞지 않는 경우
+     */
+    public static EmailTemplate compile(String name, String source) {
+        Deque<Section> open = new ArrayDeque<>();
+        List<Node> root = new ArrayList<>();
+        List<Node> current = root;
+        int staticSize = 0;
+        int position = 0;
+        while (position < source.length()) {
+            int start = source.indexOf("{{", position);
+            if (start < 0) {
+                staticSize += addStatic(current, source.substring(position));
+                break;
+            }
+            staticSize += addStatic(current, source.substring(position, start));
+            int end = source.indexOf("}}", start + 2);
+            if (end < 0) {
+                throw new IllegalArgumentException(name + ": 닫히지 않은 태그 (위치 " + start + ")");
+            }
+            String tag = source.substring(start + 2, end).trim();
+            if (tag.startsWith("#")) {
+                Section section = new Section(tag.substring(1).trim(), current);
+                current.add(section);
+                open.push(section);
+                current = section.children;
+            } else if (tag.startsWith("/")) {
+                String sectionName = tag.substring(1).trim();
+                if (open.isEmpty() || !open.peek().name.equals(sectionName)) {
+                    throw new IllegalArgumentException(name + ": 짝이 맞지 않는 구역 종료 {{/" + sectionName + "}}");
+                }
+                Section section = open.pop();
+                section.seal();
+                current = section.parent;
+            } else {
+                current.add(Slot.parse(name, tag));
+            }
+            position = end + 2;
+        }
+        if (!open.isEmpty()) {
+            throw new IllegalArgumentException(name + ": 닫히지 않은 구역 {{#" + open.peek().name + "}}");
+        }
+        return new EmailTemplate(name, root.toArray(new Node[0]), staticSize);
+    }
+
+    private static int addStatic(List<Node> nodes, String text) {
+        if (text.isEmpty()) {
+            return 0;
+        }
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        nodes.add(new Static(bytes));
+        return bytes.length;
+    }
+
+    /**
+     * UTF-8 HTML 렌더링
+     */
+    public byte[] render(Map<String, ?> model) {
+        Output output = new Output(estimatedSize);
+        renderNodes(nodes, model, output);
+        return output.toByteArray();
+    }
+
+    private static void renderNodes(Node[] nodes, Map<String, ?> model, Output output) {
+        for (Node node : nodes) {
+            node.render(model, output);
+        }
+    }
+
+    private interface Node {
+        void render(Map<String, ?> model, Output output);
+    }
+
+    private static final class Static implements Node {
+        private final byte[] bytes;
+
+        Static(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        @Override
+        public void render(Map<String, ?> model, Output output) {
+            output.write(bytes);
+        }
+    }
+
+    private enum Filter {
+        TEXT, MULTILINE, NUMBER
+    }
+
+    private static final class Slot implements Node {
+        private final String name;
+        private final Filter filter;
+
+        Slot(String name, Filter filter) {
+            this.name = name;
+            this.filter = filter;
+        }
+
+        static Slot parse(String templateName, String tag) {
+            int pipe = tag.indexOf('|');
+            if (pipe < 0) {
+                return new Slot(tag, Filter.TEXT);
+            }
+            String filterName = tag.substring(pipe + 1).trim();
+            Filter filter = switch (filterName) {
+                case "multiline" -> Filter.MULTILINE;
+                case "number" -> Filter.NUMBER;
+                default -> throw new IllegalArgumentException(templateName + ": 알 수 없는 필터 " + filterName);
+            };
+            return new Slot(tag.substring(0, pipe).trim(), filter);
+        }
+
+        @Override
+        public void render(Map<String, ?> model, Output output) {
+            Object value = model.get(name);
+            if (value == null) {
+                return;
+            }
+            if (filter == Filter.NUMBER && value instanceof Number number) {
+                output.writeGroupedLong(number.longValue());
+            } else {
+                output.writeEscaped(value.toString(), filter == Filter.MULTILINE);
+            }
+        }
+    }
+
+    private static final class Section implements Node {
+        private final String name;
+        private final List<Node> parent;
+        private final List<Node> children = new ArrayList<>();
+        private Node[] sealed;
+
+        Section(String name, List<Node> parent) {
+            this.name = name;
+            this.parent = parent;
+        }
+
+        void seal() {
+            sealed = children.toArray(new Node[0]);
+        }
+
+        @Override
+        public void render(Map<String, ?> model, Output output) {
+            Object value = model.get(name);
+            if (value instanceof Iterable<?> items) {
+                for (Object item : items) {
+                    if (item instanceof Map<?, ?> itemModel) {
+                        @SuppressWarnings("unchecked")
+                        Map<String, ?> typed = (Map<String, ?>) itemModel;
+                        renderNodes(sealed, typed, output);
+                    }
+                }
+                return;
+            }
+            boolean present = value != null
+                    && !(value instanceof Boolean bool && !bool)
+                    && !(value instanceof CharSequence text && text.isEmpty());
+            if (present) {
+                renderNodes(sealed, model, output);
+            }
+        }
+    }
+
+    /**
+     * 동기화 없는 바이트 버퍼 (ByteArrayOutputStream 대체)
+     */
+    private static final class Output {
+        private byte[] buffer;
+        private int length;
+
+        Output(int capacity) {
+            buffer = new byte[capacity];
+        }
+
+        void write(byte[] bytes) {
+            ensure(bytes.length);
+            System.arraycopy(bytes, 0, buffer, length, bytes.length);
+            length += bytes.length;
+        }
+
+        void write(int b) {
+            ensure(1);
+            buffer[length++] = (byte) b;
+        }
+
+        /**
+         * HTML escape와 UTF-8 인코딩을 한 번에 수행 (중간 문자열 생성 없음)
+         */
+        void writeEscaped(String text, boolean multiline) {
+            int size = text.length();
+            for (int i = 0; i < size; i++) {
+                char c = text.charAt(i);
+                switch (c) {
+                    case '&' -> write(AMP);
+                    case '<' -> write(LT);
+                    case '>' -> write(GT);
+                    case '"' -> write(QUOT);
+                    case '\'' -> write(APOS);
+                    case '\r', '\n' -> {
+                        if (multiline) {
+                            write(BR);
+                            if (c == '\r' && i + 1 < size && text.charAt(i + 1) == '\n') {
+                                i++;
+                            }
+                        } else {
+                            write(c);
+                        }
+                    }
+                    default -> {
+                        if (c < 0x80) {
+                            write(c);
+                        } else if (c < 0x800) {
+                            write(0xC0 | (c >> 6));
+                            write(0x80 | (c & 0x3F));
+                        } else if (Character.isHighSurrogate(c) && i + 1 < size && Character.isLowSurrogate(text.charAt(i + 1))) {
+                            int codePoint = Character.toCodePoint(c, text.charAt(++i));
+                            write(0xF0 | (codePoint >> 18));
+                            write(0x80 | ((codePoint >> 12) & 0x3F));
+                            write(0x80 | ((codePoint >> 6) & 0x3F));
+                            write(0x80 | (codePoint & 0x3F));
+                        } else if (Character.isSurrogate(c)) {
+                            write('?');
+                        } else {
+                            write(0xE0 | (c >> 12));
+                            write(0x80 | ((c >> 6) & 0x3F));
+                            write(0x80 | (c & 0x3F));
+                        }
+                    }
+                }
+            }
+        }
+
+        /**
+         * 천 단위 구분 정수 (String.format("%,d")와 같은 결과, Locale/Formatter 생성 없음)
+         */
+        void writeGroupedLong(long value) {
+            if (value == Long.MIN_VALUE) {
+                write(String.format("%,d", value).getBytes(StandardCharsets.US_ASCII));
+                return;
+            }
+            if (value < 0) {
+                write('-');
+                value = -value;
+            }
+            byte[] digits = new byte[26];
+            int position = digits.length;
+            int count = 0;
+            do {
+                if (count > 0 && count % 3 == 0) {
+                    digits[--position] = ',';
+                }
+                digits[--position] = (byte) ('0' + value % 10);
+                value /= 10;
+                count++;
+            } while (value > 0);
+            ensure(digits.length - position);
+            System.arraycopy(digits, position, buffer, length, digits.length - position);
+            length += digits.length - position;
+        }
+
+        private void ensure(int extra) {
+            if (length + extra > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + extra));
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, length);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.notification.template;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 메일 템플릿 목록 (classpath:templates/email/{name}.html)
+ * - 시작 시 모두 컴파일하므로 템플릿 오류는 배포 시점에 드러남
+ */
+@Slf4j
+@Component
+public class EmailTemplates {
+
+    public static final String REMITTANCE_LIMIT = "remittance-limit";
+    public static final String QNA_ANSWER = "qna-answer";
+    public static final String NOTICE_BROADCAST = "notice-broadcast";
+    public static final String DIGEST = "digest";
+
+    private static final String LOCATION = "templates/email/";
+
+    private final Map<String, EmailTemplate> templates = new HashMap<>();
+
+    public EmailTemplates() throws IOException {
+        for (String name : new String[]{REMITTANCE_LIMIT, QNA_ANSWER, NOTICE_BROADCAST, DIGEST}) {
+            templates.put(name, EmailTemplate.compile(name, load(name)));
+        }
+        log.info("메일 템플릿 컴파일 완료 - {}개", templates.size());
+    }
+
+    public EmailTemplate get(String name) {
+        EmailTemplate template = templates.get(name);
+        if (template == null) {
+            throw new IllegalArgumentException("메일 템플릿을 찾을 수 없습니다: " + name);
+        }
+        return template;
+    }
+
+    static String load(String name) throws IOException {
+        try (InputStream inputStream = new ClassPathResource(LOCATION + name + ".html").getInputStream()) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
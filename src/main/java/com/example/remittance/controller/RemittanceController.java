@@ -1,9 +1,13 @@
 package com.example.remittance.controller;
 
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -15,11 +19,13 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.example.remittance.dto.DefaultRemittanceLimitRequest;
 import com.example.remittance.dto.DefaultRemittanceLimitResponse;
+import com.example.remittance.dto.RemittanceDocumentExportRequest;
 import com.example.remittance.dto.RemittanceHistoryResponse;
 import com.example.remittance.dto.RemittanceHistorySearchRequest;
 import com.example.remittance.dto.RemittanceLimitRequestResponse;
 import com.example.remittance.service.RemittanceService;
 
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -103,4 +109,24 @@ public class RemittanceController {
             return ResponseEntity.internalServerError().build();
         }
     }
-} 
\ No newline at end of file
+
+    /**
+     * 한도 변경 신청 첨부 서류 ZIP 다운로드
+     * - 요청: { requestIds: [...], fileIds: [...] }
+     * - 헤더를 먼저 보내고 ZIP을 만들면서 바로 전송 (임시 파일 없음, Content-Length 없음)
+     */
+    @PostMapping("/remittance-limit-requests/documents/zip")
+    public void downloadDocumentsZip(@RequestBody RemittanceDocumentExportRequest exportRequest,
+                                     HttpServletResponse response) throws IOException {
+        Map<String, Long> entries = remittanceService.resolveDocumentEntries(exportRequest);
+        
+        String filename = "remittance-documents-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".zip";
+        response.setContentType("application/zip");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"");
+        response.setHeader(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS, HttpHeaders.CONTENT_DISPOSITION);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+        response.flushBuffer();
+        
+        remittanceService.writeDocumentsZip(entries, response.getOutputStream());
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.remittance.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 한도 변경 신청 첨부 서류 ZIP 다운로드 요청 (신청 ID, 파일 ID 중 하나 이상)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RemittanceDocumentExportRequest {
+    private List<Long> requestIds;
+    private List<Long> fileIds;
+}
@@ -1,21 +1,38 @@
 package com.example.remittance.service;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 import java.util.stream.Collectors;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.cache.CacheNames;
+import com.example.common.aop.SingleFlight;
 import com.example.common.domain.File;
-import com.example.common.service.EmailService;
 import com.example.common.service.FileService;
 import com.example.context.SessionContext;
+import com.example.notification.domain.EmailOutbox.EmailType;
+import com.example.notification.dto.RemittanceLimitEmailPayload;
+import com.example.notification.service.EmailOutboxService;
 import com.example.remittance.domain.DefaultRemittanceLimit;
 import com.example.remittance.domain.RemittanceLimitRequest;
 import com.example.remittance.dto.DefaultRemittanceLimitRequest;
 import com.example.remittance.dto.DefaultRemittanceLimitResponse;
+import com.example.remittance.dto.RemittanceDocumentExportRequest;
 import com.example.remittance.dto.RemittanceHistoryResponse;
 import com.example.remittance.dto.RemittanceHistorySearchRequest;
 import com.example.remittance.dto.RemittanceLimitRequestResponse;
@@ -36,9 +53,12 @@ public class RemittanceService {
     private final RemittanceLimitRequestRepository remittanceLimitRequestRepository;
     private final FileService fileService;
     private final RemittanceLimitRequestMapper remittanceLimitRequestMapper;
-    private final EmailService emailService;
+    private final EmailOutboxService emailOutboxService;
     private final UserRepository userRepository;
     private final DefaultRemittanceLimitMapper defaultRemittanceLimitMapper;
+    
+    // ZIP 다운로드 1회 최대 파일 수
+    private static final int MAX_EXPORT_FILES = 500;
 
 
 
@@ -127,6 +147,7 @@ public class RemittanceService {
     /**
      * 관리자용 송금 이력 개수 조회
      */
+    @SingleFlight
     public int getAdminRemittanceHistoryCount(RemittanceHistorySearchRequest searchRequest) {
         return remittanceMapper.countRemittanceHistory(searchRequest);
     }
@@ -135,6 +156,7 @@ public class RemittanceService {
         return remittanceLimitRequestMapper.selectRemittanceLimitRequests(searchRequest);
     }
     
+    @SingleFlight
     public int countAdminRequests(Map<String, Object> searchRequest) {
         return remittanceLimitRequestMapper.countRemittanceLimitRequests(searchRequest);
     }
@@ -157,38 +179,32 @@ public class RemittanceService {
             remittanceLimitRequestMapper.insertUserRemittanceLimit(userId, dailyLimit, monthlyLimit, singleLimit, requestId);
             }
             
-            // 이메일 발송
-            try {
-                // userId가 null인 경우 요청 ID로부터 조회
-                Long targetUserId = userId;
-                if (targetUserId == null) {
-                    RemittanceLimitRequestResponse requestResponse = remittanceLimitRequestMapper.selectRemittanceLimitRequestById(requestId);
-                    if (requestResponse != null) {
-                        targetUserId = requestResponse.getUserId();
-                    }
+            // 이메일 발송 등록 (같은 트랜잭션에 저장, 실제 발송은 커밋 후 outbox worker)
+            // userId가 null인 경우 요청 ID로부터 조회
+            Long targetUserId = userId;
+            if (targetUserId == null) {
+                RemittanceLimitRequestResponse requestResponse = remittanceLimitRequestMapper.selectRemittanceLimitRequestById(requestId);
+                if (requestResponse != null) {
+                    targetUserId = requestResponse.getUserId();
                 }
-                
-                // 사용자 정보 조회
-                if (targetUserId != null) {
-                    var user = userRepository.findById(targetUserId);
-                    if (user.isPresent()) {
-                        String userEmail = user.get().getEmail();
-                        String userName = user.get().getName();
-                    
-                        // 이메일 발송 - 한도 정보 포함
-                        emailService.sendRemittanceLimitNotification(userEmail, userName, status.name(), adminComment,dailyLimit, monthlyLimit, singleLimit);
-    
-                    }
+            }
+            
+            // 사용자 정보 조회
+            if (targetUserId != null) {
+                var user = userRepository.findById(targetUserId);
+                if (user.isPresent() && user.get().getEmail() != null) {
+                    // 한도 정보 포함
+                    emailOutboxService.enqueue(EmailType.REMITTANCE_LIMIT, user.get().getEmail(),
+                            new RemittanceLimitEmailPayload(user.get().getName(), status.name(), adminComment,
+                                    dailyLimit, monthlyLimit, singleLimit));
                 }
-            } catch (Exception e) {
-                System.err.println("이메일 발송 중 오류 발생: " + e.getMessage());
-                // 이메일 발송 실패해도 트랜잭션은 롤백하지 않음
             }
         }
         
      /**
      * 현재 기본 한도 조회
      */
+    @Cacheable(cacheNames = CacheNames.DEFAULT_REMITTANCE_LIMIT)
     public DefaultRemittanceLimitResponse getDefaultLimit() {
         return defaultRemittanceLimitMapper.selectDefaultLimit();
     }
@@ -196,6 +212,7 @@ public class RemittanceService {
      * 기본 한도 업데이트
      */
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.DEFAULT_REMITTANCE_LIMIT, allEntries = true)
     public void updateDefaultLimit(DefaultRemittanceLimitRequest request) {
         Long adminId = SessionContext.getCurrentAdminId();
         DefaultRemittanceLimit defaultLimit = DefaultRemittanceLimit.builder()
@@ -217,4 +234,115 @@ public class RemittanceService {
         log.info("기본 한도 업데이트 완료: adminId={}, dailyLimit={}, monthlyLimit={}, singleLimit={}", 
                 request.getAdminId(), request.getDailyLimit(), request.getMonthlyLimit(), request.getSingleLimit());
     }
-} 
\ No newline at end of file
+
+    /**
+     * 한도 변경 신청 첨부 서류를 ZIP으로 스트리밍
+     * - 임시 파일 없이 저장 파일을 읽어 바로 ZipOutputStream에 기록 (압축 저장 파일은 스트리밍 해제)
+     * - 이미 압축된 형식(JPEG, PNG, ZIP 등)은 압축하지 않고, 나머지는 BEST_SPEED로 압축
+     * - 다운로드가 길어질 수 있으므로 트랜잭션 밖에서 실행 (DB 커넥션 점유 방지)
+     *
+     * @param entries resolveDocumentEntries 결과
+     * @return ZIP에 포함된 파일 수
+     */
+    public int writeDocumentsZip(Map<String, Long> entries, OutputStream outputStream) throws IOException {
+        ZipOutputStream zip = new ZipOutputStream(outputStream);
+        Set<String> written = new HashSet<>();
+        int count = 0;
+        for (Map.Entry<String, Long> entry : entries.entrySet()) {
+            FileService.StoredFile storedFile = fileService.getStoredFile(entry.getValue());
+            if (storedFile == null) {
+                log.warn("ZIP 다운로드 대상 파일 없음 - FileId: {}", entry.getValue());
+                continue;
+            }
+            String entryName = uniqueEntryName(entry.getKey(), written);
+            zip.setLevel(isPrecompressed(storedFile.getFile().getFileType()) ? Deflater.NO_COMPRESSION : Deflater.BEST_SPEED);
+            zip.putNextEntry(new ZipEntry(entryName));
+            try (InputStream inputStream = fileService.openContent(storedFile)) {
+                inputStream.transferTo(zip);
+            }
+            zip.closeEntry();
+            // 항목 단위로 클라이언트에 전달
+            zip.flush();
+            count++;
+        }
+        zip.finish();
+        zip.flush();
+        log.info("한도 변경 신청 서류 ZIP 다운로드 - 파일 {}개", count);
+        return count;
+    }
+    
+    /**
+     * ZIP 항목 이름 -> 파일 ID (입력 순서 유지)
+     * - 신청: request-{신청 ID}/{income|bankbook|business}_{원본 파일명}
+     * - 파일: files/{파일 ID}_{원본 파일명}
+     * - 응답 헤더를 보내기 전에 호출하여 잘못된 요청은 일반 오류 응답으로 처리
+     */
+    public Map<String, Long> resolveDocumentEntries(RemittanceDocumentExportRequest exportRequest) {
+        // 항목 이름 앞부분과 파일 ID를 순서대로 모은 뒤 파일 레코드는 한 번에 조회
+        List<String> prefixes = new ArrayList<>();
+        List<Long> fileIds = new ArrayList<>();
+        if (exportRequest.getRequestIds() != null && !exportRequest.getRequestIds().isEmpty()) {
+            for (RemittanceLimitRequest request : remittanceLimitRequestRepository.findAllById(exportRequest.getRequestIds())) {
+                String directory = "request-" + request.getId() + "/";
+                addDocumentCandidate(prefixes, fileIds, directory + "income_", request.getIncomeFileId());
+                addDocumentCandidate(prefixes, fileIds, directory + "bankbook_", request.getBankbookFileId());
+                addDocumentCandidate(prefixes, fileIds, directory + "business_", request.getBusinessFileId());
+            }
+        }
+        if (exportRequest.getFileIds() != null) {
+            for (Long fileId : exportRequest.getFileIds()) {
+                addDocumentCandidate(prefixes, fileIds, "files/" + fileId + "_", fileId);
+            }
+        }
+        
+        Map<Long, File> files = fileService.getFilesByIds(fileIds);
+        Map<String, Long> entries = new LinkedHashMap<>();
+        for (int i = 0; i < fileIds.size(); i++) {
+            File file = files.get(fileIds.get(i));
+            if (file != null) {
+                entries.put(prefixes.get(i) + sanitizeEntryName(file.getOriginalName()), file.getId());
+            }
+        }
+        if (entries.isEmpty()) {
+            throw new IllegalArgumentException("다운로드할 파일이 없습니다.");
+        }
+        if (entries.size() > MAX_EXPORT_FILES) {
+            throw new IllegalArgumentException("한 번에 다운로드할 수 있는 파일은 최대 " + MAX_EXPORT_FILES + "개입니다.");
+        }
+        return entries;
+    }
+    
+    private void addDocumentCandidate(List<String> prefixes, List<Long> fileIds, String prefix, Long fileId) {
+        if (fileId != null) {
+            prefixes.add(prefix);
+            fileIds.add(fileId);
+        }
+    }
+    
+    private String sanitizeEntryName(String name) {
+        if (name == null || name.isBlank()) {
+            return "file";
+        }
+        // 경로 구분자/상위 경로 제거 (zip slip 방지)
+        return name.replaceAll("[\\\\/:*?\"<>|]", "_").replace("..", "_");
+    }
+    
+    private String uniqueEntryName(String name, Set<String> written) {
+        String candidate = name;
+        int suffix = 1;
+        while (!written.add(candidate)) {
+            int dot = name.lastIndexOf('.');
+            candidate = dot > name.lastIndexOf('/')
+                    ? name.substring(0, dot) + " (" + suffix + ")" + name.substring(dot)
+                    : name + " (" + suffix + ")";
+            suffix++;
+        }
+        return candidate;
+    }
+    
+    private boolean isPrecompressed(String contentType) {
+        return contentType != null
+                && (contentType.equals("image/jpeg") || contentType.equals("image/png") || contentType.equals("image/gif")
+                    || contentType.equals("application/zip") || contentType.equals("application/gzip"));
+    }
+}
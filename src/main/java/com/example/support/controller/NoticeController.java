@@ -70,6 +70,17 @@ public class NoticeController {
         return ResponseEntity.ok().build();
     }
 
+    // 공지사항 조회 기록 (조회수 증가)
+    @PostMapping("/{id}/view")
+    public ResponseEntity<?> recordView(@PathVariable("id") Long id) {
+        // 존재 확인은 상세 캐시로 (조회마다 DB를 읽지 않도록)
+        if (adminNoticeService.getNoticeById(id) == null) {
+            return ResponseEntity.notFound().build();
+        }
+        adminNoticeService.recordView(id);
+        return ResponseEntity.ok().build();
+    }
+
     // 공지사항 조회수 TOP5 조회
     @GetMapping("/top5")
     public ResponseEntity<List<NoticeResponse>> getTop5Notices() {
@@ -1,17 +1,21 @@
 package com.example.support.controller;
 
+import java.util.List;
+
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.example.support.dto.QnaAnswerRequest;
 import com.example.support.dto.QnaResponse;
 import com.example.support.dto.QnaSearchRequest;
 import com.example.support.dto.QnaSearchResult;
+import com.example.support.dto.SimilarQnaResponse;
 import com.example.support.service.QnaService;
 
 import lombok.RequiredArgsConstructor;
@@ -38,6 +42,18 @@ public class QnaController {
         return ResponseEntity.ok(qna);
     }
 
+    // 답변 완료된 유사 질문 조회 API (k: 최대 개수)
+    @GetMapping("/{id}/similar")
+    public ResponseEntity<List<SimilarQnaResponse>> getSimilarQnas(
+            @PathVariable("id") Long id,
+            @RequestParam(value = "k", defaultValue = "5") int k) {
+        List<SimilarQnaResponse> similar = adminQnaService.getSimilarQnas(id, k);
+        if (similar == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(similar);
+    }
+
     // Q&A 답변 등록 API
     @PostMapping("/{qnaId}/answer")
     public ResponseEntity<QnaResponse> answerQna(
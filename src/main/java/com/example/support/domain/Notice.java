@@ -8,7 +8,12 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 
 @Entity
-@Table(name = "notice")
+@Table(name = "notice", indexes = {
+        @Index(name = "idx_notice_updated_at", columnList = "updated_at"),
+        @Index(name = "idx_notice_start_at", columnList = "notice_start_at"),
+        @Index(name = "idx_notice_end_at", columnList = "notice_end_at"),
+        @Index(name = "idx_notice_priority_end_at", columnList = "priority, notice_end_at")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
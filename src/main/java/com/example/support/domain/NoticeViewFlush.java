@@ -0,0 +1,29 @@
+package com.example.support.domain;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+/**
+ * 반영 완료된 조회수 증가분 묶음 (NoticeViewCountService.flush)
+ * - 조회수 UPDATE와 같은 트랜잭션에서 기록하므로, 같은 묶음을 다시 반영하려 하면 기본 키 충돌로 건너뜀
+ * - 재시도 판단에만 쓰이므로 오래된 기록은 반영 시 함께 삭제
+ */
+@Entity
+@Table(name = "notice_view_flush", indexes = {
+        @Index(name = "idx_notice_view_flush_applied_at", columnList = "applied_at")
+})
+@Data
+@NoArgsConstructor
+public class NoticeViewFlush {
+    @Id
+    @Column(name = "flush_id", length = 32)
+    private String flushId;
+    
+    @Column(name = "notice_count", nullable = false)
+    private int noticeCount;
+    
+    @Column(name = "applied_at", nullable = false)
+    private LocalDateTime appliedAt;
+}
@@ -13,7 +13,9 @@ import com.example.user.domain.User;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "qna")
+@Table(name = "qna", indexes = {
+        @Index(name = "idx_qna_updated_at", columnList = "updated_at")
+})
 @Getter
 @Setter
 @EntityListeners(AuditingEntityListener.class)
@@ -0,0 +1,20 @@
+package com.example.support.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 공지사항 시작/종료 시각 (타이머 예약용, 본문 제외)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NoticeSchedule {
+    private Long id;
+    private String priority;
+    private LocalDateTime noticeStartAt;
+    private LocalDateTime noticeEndAt;
+}
@@ -1,5 +1,9 @@
 package com.example.support.dto;
 
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import lombok.Data;
 
 @Data
@@ -12,4 +16,8 @@ public class NoticeSearchRequest {
     private int size;
     private String sortOrder = "latest";
     private Boolean isUserSearch = false;
+    
+    // 검색 색인에서 찾은 제목/본문 후보 ID (관련도 순), 설정되면 SQL에서 LIKE 조건과 함께 사용
+    @JsonIgnore
+    private List<Long> textMatchIds;
 }
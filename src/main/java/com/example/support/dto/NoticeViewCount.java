@@ -0,0 +1,16 @@
+package com.example.support.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 공지사항별 조회수 (전체 조회수 또는 반영할 증가분)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NoticeViewCount {
+    private Long id;
+    private long viewCount;
+}
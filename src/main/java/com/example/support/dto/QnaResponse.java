@@ -1,5 +1,7 @@
 package com.example.support.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import lombok.Getter;
 import lombok.Setter;
 
@@ -23,4 +25,8 @@ public class QnaResponse {
     private String userName;
     private Long userId;
     private Long fileSize;
+    
+    // 답변 알림 메일 수신 주소 (응답에는 포함하지 않음)
+    @JsonIgnore
+    private String userEmail;
 }
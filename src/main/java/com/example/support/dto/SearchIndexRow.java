@@ -0,0 +1,16 @@
+package com.example.support.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.Data;
+
+/**
+ * 검색 색인 대상 행 (공지사항/Q&A 공통)
+ */
+@Data
+public class SearchIndexRow {
+    private Long id;
+    private String title;
+    private String content;
+    private LocalDateTime updatedAt;
+}
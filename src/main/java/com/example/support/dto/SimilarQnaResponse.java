@@ -0,0 +1,21 @@
+package com.example.support.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 유사 질문 (답변 완료된 Q&A, 답변 재사용 참고용)
+ */
+@Getter
+@Setter
+public class SimilarQnaResponse {
+    private Long id;
+    private String title;
+    private String content;
+    private String answerContent;
+    private LocalDateTime answeredAt;
+    // 추정 Jaccard 유사도 (0~1)
+    private double similarity;
+}
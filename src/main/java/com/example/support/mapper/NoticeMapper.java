@@ -1,10 +1,14 @@
 package com.example.support.mapper;
 
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
 import com.example.support.dto.NoticeResponse;
 import com.example.support.dto.NoticeSearchRequest;
+import com.example.support.dto.NoticeViewCount;
+import com.example.support.dto.SearchIndexRow;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Mapper
@@ -12,4 +16,13 @@ public interface NoticeMapper {
     List<NoticeResponse> getNoticeList(NoticeSearchRequest request);
     int getNoticeCount(NoticeSearchRequest request);
     List<NoticeResponse> getTop5Notices();
+    List<NoticeResponse> getDisplayableNoticesByIds(@Param("ids") List<Long> ids);
+    List<NoticeViewCount> selectViewCounts();
+    int countAllNotices();
+    int addViewCounts(@Param("deltas") List<NoticeViewCount> deltas);
+    int insertViewFlush(@Param("flushId") String flushId, @Param("noticeCount") int noticeCount,
+                        @Param("appliedAt") LocalDateTime appliedAt);
+    int deleteViewFlushesBefore(@Param("before") LocalDateTime before);
+    List<SearchIndexRow> selectNoticeIndexRows(@Param("afterId") long afterId, @Param("limit") int limit);
+    List<SearchIndexRow> selectNoticeIndexRowsChangedSince(@Param("since") LocalDateTime since, @Param("afterId") long afterId);
 }
@@ -5,7 +5,10 @@ import org.apache.ibatis.annotations.Param;
 
 import com.example.support.dto.QnaResponse;
 import com.example.support.dto.QnaSearchRequest;
+import com.example.support.dto.SearchIndexRow;
+import com.example.support.dto.SimilarQnaResponse;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Mapper
@@ -15,4 +18,21 @@ public interface QnaMapper {
     
     int selectQnaCount(QnaSearchRequest request);
     
+    QnaResponse selectQnaById(@Param("id") Long id);
+    
+    int answerQna(@Param("id") Long id,
+                  @Param("answerContent") String answerContent,
+                  @Param("answerUserId") Long answerUserId,
+                  @Param("answeredAt") LocalDateTime answeredAt);
+    
+    List<SearchIndexRow> selectQnaIndexRows(@Param("afterId") long afterId, @Param("limit") int limit);
+    
+    List<SearchIndexRow> selectQnaIndexRowsChangedSince(@Param("since") LocalDateTime since, @Param("afterId") long afterId);
+    
+    List<SearchIndexRow> selectAnsweredQnaIndexRows(@Param("afterId") long afterId, @Param("limit") int limit);
+    
+    List<SearchIndexRow> selectAnsweredQnaIndexRowsChangedSince(@Param("since") LocalDateTime since, @Param("afterId") long afterId);
+    
+    List<SimilarQnaResponse> selectSimilarQnas(@Param("ids") List<Long> ids);
+    
 } 
\ No newline at end of file
@@ -1,26 +1,65 @@
 package com.example.support.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.example.support.domain.Notice;
+import com.example.support.dto.NoticeSchedule;
 
 @Repository
 public interface NoticeRepository extends JpaRepository<Notice, Long> {
     
+    @Query("SELECT n.id FROM Notice n WHERE n.priority = 'HIGH'")
+    List<Long> findHighPriorityIds();
+    
+    /**
+     * 긴급 공지사항을 NORMAL로 변경 (변경 대상 ID를 먼저 조회하여 해당 공지만 캐시 무효화)
+     */
     @Modifying
-    @Query("UPDATE Notice n SET n.priority = 'NORMAL', n.noticeStartAt = null, n.noticeEndAt = null WHERE n.priority = 'HIGH'")
-    void updateHighPriorityToNormal();
+    @Query("UPDATE Notice n SET n.priority = 'NORMAL', n.noticeStartAt = null, n.noticeEndAt = null WHERE n.id IN :ids AND n.priority = 'HIGH'")
+    int updateHighPriorityToNormal(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * 만료된 긴급 공지사항 ID
+     * now는 한국 시간(KST), notice_end_at 컬럼을 그대로 비교하여 인덱스 사용
+     */
+    @Query("SELECT n.id FROM Notice n WHERE n.priority = 'HIGH' AND n.noticeEndAt < :now")
+    List<Long> findExpiredUrgentNoticeIds(@Param("now") LocalDateTime now);
     
     /**
      * 만료된 긴급 공지사항을 NORMAL로 변경
-     * 한국 시간(KST) 기준으로 현재 날짜보다 noticeEndAt 날짜가 이전인 긴급 공지사항들을 대상으로 함
      * 네이티브 쿼리이므로 updated_at도 직접 업데이트
-     * CONVERT_TZ를 사용하여 UTC에서 한국 시간(Asia/Seoul)으로 변환
      */
     @Modifying
-    @Query(value = "UPDATE notice n SET n.priority = 'NORMAL', n.notice_start_at = NULL, n.notice_end_at = NULL, n.updated_at = CONVERT_TZ(NOW(), 'UTC', 'Asia/Seoul') WHERE n.priority = 'HIGH' AND DATE(n.notice_end_at) < DATE(CONVERT_TZ(NOW(), 'UTC', 'Asia/Seoul'))", nativeQuery = true)
-    int updateExpiredUrgentNotices();
+    @Query(value = "UPDATE notice n SET n.priority = 'NORMAL', n.notice_start_at = NULL, n.notice_end_at = NULL, n.updated_at = CONVERT_TZ(NOW(), 'UTC', 'Asia/Seoul') WHERE n.id IN (:ids) AND n.priority = 'HIGH'", nativeQuery = true)
+    int updateExpiredUrgentNotices(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * 앞으로 시작/종료될 공지사항과 종료 처리되지 않은 긴급 공지사항 (타이머 재구성용)
+     */
+    @Query("SELECT new com.example.support.dto.NoticeSchedule(n.id, n.priority, n.noticeStartAt, n.noticeEndAt) FROM Notice n "
+            + "WHERE n.noticeStartAt > :now OR n.noticeEndAt > :now OR (n.priority = 'HIGH' AND n.noticeEndAt IS NOT NULL)")
+    List<NoticeSchedule> findPendingSchedules(@Param("now") LocalDateTime now);
+    
+    @Query("SELECT new com.example.support.dto.NoticeSchedule(n.id, n.priority, n.noticeStartAt, n.noticeEndAt) FROM Notice n WHERE n.id = :id")
+    Optional<NoticeSchedule> findScheduleById(@Param("id") Long id);
+    
+    /**
+     * 긴급 공지사항 종료 처리 (ID 단건)
+     * 예약 이후 종료 시각이 바뀌었거나 이미 NORMAL이면 변경하지 않음
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Notice n SET n.priority = 'NORMAL', n.noticeStartAt = null, n.noticeEndAt = null, n.updatedAt = :now "
+            + "WHERE n.id = :id AND n.priority = 'HIGH' AND n.noticeEndAt = :noticeEndAt")
+    int expireUrgentNotice(@Param("id") Long id, @Param("noticeEndAt") LocalDateTime noticeEndAt, @Param("now") LocalDateTime now);
 }
@@ -1,7 +1,10 @@
 package com.example.support.scheduler;
 
+import java.time.Duration;
+
+import com.example.job.service.JobService;
 import com.example.support.service.NoticeService;
-import lombok.RequiredArgsConstructor;
+import com.example.support.service.NoticeTimerService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
@@ -13,14 +16,33 @@ import org.springframework.context.event.EventListener;
  * 공지사항 상태 관리 스케줄러
  * - 서버 시작 시 최초 1회 실행
  * - 매일 0시 0분 0초에 정기 실행
- * - 긴급 공지사항 중 날짜가 지난 것을 NORMAL로 변경
+ * - 긴급 공지사항 중 날짜가 지난 것을 NORMAL로 변경 (한 노드만 실행, Redis 장애 시 노드마다 실행)
+ * - 시작/종료 시각의 정확한 처리는 NoticeTimerService가 담당, 여기서는 놓친 공지 정리와 타이머 재구성 (노드마다 실행)
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class NoticeStatusScheduler {
 
-    private final NoticeService noticeService;
+    private static final String EXPIRY_JOB = "notice-urgent-expiry";
+    private static final String TIMER_JOB = "notice-timer-rebuild";
+
+    private final JobService jobService;
+
+    public NoticeStatusScheduler(JobService jobService, NoticeService noticeService, NoticeTimerService noticeTimerService) {
+        this.jobService = jobService;
+        // 조건부 UPDATE라 중복 실행해도 안전하므로 Redis 장애 중에도 노드마다 실행
+        jobService.registerIdempotent(EXPIRY_JOB, "만료된 긴급 공지사항을 NORMAL로 변경",
+                Duration.ofMinutes(5), Duration.ofMinutes(1), () -> {
+                    int updatedCount = noticeService.updateExpiredUrgentNotices();
+                    if (updatedCount > 0) {
+                        log.info("만료된 긴급 공지사항 {}개를 NORMAL로 변경했습니다.", updatedCount);
+                    } else {
+                        log.info("만료된 긴급 공지사항이 없습니다.");
+                    }
+                });
+        // 다른 노드의 변경 알림 유실 대비
+        jobService.registerLocal(TIMER_JOB, "공지사항 시작/종료 타이머 재구성", noticeTimerService::rebuild);
+    }
 
     /**
      * 서버가 완전히 시작된 후 최초 1회 실행
@@ -29,7 +51,8 @@ public class NoticeStatusScheduler {
     @EventListener(ApplicationReadyEvent.class)
     public void onApplicationReady() {
         log.info("서버 준비 완료: 만료된 긴급 공지사항 초기 확인 시작");
-        updateExpiredUrgentNotices();
+        jobService.run(EXPIRY_JOB);
+        jobService.run(TIMER_JOB);
     }
 
     /**
@@ -39,25 +62,7 @@ public class NoticeStatusScheduler {
     @Scheduled(cron = "0 0 0 * * *") // 매일 0시 0분 0초
     public void scheduledUpdateExpiredUrgentNotices() {
         log.info("스케줄러 실행: 만료된 긴급 공지사항 확인 시작");
-        updateExpiredUrgentNotices();
-    }
-
-    /**
-     * 만료된 긴급 공지사항을 NORMAL로 변경하는 공통 로직
-     */
-    private void updateExpiredUrgentNotices() {
-        try {
-            int updatedCount = noticeService.updateExpiredUrgentNotices();
-            
-            if (updatedCount > 0) {
-                log.info("만료된 긴급 공지사항 {}개를 NORMAL로 변경했습니다.", updatedCount);
-            } else {
-                log.info("만료된 긴급 공지사항이 없습니다.");
-            }
-            
-        } catch (Exception e) {
-            log.error("공지사항 상태 업데이트 중 오류 발생: {}", e.getMessage(), e);
-        }
+        jobService.run(EXPIRY_JOB);
+        jobService.run(TIMER_JOB);
     }
 }
-
@@ -0,0 +1,59 @@
+package com.example.support.scheduler;
+
+import java.time.Duration;
+
+import com.example.job.service.JobService;
+import com.example.support.service.NoticeViewCountService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 공지사항 조회수 반영 스케줄러
+ * - 서버 시작 시 DB 조회수로 Redis 순위 재구성
+ * - 주기적으로 Redis에 누적된 조회수 증가분을 DB에 일괄 반영
+ * - 주기적으로 Redis 순위가 없거나 일부만 남았는지 확인하고 재구성
+ * - Redis 상태를 다루므로 한 노드만 실행
+ */
+@Slf4j
+@Component
+public class NoticeViewCountScheduler {
+
+    private static final String REBUILD_JOB = "notice-view-ranking-rebuild";
+    private static final String FLUSH_JOB = "notice-view-count-flush";
+    private static final String RANKING_CHECK_JOB = "notice-view-ranking-check";
+
+    private final JobService jobService;
+
+    public NoticeViewCountScheduler(JobService jobService, NoticeViewCountService noticeViewCountService) {
+        this.jobService = jobService;
+        jobService.register(REBUILD_JOB, "DB 조회수로 Redis 조회수 순위 재구성",
+                Duration.ofMinutes(5), Duration.ofMinutes(1), noticeViewCountService::rebuildRanking);
+        jobService.register(FLUSH_JOB, "Redis 조회수 증가분을 DB에 반영",
+                Duration.ofMinutes(1), Duration.ofSeconds(30), () -> {
+                    int flushed = noticeViewCountService.flush();
+                    if (flushed > 0) {
+                        log.debug("공지사항 조회수 반영 - {}개", flushed);
+                    }
+                });
+        jobService.register(RANKING_CHECK_JOB, "Redis 조회수 순위 누락 확인 후 재구성",
+                Duration.ofMinutes(5), Duration.ofSeconds(30), noticeViewCountService::rebuildRankingIfIncomplete);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        jobService.run(REBUILD_JOB);
+    }
+
+    @Scheduled(initialDelayString = "${notice.view-count.flush-interval:PT1M}", fixedDelayString = "${notice.view-count.flush-interval:PT1M}")
+    public void flush() {
+        jobService.run(FLUSH_JOB);
+    }
+
+    @Scheduled(initialDelayString = "${notice.view-count.ranking-check-interval:PT1M}", fixedDelayString = "${notice.view-count.ranking-check-interval:PT1M}")
+    public void checkRanking() {
+        jobService.run(RANKING_CHECK_JOB);
+    }
+}
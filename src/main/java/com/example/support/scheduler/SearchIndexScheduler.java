@@ -0,0 +1,38 @@
+package com.example.support.scheduler;
+
+import com.example.job.service.JobService;
+import com.example.support.service.SearchIndexService;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검색 색인 스케줄러
+ * - 서버 시작 시 백그라운드 구성, 이후 주기적으로 다른 노드/사용자 서비스의 변경분 반영
+ * - 색인이 노드별 메모리에 있으므로 모든 노드에서 실행
+ */
+@Component
+public class SearchIndexScheduler {
+
+    private static final String REBUILD_JOB = "search-index-rebuild";
+    private static final String SYNC_JOB = "search-index-sync";
+
+    private final JobService jobService;
+
+    public SearchIndexScheduler(JobService jobService, SearchIndexService searchIndexService) {
+        this.jobService = jobService;
+        jobService.registerLocal(REBUILD_JOB, "검색 색인 전체 재구성 요청", searchIndexService::rebuildAsync);
+        jobService.registerLocal(SYNC_JOB, "검색 색인 변경분 동기화 요청", searchIndexService::syncAsync);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        jobService.run(REBUILD_JOB);
+    }
+
+    @Scheduled(initialDelayString = "${search.index.sync-interval:PT30S}", fixedDelayString = "${search.index.sync-interval:PT30S}")
+    public void sync() {
+        jobService.run(SYNC_JOB);
+    }
+}
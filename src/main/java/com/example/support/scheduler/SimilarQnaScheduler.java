@@ -0,0 +1,39 @@
+package com.example.support.scheduler;
+
+import com.example.job.service.JobService;
+import com.example.support.service.SimilarQnaService;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 유사 질문 색인 스케줄러
+ * - 서버 시작 시 백그라운드 구성, 이후 주기적으로 다른 노드에서 답변된 Q&A 반영
+ * - 색인이 노드별 메모리에 있으므로 모든 노드에서 실행
+ */
+@Component
+public class SimilarQnaScheduler {
+
+    private static final String REBUILD_JOB = "qna-similarity-rebuild";
+    private static final String SYNC_JOB = "qna-similarity-sync";
+
+    private final JobService jobService;
+
+    public SimilarQnaScheduler(JobService jobService, SimilarQnaService similarQnaService) {
+        this.jobService = jobService;
+        jobService.registerLocal(REBUILD_JOB, "유사 질문 색인 전체 재구성", similarQnaService::rebuild);
+        jobService.registerLocal(SYNC_JOB, "유사 질문 색인 변경분 동기화", similarQnaService::sync);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        // 시작 이벤트 스레드를 붙잡지 않도록 백그라운드 실행
+        jobService.trigger(REBUILD_JOB);
+    }
+
+    @Scheduled(initialDelayString = "${search.index.sync-interval:PT30S}", fixedDelayString = "${search.index.sync-interval:PT30S}")
+    public void sync() {
+        jobService.run(SYNC_JOB);
+    }
+}
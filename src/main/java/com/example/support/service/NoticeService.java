@@ -1,11 +1,22 @@
 package com.example.support.service;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.cache.CacheNames;
+import com.example.cache.MybatisCacheInvalidator;
+import com.example.common.service.SingleFlightService;
 import com.example.context.SessionContext;
+import com.example.notification.service.NoticeBroadcastService;
 import com.example.support.domain.Notice;
 import com.example.support.dto.NoticeRequest;
 import com.example.support.dto.NoticeResponse;
@@ -21,26 +32,61 @@ public class NoticeService {
     
     private final NoticeRepository noticeRepository;
     private final NoticeMapper noticeMapper;
+    private final SingleFlightService singleFlightService;
+    private final MybatisCacheInvalidator mybatisCacheInvalidator;
+    private final NoticeBroadcastService noticeBroadcastService;
+    private final CacheManager cacheManager;
+    private final NoticeViewCountService noticeViewCountService;
+    private final SearchIndexService searchIndexService;
+    private final NoticeTimerService noticeTimerService;
     
     public List<NoticeResponse> getNoticeList(NoticeSearchRequest request) {
+        if (!applyTextSearch(request)) {
+            return List.of();
+        }
         return noticeMapper.getNoticeList(request);
     }
     
     public int getNoticeCount(NoticeSearchRequest request) {
-        return noticeMapper.getNoticeCount(request);
+        if (!applyTextSearch(request)) {
+            return 0;
+        }
+        return singleFlightService.execute("NoticeService.getNoticeCount",
+                () -> noticeMapper.getNoticeCount(request), request);
+    }
+    
+    /**
+     * 제목/본문 조건을 검색 색인으로 처리 (색인을 사용할 수 없으면 SQL LIKE 그대로)
+     *
+     * @return 색인 결과 일치하는 공지사항이 없으면 false
+     */
+    private boolean applyTextSearch(NoticeSearchRequest request) {
+        List<Long> ids = searchIndexService.searchNotices(request.getTitle(), request.getContent());
+        request.setTextMatchIds(ids);
+        return ids == null || !ids.isEmpty();
     }
 
-    // 공지사항 조회수 TOP5 조회 (MyBatis 사용)
+    // 공지사항 조회수 TOP5 조회 (Redis 조회수 순위, 순위를 사용할 수 없으면 DB)
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.NOTICE_TOP5)
     public List<NoticeResponse> getTop5Notices() {
-        return noticeMapper.getTop5Notices();
+        List<NoticeResponse> top5 = noticeViewCountService.getTopNotices(5);
+        return top5 != null ? top5 : noticeMapper.getTop5Notices();
+    }
+    
+    /**
+     * 공지사항 조회 1회 기록 (DB에는 주기적으로 일괄 반영)
+     */
+    public void recordView(Long id) {
+        noticeViewCountService.recordView(id);
     }
     
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.NOTICE_TOP5, allEntries = true)
     public Notice createNotice(NoticeRequest request) {
         // 중요도가 높음이면 기존 높음 공지사항들을 보통으로 변경
         if ("HIGH".equals(request.getPriority())) {
-            noticeRepository.updateHighPriorityToNormal();
+            updateHighPriorityToNormal();
         }
         
         Long adminId = SessionContext.getCurrentAdminId();
@@ -60,14 +106,27 @@ public class NoticeService {
         notice.setViewCount(0);
         notice.setCreatedUserId(adminId);
         
-        return noticeRepository.save(notice);
+        // JPA 쓰기이므로 NoticeMapper 2차 캐시 명시적 무효화
+        mybatisCacheInvalidator.invalidate(NoticeMapper.class);
+        Notice saved = noticeRepository.save(notice);
+        
+        noticeViewCountService.register(saved.getId());
+        searchIndexService.indexNotice(saved.getId(), saved.getTitle(), saved.getContent());
+        noticeTimerService.reschedule(saved.getId());
+        
+        // 긴급 공지는 활성 사용자 전체에게 메일 발송 (커밋 후 백그라운드)
+        if ("HIGH".equals(saved.getPriority())) {
+            noticeBroadcastService.schedule(saved);
+        }
+        return saved;
     }
     
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.NOTICE_TOP5, allEntries = true)
     public Notice updateNotice(Long id, NoticeRequest request) {
         // 중요도가 높음이면 기존 높음 공지사항들을 보통으로 변경
         if ("HIGH".equals(request.getPriority())) {
-            noticeRepository.updateHighPriorityToNormal();
+            updateHighPriorityToNormal();
         }
         
         Notice notice = noticeRepository.findById(id)
@@ -87,17 +146,31 @@ public class NoticeService {
         }
         notice.setStatus(request.getStatus());
         notice.setUpdatedUserId(adminId);
-        return noticeRepository.save(notice);
+        evictNotices(List.of(id));
+        Notice saved = noticeRepository.save(notice);
+        searchIndexService.indexNotice(saved.getId(), saved.getTitle(), saved.getContent());
+        noticeTimerService.reschedule(saved.getId());
+        return saved;
     }
     
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.NOTICE_TOP5, allEntries = true)
     public void deleteNotice(Long id) {
         Notice notice = noticeRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("공지사항을 찾을 수 없습니다."));
         
         noticeRepository.delete(notice);
+        noticeViewCountService.remove(id);
+        searchIndexService.removeNotice(id);
+        noticeTimerService.reschedule(id);
+        evictNotices(List.of(id));
     }
-        
+    
+    /**
+     * 공지사항 상세 조회 (ID별 캐시, 쓰기 경로에서 해당 ID만 무효화)
+     */
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.NOTICE, key = "#id", unless = "#result == null")
     public NoticeResponse getNoticeById(Long id) {
         Notice notice = noticeRepository.findById(id)
                 .orElse(null);
@@ -109,13 +182,46 @@ public class NoticeService {
         return convertToResponse(notice);
     }
 
-        /**
+    /**
      * 만료된 긴급 공지사항을 NORMAL로 변경
-     * 스케줄러에서 호출되는 메서드
+     * 스케줄러에서 호출되는 메서드 (종료 시각 타이머가 놓친 공지 정리)
      */
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.NOTICE_TOP5, allEntries = true)
     public int updateExpiredUrgentNotices() {
-        return noticeRepository.updateExpiredUrgentNotices();
+        List<Long> expiredIds = noticeRepository.findExpiredUrgentNoticeIds(LocalDateTime.now(ZoneId.of("Asia/Seoul")));
+        if (expiredIds.isEmpty()) {
+            return 0;
+        }
+        int updatedCount = noticeRepository.updateExpiredUrgentNotices(expiredIds);
+        evictNotices(expiredIds);
+        return updatedCount;
+    }
+    
+    /**
+     * 기존 긴급 공지사항을 보통으로 변경하고 변경된 공지만 상세 캐시에서 제거
+     */
+    private void updateHighPriorityToNormal() {
+        List<Long> highPriorityIds = noticeRepository.findHighPriorityIds();
+        if (!highPriorityIds.isEmpty()) {
+            noticeRepository.updateHighPriorityToNormal(highPriorityIds);
+            evictNotices(highPriorityIds);
+        }
+    }
+    
+    /**
+     * 공지사항 캐시 무효화
+     * - 상세: 변경된 ID만 제거 (트랜잭션 커밋 후 반영, 다른 노드 L1은 pub/sub으로 제거)
+     * - 목록/건수: 검색 조건별 결과라 어떤 변경이든 영향을 줄 수 있으므로 NoticeMapper 2차 캐시 전체 제거
+     */
+    private void evictNotices(Collection<Long> ids) {
+        Cache cache = cacheManager.getCache(CacheNames.NOTICE);
+        if (cache != null) {
+            for (Long id : ids) {
+                cache.evict(id);
+            }
+        }
+        mybatisCacheInvalidator.invalidate(NoticeMapper.class);
     }
     
     private NoticeResponse convertToResponse(Notice notice) {
@@ -0,0 +1,241 @@
+package com.example.support.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.stereotype.Service;
+
+import com.example.cache.CacheNames;
+import com.example.cache.MybatisCacheInvalidator;
+import com.example.common.service.RedisService;
+import com.example.common.timer.HierarchicalTimerWheel;
+import com.example.common.util.TransactionUtils;
+import com.example.support.dto.NoticeSchedule;
+import com.example.support.mapper.NoticeMapper;
+import com.example.support.repository.NoticeRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 공지사항 시작/종료 타이머
+ * - 노드마다 메모리 타이머 휠에 공지별 시작/종료 시각을 예약 (서버 시작 시 DB로 구성)
+ * - 시작: 노출 대상이 바뀌므로 캐시 무효화
+ * - 종료: 긴급 공지를 ID 단건 UPDATE로 NORMAL 변경 후 캐시 무효화
+ * - 모든 노드가 같은 시각에 실행하므로 전환별 Redis 락을 획득한 한 노드만 처리 (락은 해제하지 않고 만료되게 둠)
+ * - 등록/수정/삭제 시 커밋 후 이 노드에서 다시 예약하고, 다른 노드에는 pub/sub으로 알려 DB에서 다시 읽게 함
+ * - 공지사항 시각은 한국 시간(KST) 기준
+ */
+@Slf4j
+@Service
+public class NoticeTimerService implements MessageListener, DisposableBean {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final String CHANNEL = "notice:timer:reschedule";
+    private static final String LOCK_KEY_PREFIX = "notice:timer:lock:";
+    // 다른 노드가 같은 전환을 다시 처리하지 않도록 실행 후에도 유지
+    private static final Duration LOCK_TTL = Duration.ofMinutes(10);
+
+    private final String origin = UUID.randomUUID().toString();
+    private final NoticeRepository noticeRepository;
+    private final CacheManager cacheManager;
+    private final MybatisCacheInvalidator mybatisCacheInvalidator;
+    private final RedisService redisService;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final GenericJackson2JsonRedisSerializer messageSerializer;
+    private final HierarchicalTimerWheel<String> wheel;
+    private final MeterRegistry meterRegistry;
+
+    public NoticeTimerService(NoticeRepository noticeRepository,
+                              CacheManager cacheManager,
+                              MybatisCacheInvalidator mybatisCacheInvalidator,
+                              RedisService redisService,
+                              RedisTemplate<String, Object> redisTemplate,
+                              GenericJackson2JsonRedisSerializer redisValueSerializer,
+                              RedisMessageListenerContainer redisMessageListenerContainer,
+                              @Qualifier("noticeTimerExecutor") TaskExecutor noticeTimerExecutor,
+                              MeterRegistry meterRegistry) {
+        this.noticeRepository = noticeRepository;
+        this.cacheManager = cacheManager;
+        this.mybatisCacheInvalidator = mybatisCacheInvalidator;
+        this.redisService = redisService;
+        this.redisTemplate = redisTemplate;
+        this.messageSerializer = redisValueSerializer;
+        this.meterRegistry = meterRegistry;
+        this.wheel = new HierarchicalTimerWheel<>("notice-timer", 1000, noticeTimerExecutor);
+        Gauge.builder("notice.timer.pending", wheel, HierarchicalTimerWheel::size)
+                .description("예약된 공지사항 시작/종료 타이머 수")
+                .register(meterRegistry);
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * DB 기준으로 전체 다시 예약 (서버 시작 시, 메시지 유실 대비 주기 실행)
+     * - 이미 지난 긴급 공지 종료는 바로 실행
+     */
+    public void rebuild() {
+        List<NoticeSchedule> schedules = noticeRepository.findPendingSchedules(LocalDateTime.now(KST));
+        wheel.cancelAll();
+        for (NoticeSchedule schedule : schedules) {
+            schedule(schedule);
+        }
+        log.info("공지사항 타이머 구성 완료 - 공지 {}개, 타이머 {}개", schedules.size(), wheel.size());
+    }
+
+    /**
+     * 공지사항 등록/수정/삭제 후 호출 (커밋 후 반영)
+     */
+    public void reschedule(Long id) {
+        TransactionUtils.afterCommit(() -> {
+            reload(id);
+            publish(id);
+        });
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            Object payload = messageSerializer.deserialize(message.getBody());
+            if (!(payload instanceof String body)) {
+                return;
+            }
+            int separator = body.lastIndexOf(':');
+            if (separator < 0 || origin.equals(body.substring(0, separator))) {
+                return;
+            }
+            reload(Long.valueOf(body.substring(separator + 1)));
+        } catch (Exception e) {
+            log.warn("공지사항 타이머 메시지 처리 실패: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        wheel.stop();
+    }
+
+    private void reload(Long id) {
+        wheel.cancel(startKey(id));
+        wheel.cancel(endKey(id));
+        noticeRepository.findScheduleById(id).ifPresent(this::schedule);
+    }
+
+    private void publish(Long id) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, origin + ":" + id);
+        } catch (Exception e) {
+            log.warn("공지사항 타이머 메시지 발행 실패 - ID: {}, Error: {}", id, e.getMessage());
+        }
+    }
+
+    private void schedule(NoticeSchedule schedule) {
+        Long id = schedule.getId();
+        LocalDateTime now = LocalDateTime.now(KST);
+        LocalDateTime startAt = schedule.getNoticeStartAt();
+        if (startAt != null && startAt.isAfter(now)) {
+            wheel.schedule(startKey(id), toInstant(startAt), () -> onStart(id, startAt));
+        }
+        LocalDateTime endAt = schedule.getNoticeEndAt();
+        if (endAt != null && (endAt.isAfter(now) || "HIGH".equals(schedule.getPriority()))) {
+            // 종료 시각(23:59:59)까지는 노출되므로 그 다음 초에 실행
+            wheel.schedule(endKey(id), toInstant(endAt.plusSeconds(1)), () -> onEnd(id, endAt));
+        }
+    }
+
+    private void onStart(Long id, LocalDateTime startAt) {
+        if (redisService.tryLock(lockKey(id, "start", startAt), LOCK_TTL) == null) {
+            return;
+        }
+        evictNotice(id);
+        count("start", "evicted");
+        log.info("공지사항 노출 시작 - ID: {}", id);
+    }
+
+    private void onEnd(Long id, LocalDateTime endAt) {
+        String lockKey = lockKey(id, "end", endAt);
+        String token;
+        try {
+            token = redisService.acquireLock(lockKey, LOCK_TTL);
+            if (token == null) {
+                return;
+            }
+        } catch (DataAccessException e) {
+            // 종료 처리는 조건부 UPDATE라 노드마다 실행해도 안전
+            log.warn("공지사항 종료 락 사용 불가, 락 없이 처리 - ID: {}, Error: {}", id, e.getMessage());
+            token = null;
+        }
+        try {
+            int updated = noticeRepository.expireUrgentNotice(id, endAt, LocalDateTime.now(KST));
+            evictNotice(id);
+            count("end", updated > 0 ? "expired" : "evicted");
+            if (updated > 0) {
+                log.info("만료된 긴급 공지사항을 NORMAL로 변경 - ID: {}", id);
+            }
+        } catch (Exception e) {
+            // 다음 재구성이나 정기 확인에서 다시 처리되도록 락 해제
+            if (token != null) {
+                redisService.unlock(lockKey, token);
+            }
+            count("end", "failed");
+            log.error("공지사항 종료 처리 실패 - ID: {}, Error: {}", id, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 상세는 해당 ID만, 목록/건수는 NoticeMapper 2차 캐시 전체, 노출 중인 TOP5도 제거
+     */
+    private void evictNotice(Long id) {
+        Cache notice = cacheManager.getCache(CacheNames.NOTICE);
+        if (notice != null) {
+            notice.evict(id);
+        }
+        Cache top5 = cacheManager.getCache(CacheNames.NOTICE_TOP5);
+        if (top5 != null) {
+            top5.clear();
+        }
+        mybatisCacheInvalidator.invalidate(NoticeMapper.class);
+    }
+
+    private void count(String transition, String result) {
+        Counter.builder("notice.timer.transitions")
+                .description("공지사항 시작/종료 타이머 처리 수")
+                .tag("transition", transition)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static Instant toInstant(LocalDateTime dateTime) {
+        return dateTime.atZone(KST).toInstant();
+    }
+
+    private static String startKey(Long id) {
+        return id + ":start";
+    }
+
+    private static String endKey(Long id) {
+        return id + ":end";
+    }
+
+    private static String lockKey(Long id, String transition, LocalDateTime at) {
+        return LOCK_KEY_PREFIX + id + ":" + transition + ":" + toInstant(at).toEpochMilli();
+    }
+}
@@ -0,0 +1,368 @@
+package com.example.support.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.redis.connection.RedisZSetCommands.ZAddArgs;
+import org.springframework.data.redis.connection.zset.Tuple;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.cache.CacheNames;
+import com.example.cache.MybatisCacheInvalidator;
+import com.example.common.service.RedisService;
+import com.example.support.dto.NoticeResponse;
+import com.example.support.dto.NoticeViewCount;
+import com.example.support.mapper.NoticeMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 공지사항 조회수 집계
+ * - 조회 시 DB 대신 Redis에 기록: 증가분 hash(pending) + 전체 조회수 순위 sorted set(ranking)
+ * - 주기적으로 증가분을 notice.view_count에 CASE UPDATE로 반영 (인기 공지에 행 잠금 경합 없음)
+ *   떼어낸 증가분 묶음마다 ID를 붙이고, 반영과 ID 기록(notice_view_flush)을 한 트랜잭션으로 처리하여 중복 반영 없음
+ * - 조회수 TOP5는 ranking에서 바로 조회 (DB는 노출 조건 확인용 PK 조회만)
+ * - Redis 데이터 유실 등으로 ranking이 비거나 일부만 남으면 주기 확인에서 DB 기준으로 재구성
+ * - Redis 값은 문자열 그대로 저장 (JSON 값 직렬화기를 거치지 않음)
+ */
+@Slf4j
+@Service
+public class NoticeViewCountService {
+    
+    private static final String PENDING_KEY = "notice:views:pending";
+    private static final String FLUSHING_KEY = "notice:views:flushing";
+    private static final String FLUSH_ID_KEY = "notice:views:flushing:id";
+    private static final String RANKING_KEY = "notice:views:ranking";
+    private static final String LOCK_KEY = "notice:views:lock";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(1);
+    
+    // 한 번의 UPDATE에 넣을 최대 공지 수
+    private static final int FLUSH_BATCH_SIZE = 500;
+    // 반영 기록 보관 기간 (재시도 판단용, 락 TTL보다 충분히 길게)
+    private static final Duration FLUSH_RECORD_RETENTION = Duration.ofDays(1);
+    // TOP5 후보를 순위에서 몇 개씩 읽을지 (노출 기간이 지난 공지를 건너뛰기 위해 여유 있게)
+    private static final int TOP_CANDIDATE_BATCH = 20;
+    private static final int TOP_CANDIDATE_MAX = 200;
+    
+    // 증가분과 순위를 함께 증가 (둘이 어긋나지 않도록 원자적으로), 반환값은 정수인 증가분
+    // (zincrby는 점수를 실수 문자열로 반환하므로 반환값으로 쓰지 않음)
+    private static final RedisScript<Long> RECORD_VIEW_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('zincrby', KEYS[2], 1, ARGV[1]) " +
+            "return redis.call('hincrby', KEYS[1], ARGV[1], 1)",
+            Long.class);
+    
+    // 반영할 증가분 묶음과 ID 확보: 반영되지 않은 묶음이 있으면 그 ID, 없으면 pending을 떼어내 새 ID 부여
+    private static final RedisScript<String> DETACH_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[2]) == 1 then " +
+            "  local id = redis.call('get', KEYS[3]) " +
+            "  if not id then " +
+            "    redis.call('set', KEYS[3], ARGV[1]) " +
+            "    id = ARGV[1] " +
+            "  end " +
+            "  return id " +
+            "end " +
+            "if redis.call('exists', KEYS[1]) == 0 then return false end " +
+            "redis.call('rename', KEYS[1], KEYS[2]) " +
+            "redis.call('set', KEYS[3], ARGV[1]) " +
+            "return ARGV[1]",
+            String.class);
+    
+    // 반영을 마친 묶음 삭제 (ID가 같을 때만, 그 사이 다른 실행이 떼어낸 새 묶음은 남김)
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[2]) == ARGV[1] then " +
+            "  return redis.call('del', KEYS[1], KEYS[2]) " +
+            "end " +
+            "return 0",
+            Long.class);
+    
+    // 순위 재구성: 점수 = DB 조회수 + 아직 반영되지 않은 증가분
+    private static final RedisScript<Long> SEED_RANKING_SCRIPT = new DefaultRedisScript<>(
+            "for i = 1, #ARGV, 2 do " +
+            "  local score = tonumber(ARGV[i + 1]) " +
+            "    + tonumber(redis.call('hget', KEYS[2], ARGV[i]) or '0') " +
+            "    + tonumber(redis.call('hget', KEYS[3], ARGV[i]) or '0') " +
+            "  redis.call('zadd', KEYS[1], score, ARGV[i]) " +
+            "end " +
+            "return #ARGV / 2",
+            Long.class);
+    
+    private static final RedisSerializer<String> STRING = new StringRedisSerializer();
+    
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisService redisService;
+    private final NoticeMapper noticeMapper;
+    private final CacheManager cacheManager;
+    private final MybatisCacheInvalidator mybatisCacheInvalidator;
+    private final TransactionTemplate transactionTemplate;
+    
+    public NoticeViewCountService(RedisTemplate<String, Object> redisTemplate,
+                                  RedisService redisService,
+                                  NoticeMapper noticeMapper,
+                                  CacheManager cacheManager,
+                                  MybatisCacheInvalidator mybatisCacheInvalidator,
+                                  TransactionTemplate transactionTemplate) {
+        this.redisTemplate = redisTemplate;
+        this.redisService = redisService;
+        this.noticeMapper = noticeMapper;
+        this.cacheManager = cacheManager;
+        this.mybatisCacheInvalidator = mybatisCacheInvalidator;
+        this.transactionTemplate = transactionTemplate;
+    }
+    
+    /**
+     * 조회 1회 기록 (Redis 장애 시 해당 조회는 집계하지 않음)
+     */
+    public void recordView(Long noticeId) {
+        try {
+            redisTemplate.execute(RECORD_VIEW_SCRIPT, STRING, STRING,
+                    List.of(PENDING_KEY, RANKING_KEY), noticeId.toString());
+        } catch (Exception e) {
+            log.warn("공지사항 조회수 기록 실패 - NoticeId: {}, Error: {}", noticeId, e.getMessage());
+        }
+    }
+    
+    /**
+     * 새 공지를 조회수 0으로 순위에 추가 (조회 전에도 TOP5 후보가 되도록)
+     */
+    public void register(Long noticeId) {
+        try {
+            byte[] member = bytes(noticeId.toString());
+            redisTemplate.execute((RedisCallback<Boolean>) connection ->
+                    connection.zSetCommands().zAdd(bytes(RANKING_KEY), 0, member,
+                            ZAddArgs.ifNotExists()));
+        } catch (Exception e) {
+            log.warn("공지사항 조회수 순위 등록 실패 - NoticeId: {}, Error: {}", noticeId, e.getMessage());
+        }
+    }
+    
+    /**
+     * 삭제된 공지의 순위/증가분 제거
+     */
+    public void remove(Long noticeId) {
+        try {
+            byte[] member = bytes(noticeId.toString());
+            redisTemplate.execute((RedisCallback<Object>) connection -> {
+                connection.zSetCommands().zRem(bytes(RANKING_KEY), member);
+                connection.hashCommands().hDel(bytes(PENDING_KEY), member);
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("공지사항 조회수 순위 삭제 실패 - NoticeId: {}, Error: {}", noticeId, e.getMessage());
+        }
+    }
+    
+    /**
+     * 조회수 상위 공지사항 (현재 노출 중인 공지만, 조회수는 Redis의 실시간 값)
+     *
+     * @return 순위를 사용할 수 없으면 null (호출 측에서 DB 조회로 대체)
+     */
+    public List<NoticeResponse> getTopNotices(int limit) {
+        try {
+            List<NoticeResponse> result = new ArrayList<>();
+            for (int start = 0; start < TOP_CANDIDATE_MAX && result.size() < limit; start += TOP_CANDIDATE_BATCH) {
+                Map<Long, Long> ranked = rankedCandidates(start, start + TOP_CANDIDATE_BATCH - 1);
+                if (ranked.isEmpty()) {
+                    if (start == 0) {
+                        // 순위가 아직 구성되지 않음
+                        return null;
+                    }
+                    break;
+                }
+                Map<Long, NoticeResponse> displayable = new HashMap<>();
+                for (NoticeResponse notice : noticeMapper.getDisplayableNoticesByIds(new ArrayList<>(ranked.keySet()))) {
+                    displayable.put(notice.getId(), notice);
+                }
+                for (Map.Entry<Long, Long> entry : ranked.entrySet()) {
+                    NoticeResponse notice = displayable.get(entry.getKey());
+                    if (notice != null && result.size() < limit) {
+                        notice.setViewCount((int) Math.min(entry.getValue(), Integer.MAX_VALUE));
+                        result.add(notice);
+                    }
+                }
+                if (ranked.size() < TOP_CANDIDATE_BATCH) {
+                    break;
+                }
+            }
+            return result;
+        } catch (Exception e) {
+            log.warn("공지사항 조회수 순위 조회 실패, DB 조회로 대체: {}", e.getMessage());
+            return null;
+        }
+    }
+    
+    /**
+     * 누적된 증가분을 DB에 반영
+     * - pending을 flushing으로 이름을 바꿔 떼어낸 뒤 반영하므로 그동안의 조회는 새 pending에 쌓임
+     * - 모든 UPDATE와 묶음 ID 기록을 한 트랜잭션으로 커밋한 뒤 flushing 삭제
+     * - 커밋 후 삭제 전에 중단되거나, 락 TTL을 넘긴 실행과 다음 실행이 겹쳐 같은 묶음을 다시 반영하려 하면
+     *   ID 기록의 기본 키 충돌로 롤백하고 flushing만 정리 (증가분은 정확히 한 번 반영)
+     *
+     * @return 반영한 공지 수
+     */
+    public int flush() {
+        String lockToken = redisService.tryLock(LOCK_KEY, LOCK_TTL);
+        if (lockToken == null) {
+            return 0;
+        }
+        try {
+            String flushId = redisTemplate.execute(DETACH_SCRIPT, STRING, STRING,
+                    List.of(PENDING_KEY, FLUSHING_KEY, FLUSH_ID_KEY), UUID.randomUUID().toString().replace("-", ""));
+            if (flushId == null) {
+                return 0;
+            }
+            
+            List<NoticeViewCount> deltas = readCounts(FLUSHING_KEY);
+            if (!apply(flushId, deltas)) {
+                log.info("이미 반영된 조회수 증가분, 정리만 수행 - FlushId: {}", flushId);
+                releaseFlushing(flushId);
+                return 0;
+            }
+            releaseFlushing(flushId);
+            
+            // 상세 캐시는 조회수가 바뀐 공지만, 목록/건수 캐시는 조회수 표시와 조회수순 정렬 때문에 전체 제거
+            if (!deltas.isEmpty()) {
+                Cache cache = cacheManager.getCache(CacheNames.NOTICE);
+                if (cache != null) {
+                    for (NoticeViewCount delta : deltas) {
+                        cache.evict(delta.getId());
+                    }
+                }
+                mybatisCacheInvalidator.invalidate(NoticeMapper.class);
+            }
+            return deltas.size();
+        } finally {
+            redisService.unlock(LOCK_KEY, lockToken);
+        }
+    }
+    
+    /**
+     * DB 조회수 기준으로 순위 재구성 (서버 시작 시, 누락 확인 시)
+     * - 반영 중인 증가분과 겹치지 않도록 flush와 같은 락 사용
+     * - 새 키에 구성한 뒤 이름을 바꿔 교체 (조회 중에 빈 순위가 보이지 않도록)
+     */
+    public void rebuildRanking() {
+        String lockToken = redisService.tryLock(LOCK_KEY, LOCK_TTL);
+        if (lockToken == null) {
+            return;
+        }
+        try {
+            String buildingKey = RANKING_KEY + ":building";
+            redisTemplate.delete(buildingKey);
+            List<NoticeViewCount> counts = noticeMapper.selectViewCounts();
+            for (int from = 0; from < counts.size(); from += FLUSH_BATCH_SIZE) {
+                List<NoticeViewCount> batch = counts.subList(from, Math.min(from + FLUSH_BATCH_SIZE, counts.size()));
+                Object[] args = new Object[batch.size() * 2];
+                for (int i = 0; i < batch.size(); i++) {
+                    args[i * 2] = batch.get(i).getId().toString();
+                    args[i * 2 + 1] = Long.toString(batch.get(i).getViewCount());
+                }
+                redisTemplate.execute(SEED_RANKING_SCRIPT, STRING, STRING,
+                        List.of(buildingKey, PENDING_KEY, FLUSHING_KEY), args);
+            }
+            if (counts.isEmpty()) {
+                redisTemplate.delete(RANKING_KEY);
+            } else {
+                redisTemplate.rename(buildingKey, RANKING_KEY);
+            }
+            log.info("공지사항 조회수 순위 재구성 완료 - {}개", counts.size());
+        } finally {
+            redisService.unlock(LOCK_KEY, lockToken);
+        }
+    }
+    
+    /**
+     * 순위가 없거나 전체 공지 수보다 적으면 재구성 (주기 실행)
+     * - 순위에는 노출 여부와 관계없이 모든 공지가 등록되므로 전체 공지 수와 비교
+     * - Redis 데이터 유실 후 조회 한 번으로 다시 생긴 일부 순위가 TOP5로 쓰이지 않도록
+     *
+     * @return 재구성했으면 true
+     */
+    public boolean rebuildRankingIfIncomplete() {
+        Long ranked = redisTemplate.execute((RedisCallback<Long>) connection ->
+                connection.zSetCommands().zCard(bytes(RANKING_KEY)));
+        int notices = noticeMapper.countAllNotices();
+        if (ranked != null && ranked >= notices) {
+            return false;
+        }
+        log.warn("공지사항 조회수 순위 누락, 재구성 - 순위: {}개, 공지: {}개", ranked, notices);
+        rebuildRanking();
+        return true;
+    }
+    
+    /**
+     * 증가분 묶음을 한 트랜잭션으로 반영
+     *
+     * @return 이미 반영된 묶음이면 false
+     */
+    private boolean apply(String flushId, List<NoticeViewCount> deltas) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                // 먼저 기록하여 같은 묶음을 반영 중인 다른 실행은 여기서 대기 후 충돌
+                noticeMapper.insertViewFlush(flushId, deltas.size(), now);
+                for (int from = 0; from < deltas.size(); from += FLUSH_BATCH_SIZE) {
+                    noticeMapper.addViewCounts(deltas.subList(from, Math.min(from + FLUSH_BATCH_SIZE, deltas.size())));
+                }
+                noticeMapper.deleteViewFlushesBefore(now.minus(FLUSH_RECORD_RETENTION));
+            });
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+    
+    private void releaseFlushing(String flushId) {
+        redisTemplate.execute(RELEASE_SCRIPT, STRING, STRING, List.of(FLUSHING_KEY, FLUSH_ID_KEY), flushId);
+    }
+    
+    private Map<Long, Long> rankedCandidates(long start, long end) {
+        Set<Tuple> tuples = redisTemplate.execute((RedisCallback<Set<Tuple>>) connection ->
+                connection.zSetCommands().zRevRangeWithScores(bytes(RANKING_KEY), start, end));
+        if (tuples == null) {
+            return Collections.emptyMap();
+        }
+        Map<Long, Long> ranked = new LinkedHashMap<>();
+        for (Tuple tuple : tuples) {
+            ranked.put(Long.valueOf(new String(tuple.getValue(), StandardCharsets.UTF_8)), tuple.getScore().longValue());
+        }
+        return ranked;
+    }
+    
+    private List<NoticeViewCount> readCounts(String key) {
+        Map<byte[], byte[]> entries = redisTemplate.execute((RedisCallback<Map<byte[], byte[]>>) connection ->
+                connection.hashCommands().hGetAll(bytes(key)));
+        List<NoticeViewCount> counts = new ArrayList<>();
+        if (entries != null) {
+            for (Map.Entry<byte[], byte[]> entry : entries.entrySet()) {
+                long delta = Long.parseLong(new String(entry.getValue(), StandardCharsets.UTF_8));
+                if (delta > 0) {
+                    counts.add(new NoticeViewCount(Long.valueOf(new String(entry.getKey(), StandardCharsets.UTF_8)), delta));
+                }
+            }
+        }
+        return counts;
+    }
+    
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -6,17 +6,17 @@ import java.util.List;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.example.admin.domain.Admin;
-import com.example.admin.repository.AdminRepository;
-import com.example.common.service.EmailService;
+import com.example.common.service.SingleFlightService;
 import com.example.context.SessionContext;
-import com.example.support.domain.Qna;
+import com.example.notification.domain.EmailOutbox.EmailType;
+import com.example.notification.dto.QnaAnswerEmailPayload;
+import com.example.notification.service.EmailOutboxService;
 import com.example.support.dto.QnaAnswerRequest;
 import com.example.support.dto.QnaResponse;
 import com.example.support.dto.QnaSearchRequest;
 import com.example.support.dto.QnaSearchResult;
+import com.example.support.dto.SimilarQnaResponse;
 import com.example.support.mapper.QnaMapper;
-import com.example.user.repository.QnaRepository;
 
 import lombok.RequiredArgsConstructor;
 
@@ -24,101 +24,82 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class QnaService {
     
-    private final QnaRepository qnaRepository;
     private final QnaMapper qnaMapper;
-    private final AdminRepository adminRepository;
-    private final EmailService emailService;
+    private final EmailOutboxService emailOutboxService;
+    private final SingleFlightService singleFlightService;
+    private final SearchIndexService searchIndexService;
+    private final SimilarQnaService similarQnaService;
     
     @Transactional(readOnly = true)
     public QnaSearchResult searchAdminQna(QnaSearchRequest request) {
+        // 제목/본문 조건은 검색 색인으로 처리 (색인을 사용할 수 없으면 SQL LIKE 그대로)
+        List<Long> textMatchIds = searchIndexService.searchQnas(request.getTitle(), request.getContent());
+        request.setTextMatchIds(textMatchIds);
+        if (textMatchIds != null && textMatchIds.isEmpty()) {
+            return new QnaSearchResult(List.of(), 0, request.getSize());
+        }
+        
         // 모든 Q&A 조회 (CANCELED 포함)
         List<QnaResponse> list = qnaMapper.selectQnaList(request);
-        int totalCount = qnaMapper.selectQnaCount(request);
+        int totalCount = singleFlightService.execute("QnaService.selectQnaCount",
+                () -> qnaMapper.selectQnaCount(request), request);
         
         return new QnaSearchResult(list, totalCount, request.getSize());
     }
 
+    /**
+     * 답변 등록
+     * - 대기 중인 Q&A만 조건부 UPDATE로 변경한 뒤 작성자/첨부파일/답변자를 포함한 상세를 한 번에 조회
+     */
     @Transactional
     public QnaResponse answerQna(Long qnaId, QnaAnswerRequest request) {
-        Qna qna = qnaRepository.findById(qnaId)
-                .orElseThrow(() -> new RuntimeException("Q&A를 찾을 수 없습니다."));
+        Long answerUserId = SessionContext.getCurrentAdminId();
         
+        int updated = qnaMapper.answerQna(qnaId, request.getAnswerContent(), answerUserId, LocalDateTime.now());
+        QnaResponse answeredQna = qnaMapper.selectQnaById(qnaId);
+        if (answeredQna == null) {
+            throw new RuntimeException("Q&A를 찾을 수 없습니다.");
+        }
         // PENDING 상태가 아니면 답변 불가
-        if (qna.getStatus() != Qna.QnaStatus.PENDING) {
+        if (updated == 0) {
             throw new RuntimeException("이미 답변이 완료된 Q&A입니다.");
         }
         
-        Long answerUserId = SessionContext.getCurrentAdminId();
-        
-        qna.setAnswerContent(request.getAnswerContent());
-        qna.setAnswerUserId(answerUserId);
-        qna.setStatus(Qna.QnaStatus.ANSWERED);
-        qna.setAnsweredAt(LocalDateTime.now());
-        
-        Qna answeredQna = qnaRepository.save(qna);
+        searchIndexService.indexQna(answeredQna.getId(), answeredQna.getTitle(), answeredQna.getContent());
+        similarQnaService.indexQna(answeredQna.getId(), answeredQna.getTitle(), answeredQna.getContent());
         
-        // QNA 답변 이메일 발송
-        try {
-            if (answeredQna.getUser() != null && answeredQna.getUser().getEmail() != null) {
-                emailService.sendQnaAnswerEmail(
-                    answeredQna.getUser().getEmail(),
-                    answeredQna.getUser().getName(),
-                    answeredQna.getTitle(),
-                    answeredQna.getContent(),
-                    answeredQna.getAnswerContent()
-                );
-                System.out.println("QNA 답변 이메일 발송 완료: " + answeredQna.getUser().getEmail());
-            } else {
-                System.out.println("QNA 답변 이메일 발송 건너뜀: 사용자 이메일 정보 없음");
-            }
-        } catch (Exception e) {
-            System.err.println("QNA 답변 이메일 발송 실패: " + e.getMessage());
-            // 이메일 발송 실패해도 답변 등록은 성공으로 처리
+        // QNA 답변 이메일 발송 등록 (같은 트랜잭션에 저장, 실제 발송은 커밋 후 outbox worker)
+        if (answeredQna.getUserEmail() != null) {
+            emailOutboxService.enqueue(EmailType.QNA_ANSWER, answeredQna.getUserEmail(),
+                    new QnaAnswerEmailPayload(
+                        answeredQna.getUserName(),
+                        answeredQna.getTitle(),
+                        answeredQna.getContent(),
+                        answeredQna.getAnswerContent()
+                    ));
+        } else {
+            System.out.println("QNA 답변 이메일 발송 건너뜀: 사용자 이메일 정보 없음");
         }
         
-        return convertToResponse(answeredQna);
+        return answeredQna;
     }
     
-    private QnaResponse convertToResponse(Qna qna) {
-        QnaResponse response = new QnaResponse();
-        response.setId(qna.getId());
-        response.setTitle(qna.getTitle());
-        response.setContent(qna.getContent());
-        response.setStatus(qna.getStatus().name());
-        response.setCreatedAt(qna.getCreatedAt());
-        response.setUpdatedAt(qna.getUpdatedAt());
-        response.setAnsweredAt(qna.getAnsweredAt());
-        response.setAnswerContent(qna.getAnswerContent());
-        
-        if (qna.getUser() != null) {
-            response.setUserId(qna.getUser().getId());
-            response.setUserName(qna.getUser().getName());
-        }
-        
-        if (qna.getFile() != null) {
-            response.setFileId(qna.getFile().getId());
-            response.setFileName(qna.getFile().getOriginalName());
-        }
-        
-        if (qna.getAnswerUserId() != null) {
-            response.setAnswerUserId(qna.getAnswerUserId());
-            Admin answerUser = adminRepository.findById(qna.getAnswerUserId())
-                    .orElseThrow(() -> new RuntimeException("답변자를 찾을 수 없습니다."));
-            response.setAnswerUserName(answerUser.getName());
-        }
-        
-        return response;
+    @Transactional(readOnly = true)
+    public QnaResponse getQnaById(Long qnaId) {
+        return qnaMapper.selectQnaById(qnaId);
     }
     
+    /**
+     * 답변 완료된 Q&A 중 질문이 비슷한 것 (답변 재사용 참고용)
+     *
+     * @return Q&A가 없으면 null
+     */
     @Transactional(readOnly = true)
-    public QnaResponse getQnaById(Long qnaId) {
-        Qna qna = qnaRepository.findById(qnaId)
-                .orElse(null);
-        
+    public List<SimilarQnaResponse> getSimilarQnas(Long qnaId, int limit) {
+        QnaResponse qna = qnaMapper.selectQnaById(qnaId);
         if (qna == null) {
             return null;
         }
-        
-        return convertToResponse(qna);
+        return similarQnaService.findSimilar(qna.getId(), qna.getTitle(), qna.getContent(), limit);
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,150 @@
+package com.example.support.service;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+
+import com.example.common.search.TextIndex;
+import com.example.common.util.TransactionUtils;
+import com.example.support.dto.SearchIndexRow;
+import com.example.support.mapper.NoticeMapper;
+import com.example.support.mapper.QnaMapper;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 공지사항/Q&A 제목·본문 검색 색인
+ * - 서버 시작 시 백그라운드에서 DB 전체로 구성, 완료 전이나 구성 실패 시에는 검색이 SQL LIKE로 동작
+ * - 이 노드의 등록/수정/삭제는 커밋 후 바로 반영
+ * - 다른 노드/사용자 서비스의 변경은 updated_at 기준 변경분 동기화로 반영 (주기 실행)
+ * - 삭제 표시가 쌓이면 다시 구성
+ */
+@Slf4j
+@Service
+public class SearchIndexService {
+    
+    private final TaskExecutor searchIndexExecutor;
+    
+    private final SyncedIndex<TextIndex> notices;
+    private final SyncedIndex<TextIndex> qnas;
+    
+    // 후보 건수가 이보다 많으면 색인 대신 SQL LIKE 사용 (IN 목록이 과도하게 길어지지 않도록)
+    @Value("${search.index.max-candidates:5000}")
+    private int maxCandidates;
+    
+    public SearchIndexService(NoticeMapper noticeMapper,
+                              QnaMapper qnaMapper,
+                              @Qualifier("searchIndexExecutor") TaskExecutor searchIndexExecutor,
+                              MeterRegistry meterRegistry) {
+        this.searchIndexExecutor = searchIndexExecutor;
+        this.notices = textIndex("notice", noticeMapper::selectNoticeIndexRows, noticeMapper::selectNoticeIndexRowsChangedSince);
+        this.qnas = textIndex("qna", qnaMapper::selectQnaIndexRows, qnaMapper::selectQnaIndexRowsChangedSince);
+        for (SyncedIndex<TextIndex> holder : List.of(notices, qnas)) {
+            Gauge.builder("search.index.documents", holder, SyncedIndex::documentCount)
+                    .description("검색 색인 문서 수")
+                    .tag("index", holder.name())
+                    .register(meterRegistry);
+        }
+    }
+    
+    /**
+     * 공지사항 제목/본문 검색
+     *
+     * @return 후보 ID (관련도 순, 실제 포함 여부는 SQL LIKE로 확인), 색인을 사용할 수 없으면 null
+     */
+    public List<Long> searchNotices(String title, String content) {
+        return search(notices, title, content);
+    }
+    
+    /**
+     * Q&A 제목/본문 검색
+     *
+     * @return 후보 ID (관련도 순, 실제 포함 여부는 SQL LIKE로 확인), 색인을 사용할 수 없으면 null
+     */
+    public List<Long> searchQnas(String title, String content) {
+        return search(qnas, title, content);
+    }
+    
+    public void indexNotice(Long id, String title, String content) {
+        TransactionUtils.afterCommit(() -> notices.ifReady(index -> index.put(id, title, content)));
+    }
+    
+    public void removeNotice(Long id) {
+        TransactionUtils.afterCommit(() -> notices.ifReady(index -> index.remove(id)));
+    }
+    
+    public void indexQna(Long id, String title, String content) {
+        TransactionUtils.afterCommit(() -> qnas.ifReady(index -> index.put(id, title, content)));
+    }
+    
+    /**
+     * 전체 재구성 요청 (서버 시작 시)
+     */
+    public void rebuildAsync() {
+        submit(() -> {
+            notices.rebuild();
+            qnas.rebuild();
+        });
+    }
+    
+    /**
+     * 변경분 동기화 요청 (주기 실행), 삭제 표시가 많으면 재구성
+     */
+    public void syncAsync() {
+        submit(() -> {
+            syncOrRebuild(notices);
+            syncOrRebuild(qnas);
+        });
+    }
+    
+    private static SyncedIndex<TextIndex> textIndex(String name, SyncedIndex.PageLoader pageLoader,
+                                                    SyncedIndex.ChangedLoader changedLoader) {
+        return new SyncedIndex<>(name, TextIndex::new, pageLoader, changedLoader,
+                (index, row) -> index.put(row.getId(), row.getTitle(), row.getContent()), TextIndex::size);
+    }
+    
+    private static void syncOrRebuild(SyncedIndex<TextIndex> holder) {
+        TextIndex current = holder.current();
+        if (current != null && current.deletedCount() > Math.max(1000, current.size())) {
+            holder.rebuild();
+        } else {
+            holder.sync();
+        }
+    }
+    
+    private List<Long> search(SyncedIndex<TextIndex> holder, String title, String content) {
+        boolean hasTitle = title != null && !title.isBlank();
+        boolean hasContent = content != null && !content.isBlank();
+        TextIndex index = holder.current();
+        if ((!hasTitle && !hasContent) || index == null) {
+            return null;
+        }
+        try {
+            List<Long> ids = index.search(hasTitle ? title : null, hasContent ? content : null);
+            return ids != null && ids.size() <= maxCandidates ? ids : null;
+        } catch (Exception e) {
+            log.warn("검색 색인 조회 실패, SQL 검색으로 대체 - Index: {}, Error: {}", holder.name(), e.getMessage());
+            return null;
+        }
+    }
+    
+    private void submit(Runnable task) {
+        try {
+            searchIndexExecutor.execute(() -> {
+                try {
+                    task.run();
+                } catch (Exception e) {
+                    log.error("검색 색인 갱신 실패: {}", e.getMessage(), e);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            log.debug("검색 색인 작업이 이미 대기 중");
+        }
+    }
+}
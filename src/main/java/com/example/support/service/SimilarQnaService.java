@@ -0,0 +1,101 @@
+package com.example.support.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+
+import com.example.common.search.MinHashLshIndex;
+import com.example.common.util.TransactionUtils;
+import com.example.support.dto.SimilarQnaResponse;
+import com.example.support.mapper.QnaMapper;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 답변 완료된 Q&A의 유사 질문 색인 (MinHash/LSH, 질문 = 제목 + 본문)
+ * - 서버 시작 시 백그라운드에서 DB로 구성, 구성 전에는 빈 결과
+ * - 이 노드의 답변 등록은 커밋 후 바로 반영, 다른 노드의 답변은 updated_at 기준 변경분 동기화로 반영
+ * - 조회는 색인의 후보만 비교하고, 결과 Q&A의 답변 내용만 ID로 조회 (테이블 스캔 없음)
+ */
+@Slf4j
+@Service
+public class SimilarQnaService {
+
+    public static final int MAX_LIMIT = 20;
+
+    private final QnaMapper qnaMapper;
+    private final SyncedIndex<MinHashLshIndex> index;
+
+    public SimilarQnaService(QnaMapper qnaMapper, MeterRegistry meterRegistry) {
+        this.qnaMapper = qnaMapper;
+        this.index = new SyncedIndex<>("qna-similarity", MinHashLshIndex::new,
+                qnaMapper::selectAnsweredQnaIndexRows, qnaMapper::selectAnsweredQnaIndexRowsChangedSince,
+                (current, row) -> current.put(row.getId(), questionText(row.getTitle(), row.getContent())),
+                MinHashLshIndex::size);
+        Gauge.builder("search.index.documents", index, SyncedIndex::documentCount)
+                .description("검색 색인 문서 수")
+                .tag("index", "qna-similarity")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 유사한 답변 완료 질문 (유사도 내림차순)
+     */
+    public List<SimilarQnaResponse> findSimilar(Long qnaId, String title, String content, int limit) {
+        MinHashLshIndex current = index.current();
+        if (current == null) {
+            log.debug("유사 질문 색인 구성 전 - QnaId: {}", qnaId);
+            return List.of();
+        }
+        List<MinHashLshIndex.Match> matches = current.similar(questionText(title, content),
+                Math.min(Math.max(limit, 1), MAX_LIMIT), qnaId);
+        if (matches.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, SimilarQnaResponse> rows = qnaMapper.selectSimilarQnas(
+                        matches.stream().map(MinHashLshIndex.Match::getId).toList())
+                .stream()
+                .collect(Collectors.toMap(SimilarQnaResponse::getId, Function.identity()));
+        List<SimilarQnaResponse> result = new ArrayList<>(matches.size());
+        for (MinHashLshIndex.Match match : matches) {
+            SimilarQnaResponse row = rows.get(match.getId());
+            // 색인 반영 후 삭제된 Q&A는 제외
+            if (row != null) {
+                row.setSimilarity(match.getSimilarity());
+                result.add(row);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 답변 등록 후 색인 반영 (커밋 후)
+     */
+    public void indexQna(Long id, String title, String content) {
+        TransactionUtils.afterCommit(() -> index.ifReady(current -> current.put(id, questionText(title, content))));
+    }
+
+    /**
+     * 새 색인을 만든 뒤 교체 (구성 중에는 이전 색인으로 조회/동기화)
+     */
+    public void rebuild() {
+        index.rebuild();
+    }
+
+    /**
+     * 변경분 동기화 (주기 실행)
+     */
+    public void sync() {
+        index.sync();
+    }
+
+    private static String questionText(String title, String content) {
+        return (title != null ? title : "") + " " + (content != null ? content : "");
+    }
+}
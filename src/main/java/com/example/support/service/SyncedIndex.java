@@ -0,0 +1,158 @@
+package com.example.support.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+import com.example.support.dto.SearchIndexRow;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * DB로 구성하고 updated_at 기준 변경분으로 갱신하는 메모리 색인 (검색 색인, 유사 질문 색인 공용)
+ * - rebuild: 새 색인을 DB 전체로 만든 뒤 교체, 구성 중에도 이전 색인으로 조회/반영/동기화 계속
+ * - sync: 마지막 updated_at 이후 변경분 반영 (다른 노드/서비스의 변경)
+ * - 구성 중 이 노드에서 이전 색인에 반영한 변경은 교체 후 변경분 동기화에서 다시 반영됨
+ * - 색인 자체는 동시 조회/갱신에 안전해야 함
+ */
+@Slf4j
+final class SyncedIndex<I> {
+
+    private static final int REBUILD_PAGE_SIZE = 1000;
+    // 노드 간 시계 차이와 커밋 지연을 고려하여 마지막 updated_at보다 조금 앞에서부터 다시 읽음
+    private static final long SYNC_OVERLAP_SECONDS = 60;
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    @FunctionalInterface
+    interface PageLoader {
+        List<SearchIndexRow> load(long afterId, int limit);
+    }
+
+    @FunctionalInterface
+    interface ChangedLoader {
+        List<SearchIndexRow> load(LocalDateTime since, long afterId);
+    }
+
+    @FunctionalInterface
+    interface Indexer<I> {
+        void put(I index, SearchIndexRow row);
+    }
+
+    private final String name;
+    private final Supplier<I> factory;
+    private final PageLoader pageLoader;
+    private final ChangedLoader changedLoader;
+    private final Indexer<I> indexer;
+    private final ToIntFunction<I> sizeOf;
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    // 동기화 위치와 색인 교체를 함께 보호 (구성 자체는 잠그지 않음)
+    private final Object syncLock = new Object();
+    private volatile I index;
+    private LocalDateTime lastUpdatedAt;
+    private long lastId;
+
+    SyncedIndex(String name, Supplier<I> factory, PageLoader pageLoader, ChangedLoader changedLoader,
+                Indexer<I> indexer, ToIntFunction<I> sizeOf) {
+        this.name = name;
+        this.factory = factory;
+        this.pageLoader = pageLoader;
+        this.changedLoader = changedLoader;
+        this.indexer = indexer;
+        this.sizeOf = sizeOf;
+    }
+
+    String name() {
+        return name;
+    }
+
+    /**
+     * 현재 색인 (구성 전이면 null)
+     */
+    I current() {
+        return index;
+    }
+
+    /**
+     * 색인이 구성되어 있으면 반영 (구성 전이면 무시, 구성 후 DB에서 읽음)
+     */
+    void ifReady(Consumer<I> action) {
+        I current = index;
+        if (current != null) {
+            action.accept(current);
+        }
+    }
+
+    double documentCount() {
+        I current = index;
+        return current != null ? sizeOf.applyAsInt(current) : 0;
+    }
+
+    /**
+     * 새 색인을 만든 뒤 교체하고 변경분 동기화
+     *
+     * @return 다른 재구성이 진행 중이어서 건너뛰면 false
+     */
+    boolean rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            log.debug("색인 재구성이 이미 진행 중 - Index: {}", name);
+            return false;
+        }
+        try {
+            long startNanos = System.nanoTime();
+            I rebuilt = factory.get();
+            LocalDateTime maxUpdatedAt = null;
+            long maxId = 0;
+            while (true) {
+                List<SearchIndexRow> rows = pageLoader.load(maxId, REBUILD_PAGE_SIZE);
+                for (SearchIndexRow row : rows) {
+                    indexer.put(rebuilt, row);
+                    maxId = Math.max(maxId, row.getId());
+                    maxUpdatedAt = later(maxUpdatedAt, row.getUpdatedAt());
+                }
+                if (rows.size() < REBUILD_PAGE_SIZE) {
+                    break;
+                }
+            }
+            synchronized (syncLock) {
+                index = rebuilt;
+                lastId = maxId;
+                lastUpdatedAt = maxUpdatedAt;
+            }
+            log.info("색인 구성 완료 - Index: {}, 문서: {}개, {}ms",
+                    name, sizeOf.applyAsInt(rebuilt), (System.nanoTime() - startNanos) / 1_000_000);
+        } finally {
+            rebuilding.set(false);
+        }
+        sync();
+        return true;
+    }
+
+    /**
+     * 변경분 동기화 (구성 전이면 무시)
+     */
+    void sync() {
+        synchronized (syncLock) {
+            I current = index;
+            if (current == null) {
+                return;
+            }
+            LocalDateTime since = lastUpdatedAt != null ? lastUpdatedAt.minusSeconds(SYNC_OVERLAP_SECONDS) : EPOCH;
+            for (SearchIndexRow row : changedLoader.load(since, lastId)) {
+                indexer.put(current, row);
+                lastId = Math.max(lastId, row.getId());
+                lastUpdatedAt = later(lastUpdatedAt, row.getUpdatedAt());
+            }
+        }
+    }
+
+    private static LocalDateTime later(LocalDateTime a, LocalDateTime b) {
+        if (a == null) {
+            return b;
+        }
+        return b != null && b.isAfter(a) ? b : a;
+    }
+}
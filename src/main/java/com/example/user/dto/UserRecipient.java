@@ -0,0 +1,9 @@
+package com.example.user.dto;
+
+/**
+ * 메일 수신자 (사용자 ID, 이메일만 조회하는 projection)
+ */
+public interface UserRecipient {
+    Long getId();
+    String getEmail();
+}
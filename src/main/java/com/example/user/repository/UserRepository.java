@@ -1,12 +1,24 @@
 package com.example.user.repository;
 
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.example.user.domain.User;
+import com.example.user.dto.UserRecipient;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByEmail(String email);
     User findByEmail(String email);
+    
+    /**
+     * 활성 사용자 메일 수신자 목록 (ID 순 keyset 페이지, 공지 전체 발송용)
+     */
+    @Query("SELECT u.id AS id, u.email AS email FROM User u WHERE u.id > :afterId AND u.status = 'ACTIVE' ORDER BY u.id")
+    List<UserRecipient> findActiveRecipients(@Param("afterId") Long afterId, Pageable pageable);
 } 
\ No newline at end of file
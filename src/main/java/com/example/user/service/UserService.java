@@ -5,6 +5,7 @@ import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import com.example.common.aop.SingleFlight;
 import com.example.user.dto.UserResponse;
 import com.example.user.dto.UserSearchRequest;
 import com.example.user.mapper.UserMapper;
@@ -20,6 +21,7 @@ public class UserService {
         return userMapper.searchUsers(searchRequest);
     }
     
+    @SingleFlight
     public int getUserCount(UserSearchRequest searchRequest) {
         return userMapper.getUserCount(searchRequest);
     }
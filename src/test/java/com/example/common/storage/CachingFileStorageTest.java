@@ -0,0 +1,57 @@
+package com.example.common.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 노드별 로컬 캐시와 공유 원격 저장소의 일관성 확인
+ * - 원격 저장소는 LocalFileStorage로 대체, 다른 노드의 쓰기/삭제는 원격에 직접 반영해 재현
+ */
+class CachingFileStorageTest {
+
+    private static final String KEY = "blobs/ab/cd/abcd";
+
+    @TempDir
+    Path tempDir;
+
+    private LocalFileStorage remote;
+    private CachingFileStorage node;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        remote = new LocalFileStorage(tempDir.resolve("remote"));
+        node = new CachingFileStorage(remote, tempDir.resolve("cache"), 1024 * 1024, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void existsChecksRemoteEvenWhenCachedLocally() throws Exception {
+        remote.put(KEY, source("content"));
+        assertThat(node.getLocalPath(KEY)).isNotNull();
+
+        // 다른 노드가 원격에서 삭제 (이 노드 캐시에는 사본이 남음)
+        remote.delete(KEY);
+
+        assertThat(node.exists(KEY)).isFalse();
+    }
+
+    @Test
+    void cachedPathsAreNotStableForSendfile() {
+        assertThat(node.isPathStable()).isFalse();
+        assertThat(new LocalFileStorage(tempDir.resolve("local")).isPathStable()).isTrue();
+    }
+
+    private Path source(String content) throws Exception {
+        Path source = Files.createTempFile(tempDir, "upload-", ".tmp");
+        Files.writeString(source, content, StandardCharsets.UTF_8);
+        return source;
+    }
+}
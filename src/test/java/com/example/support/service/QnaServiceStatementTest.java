@@ -0,0 +1,190 @@
+package com.example.support.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.SqlSessionFactoryBean;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import com.example.common.service.SingleFlightService;
+import com.example.context.SessionContext;
+import com.example.notification.domain.EmailOutbox.EmailType;
+import com.example.notification.service.EmailOutboxService;
+import com.example.support.dto.QnaAnswerRequest;
+import com.example.support.dto.QnaResponse;
+import com.example.support.mapper.QnaMapper;
+
+/**
+ * Q&A 상세 조회/답변 등록이 실행하는 SQL 확인
+ * - H2(MySQL 모드)에 QnaMapper.xml만 올리고 MyBatis Executor 플러그인으로 실행된 문장을 기록
+ */
+class QnaServiceStatementTest {
+
+    private static final String QNA_MAPPER = QnaMapper.class.getName() + ".";
+    private static final long QNA_ID = 1L;
+    private static final long ADMIN_ID = 10L;
+
+    private final StatementRecorder recorder = new StatementRecorder();
+    private final EmailOutboxService emailOutboxService = mock(EmailOutboxService.class);
+
+    private JdbcTemplate jdbcTemplate;
+    private QnaService qnaService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:qna-" + UUID.randomUUID() + ";MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE user (id BIGINT PRIMARY KEY, name VARCHAR(100), email VARCHAR(255))");
+        jdbcTemplate.execute("CREATE TABLE admin (id BIGINT PRIMARY KEY, name VARCHAR(100))");
+        jdbcTemplate.execute("CREATE TABLE file (id BIGINT PRIMARY KEY, original_name VARCHAR(255), file_size BIGINT)");
+        jdbcTemplate.execute("CREATE TABLE qna (id BIGINT PRIMARY KEY, user_id BIGINT, file_id BIGINT,"
+                + " title VARCHAR(200), content TEXT, status VARCHAR(20), answer_content TEXT,"
+                + " answer_user_id BIGINT, answered_at TIMESTAMP, created_at TIMESTAMP, updated_at TIMESTAMP)");
+        jdbcTemplate.update("INSERT INTO user (id, name, email) VALUES (100, '홍길동', 'user@example.com')");
+        jdbcTemplate.update("INSERT INTO admin (id, name) VALUES (?, '관리자')", ADMIN_ID);
+        jdbcTemplate.update("INSERT INTO file (id, original_name, file_size) VALUES (200, 'capture.png', 1024)");
+        jdbcTemplate.update("INSERT INTO qna (id, user_id, file_id, title, content, status, created_at, updated_at)"
+                + " VALUES (?, 100, 200, '송금 지연 문의', '송금이 아직 도착하지 않았습니다.', 'PENDING',"
+                + " CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", QNA_ID);
+
+        org.apache.ibatis.session.Configuration configuration = new org.apache.ibatis.session.Configuration();
+        configuration.setMapUnderscoreToCamelCase(true);
+        configuration.setCallSettersOnNulls(true);
+
+        SqlSessionFactoryBean factoryBean = new SqlSessionFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setConfiguration(configuration);
+        factoryBean.setTypeAliasesPackage("com.example.support.dto");
+        factoryBean.setMapperLocations(new ClassPathResource("mapper/QnaMapper.xml"));
+        factoryBean.setPlugins(recorder);
+        SqlSessionFactory sqlSessionFactory = factoryBean.getObject();
+        QnaMapper qnaMapper = new SqlSessionTemplate(sqlSessionFactory).getMapper(QnaMapper.class);
+
+        qnaService = new QnaService(qnaMapper, emailOutboxService, mock(SingleFlightService.class),
+                mock(SearchIndexService.class), mock(SimilarQnaService.class));
+
+        SessionContext context = new SessionContext();
+        context.setAdminId(ADMIN_ID);
+        SessionContext.setContext(context);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SessionContext.clear();
+        jdbcTemplate.execute("SHUTDOWN");
+    }
+
+    @Test
+    void getQnaByIdIssuesSingleJoinedSelect() {
+        QnaResponse qna = qnaService.getQnaById(QNA_ID);
+
+        assertThat(recorder.statements()).containsExactly("SELECT " + QNA_MAPPER + "selectQnaById");
+        assertThat(qna.getUserName()).isEqualTo("홍길동");
+        assertThat(qna.getUserEmail()).isEqualTo("user@example.com");
+        assertThat(qna.getFileName()).isEqualTo("capture.png");
+        assertThat(qna.getFileSize()).isEqualTo(1024L);
+        assertThat(qna.getAnswerUserName()).isNull();
+    }
+
+    @Test
+    void answerQnaIssuesConditionalUpdateThenSingleSelect() {
+        QnaResponse answered = qnaService.answerQna(QNA_ID, answerRequest("확인 후 재송금 처리했습니다."));
+
+        assertThat(recorder.statements()).containsExactly(
+                "UPDATE " + QNA_MAPPER + "answerQna",
+                "SELECT " + QNA_MAPPER + "selectQnaById");
+        assertThat(recorder.sqls().get(0)).containsPattern("status\\s*=\\s*'PENDING'");
+        assertThat(answered.getStatus()).isEqualTo("ANSWERED");
+        assertThat(answered.getAnswerUserName()).isEqualTo("관리자");
+        assertThat(answered.getUserName()).isEqualTo("홍길동");
+        verify(emailOutboxService).enqueue(eq(EmailType.QNA_ANSWER), eq("user@example.com"), any());
+    }
+
+    @Test
+    void secondAnswerIsRejectedWithoutOverwriting() {
+        qnaService.answerQna(QNA_ID, answerRequest("첫 번째 답변"));
+        recorder.reset();
+
+        assertThatThrownBy(() -> qnaService.answerQna(QNA_ID, answerRequest("두 번째 답변")))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("이미 답변이 완료된 Q&A입니다.");
+
+        assertThat(recorder.statements()).containsExactly(
+                "UPDATE " + QNA_MAPPER + "answerQna",
+                "SELECT " + QNA_MAPPER + "selectQnaById");
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT status, answer_content FROM qna WHERE id = ?", QNA_ID);
+        assertThat(row.get("STATUS")).isEqualTo("ANSWERED");
+        assertThat(row.get("ANSWER_CONTENT")).isEqualTo("첫 번째 답변");
+        verify(emailOutboxService, times(1)).enqueue(any(), any(), any());
+    }
+
+    private static QnaAnswerRequest answerRequest(String answerContent) {
+        QnaAnswerRequest request = new QnaAnswerRequest();
+        request.setAnswerContent(answerContent);
+        return request;
+    }
+
+    /**
+     * 실행된 mapped statement를 "명령 종류 + statement id" 형태로 기록
+     */
+    @Intercepts({
+            @Signature(type = Executor.class, method = "update",
+                    args = {MappedStatement.class, Object.class}),
+            @Signature(type = Executor.class, method = "query",
+                    args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class})
+    })
+    static class StatementRecorder implements Interceptor {
+
+        private final List<String> statements = new ArrayList<>();
+        private final List<String> sqls = new ArrayList<>();
+
+        @Override
+        public Object intercept(Invocation invocation) throws Throwable {
+            MappedStatement mappedStatement = (MappedStatement) invocation.getArgs()[0];
+            Object parameter = invocation.getArgs()[1];
+            statements.add(mappedStatement.getSqlCommandType() + " " + mappedStatement.getId());
+            sqls.add(mappedStatement.getBoundSql(parameter).getSql());
+            return invocation.proceed();
+        }
+
+        List<String> statements() {
+            return statements;
+        }
+
+        List<String> sqls() {
+            return sqls;
+        }
+
+        void reset() {
+            statements.clear();
+            sqls.clear();
+        }
+    }
+}